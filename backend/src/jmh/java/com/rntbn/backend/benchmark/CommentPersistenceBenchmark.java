@@ -0,0 +1,97 @@
+package com.rntbn.backend.benchmark;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.entity.Comment;
+import com.rntbn.backend.entity.User;
+import com.rntbn.backend.repository.CommentRepository;
+import com.rntbn.backend.repository.UserRepository;
+import com.rntbn.backend.service.CommentWriteBehind;
+import com.rntbn.backend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 초당 저장되는 댓글 수: 행마다 save (트랜잭션 1개 + INSERT 1번) vs write-behind 배치 저장
+// 한 번의 호출에서 COMMENTS 개를 저장하고 모두 커밋될 때까지 기다린다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentPersistenceBenchmark {
+
+    private static final int COMMENTS = 500;
+
+    private ConfigurableApplicationContext context;
+    private CommentRepository commentRepository;
+    private UserRepository userRepository;
+    private CommentWriteBehind commentWriteBehind;
+    private Long userId;
+
+    @Setup
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "tbn.prefetch.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        commentRepository = context.getBean(CommentRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        commentWriteBehind = context.getBean(CommentWriteBehind.class);
+        User user = context.getBean(UserService.class)
+                .createOrUpdateSocialUser("writer@example.com", "작성자", null, "google", "writer");
+        userId = user.getId();
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS)
+    public void perRowSave() {
+        for (int i = 0; i < COMMENTS; i++) {
+            Comment comment = new Comment();
+            comment.setRegionCode("2");
+            comment.setContent("댓글 " + i);
+            comment.setUser(userRepository.getReferenceById(userId));
+            commentRepository.save(comment);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS)
+    public void writeBehind() {
+        long target = commentWriteBehind.stats().get("persisted") + COMMENTS;
+        for (int i = 0; i < COMMENTS; i++) {
+            while (!commentWriteBehind.submit("2", userId, "작성자", "댓글 " + i, LocalDateTime.now())) {
+                Thread.onSpinWait();
+            }
+        }
+        while (commentWriteBehind.stats().get("persisted") < target) {
+            LockSupport.parkNanos(50_000);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.rntbn.backend.benchmark;
+
+import com.rntbn.backend.service.HotPathMetrics;
+import com.rntbn.backend.service.JwtService;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT 발급 / 이메일 추출 / 검증 (반복 호출자는 검증 캐시에 걸린다)
+// registry=noop 과 prometheus 를 비교하면 검증 시간 지표(auth.jwt.verify)의 비용이 나온다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET =
+            "this-is-a-very-very-long-and-secure-secret-key-for-hs512-algorithm-1234567890!@#$%^&*()_+=-qwerty";
+
+    // noop: 하위 레지스트리가 없는 CompositeMeterRegistry (기록하지 않음)
+    @Param({"noop", "prometheus"})
+    private String registry;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "metrics", new HotPathMetrics(registry.equals("prometheus")
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new CompositeMeterRegistry()));
+        jwtService.init();
+        token = jwtService.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtService.extractEmail(token);
+    }
+
+    // 캐시 히트 경로를 여러 스레드가 동시에 탈 때 (전역 락이 있으면 여기서 드러난다)
+    @Benchmark
+    @Threads(8)
+    public String extractEmailContended() {
+        return jwtService.extractEmail(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+}
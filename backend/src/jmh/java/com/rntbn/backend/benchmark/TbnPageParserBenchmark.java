@@ -0,0 +1,59 @@
+package com.rntbn.backend.benchmark;
+
+import com.rntbn.backend.service.TbnPageParser;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// onair 페이지 파싱: 스트리밍 빠른 경로 vs 전체 Jsoup DOM
+// 샘플 페이지는 src/jmh/resources/tbn 에 있다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TbnPageParserBenchmark {
+
+    private static final String BASE_URI = "https://www.tbn.or.kr/onair/tbnlive.tbn";
+
+    @Param({"onair-2.html", "onair-6.html", "onair-fallback.html"})
+    public String page;
+
+    private String html;
+
+    @Setup
+    public void load() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/tbn/" + page)) {
+            if (in == null) {
+                throw new IllegalStateException("샘플 페이지 없음: " + page);
+            }
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public TbnPageParser.OnAir streaming() throws IOException {
+        return TbnPageParser.parse(new StringReader(html), BASE_URI);
+    }
+
+    @Benchmark
+    public TbnPageParser.OnAir jsoupDom() {
+        return TbnPageParser.parseDocument(Jsoup.parse(html, BASE_URI));
+    }
+}
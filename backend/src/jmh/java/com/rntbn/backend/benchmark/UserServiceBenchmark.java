@@ -0,0 +1,68 @@
+package com.rntbn.backend.benchmark;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.entity.User;
+import com.rntbn.backend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 소셜 로그인 사용자 생성/갱신 (임베디드 H2, 웹 서버 없이 스프링 컨텍스트만 띄움)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "tbn.prefetch.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        userService = context.getBean(UserService.class);
+        userService.createOrUpdateSocialUser("existing@example.com", "기존 사용자", null, "google", "existing");
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public User createNewUser() {
+        long n = sequence.incrementAndGet();
+        return userService.createOrUpdateSocialUser("user" + n + "@example.com", "사용자" + n, null, "google",
+                "new-" + n);
+    }
+
+    @Benchmark
+    public User updateExistingUser() {
+        return userService.createOrUpdateSocialUser("existing@example.com", "기존 사용자", null, "google", "existing");
+    }
+}
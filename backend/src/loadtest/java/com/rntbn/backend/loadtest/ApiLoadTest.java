@@ -0,0 +1,477 @@
+package com.rntbn.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 앱 API 혼합 부하. 서버를 같은 프로세스에서 로컬 스텁(tbn.or.kr onair 페이지, Google JWKS)에 붙여 띄우고
+// 요청 종류별 비율(mix)대로 보내 종류별 p50/p95/p99, 처리량, 상태 코드를 보고한다.
+//   broadcast      GET /api/tbn/broadcast/{regionCode} (지역은 무작위)
+//   broadcast-all  GET /api/tbn/broadcast
+//   login          POST /api/auth/google (스텁 키로 서명한 ID 토큰)
+//   profile        GET /api/auth/profile
+//   nickname       PUT /api/auth/profile/nickname
+// 사용자는 users 명을 미리 로그인시켜 두고 무작위로 고른다.
+// - model=open: 응답과 관계없이 rate 로 도착시킨다. 지연은 예정 도착 시각부터 재므로 서버가 밀리면 그대로 드러난다.
+//   동시 요청이 max-in-flight 를 넘으면 보내지 않고 dropped 로 센다
+// - model=closed: clients 명이 응답을 받는 즉시 다음 요청을 보낸다
+// 결과는 out(기본 target/loadtest/api-<시각>.json)에 커밋과 함께 저장하고, baseline=<이전 결과 파일> 을 주면 비교를 출력한다.
+// 서버의 System.out 로그는 측정 중에 버린다 (quiet=false 면 그대로 출력).
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=ApiLoadTest \
+//       -Dloadtest.args="model=open rate=500 duration=60 warmup=10 mix=broadcast:60,broadcast-all:5,profile:25,login:5,nickname:5"
+public class ApiLoadTest {
+
+    private static final String DEFAULT_MIX = "broadcast:60,broadcast-all:5,profile:25,login:5,nickname:5";
+    private static final String[] OPERATIONS = {"broadcast", "broadcast-all", "login", "profile", "nickname"};
+    // 비교할 때 같아야 하는 부하 조건
+    private static final String[] WORKLOAD_FIELDS = {"model", "rate", "clients", "mix", "users",
+            "upstreamLatencyMillis", "tomcatThreads"};
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        String model = args.get("model", "open");
+        double rate = args.getDouble("rate", 200);
+        int clients = args.getInt("clients", 50);
+        int maxInFlight = args.getInt("max-in-flight", 2000);
+        int duration = args.getInt("duration", 30);
+        int warmup = args.getInt("warmup", 10);
+        int users = args.getInt("users", 200);
+        int stubLatency = args.getInt("upstream-latency-ms", 0);
+        int tomcatThreads = args.getInt("tomcat-threads", 200);
+        boolean quiet = Boolean.parseBoolean(args.get("quiet", "true"));
+        String baseline = args.get("baseline", null);
+        String out = args.get("out", "target/loadtest/api-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Mix mix = Mix.parse(args.get("mix", DEFAULT_MIX));
+        if (!model.equals("open") && !model.equals("closed")) {
+            throw new IllegalArgumentException("model 은 open 또는 closed: " + model);
+        }
+
+        TbnStubServer stub = new TbnStubServer(0);
+        stub.setLatencyMillis(stubLatency);
+        stub.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:apiload;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--google.oauth.certs-url=" + stub.certsUrl(),
+                        "--tbn.upstream.onair-url=" + stub.onAirUrl(),
+                        "--tbn.prefetch.jitter-seconds=0",
+                        // 실제 스트림 서버로 나가는 프로브는 끈다
+                        "--tbn.probe.enabled=false");
+        String base = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        String clientId = context.getEnvironment().getProperty("google.client-id");
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        PrintStream console = System.out;
+        if (quiet) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        // 지역 목록과 사용자 (ID 토큰은 미리 서명, JWT 는 한 번씩 로그인해 받아 둔다)
+        JsonNode regionNode = objectMapper.readTree(get(client, base + "/api/tbn/regions"));
+        List<String> regions = new ArrayList<>();
+        regionNode.fieldNames().forEachRemaining(regions::add);
+        Workload workload = new Workload(base, mix, regions, users);
+        for (int i = 0; i < users; i++) {
+            String idToken = stub.signIdToken(clientId, "load" + i + "@example.com", "load" + i);
+            HttpResponse<String> login = client.send(workload.login(idToken), HttpResponse.BodyHandlers.ofString());
+            if (login.statusCode() != 200) {
+                throw new IllegalStateException("사용자 준비 실패: " + login.statusCode() + " " + login.body());
+            }
+            workload.idTokens[i] = idToken;
+            workload.jwts[i] = objectMapper.readTree(login.body()).get("token").asText();
+        }
+
+        console.printf("server %s, model=%s %s, mix=%s, users=%d, upstream latency=%dms%n", base, model,
+                model.equals("open") ? "rate=" + rate + "/s" : "clients=" + clients, mix, users, stubLatency);
+
+        Run warmupRun = new Run(client, workload, model, rate, clients, maxInFlight);
+        warmupRun.execute(warmup);
+        Run run = new Run(client, workload, model, rate, clients, maxInFlight);
+        Instant startedAt = Instant.now();
+        double seconds = run.execute(duration);
+        System.setOut(console);
+
+        Map<String, Object> result = run.result(seconds);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("test", "ApiLoadTest");
+        report.put("commit", gitRevision());
+        report.put("startedAt", startedAt.toString());
+        report.put("args", String.join(" ", argv));
+        report.put("model", model);
+        report.put("rate", model.equals("open") ? rate : null);
+        report.put("clients", model.equals("closed") ? clients : null);
+        report.put("durationSeconds", seconds);
+        report.put("mix", mix.toString());
+        report.put("users", users);
+        report.put("upstreamLatencyMillis", stubLatency);
+        report.put("tomcatThreads", tomcatThreads);
+        report.put("upstreamRequests", stub.requests());
+        report.putAll(result);
+
+        console.println();
+        printTable(console, run, seconds);
+        File file = new File(out);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        console.println("result written to " + file.getPath());
+        if (baseline != null) {
+            compare(console, objectMapper.readTree(new File(baseline)), objectMapper.valueToTree(report));
+        }
+
+        context.close();
+        stub.stop();
+        clientExecutor.shutdownNow();
+        System.exit(0);
+    }
+
+    private static void printTable(PrintStream console, Run run, double seconds) {
+        console.printf("%-14s %8s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "ok", "errors", "dropped", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, OperationStats> entry : run.stats.entrySet()) {
+            printRow(console, entry.getKey(), entry.getValue(), seconds);
+        }
+        printRow(console, "total", run.total, seconds);
+        run.stats.forEach((name, stats) -> {
+            if (!stats.statuses.isEmpty()) {
+                console.println("  " + name + " statuses " + new TreeMap<>(stats.statuses));
+            }
+        });
+    }
+
+    private static void printRow(PrintStream console, String name, OperationStats stats, double seconds) {
+        LatencyHistogram latency = stats.latency;
+        console.printf("%-14s %8d %8d %7d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, latency.count(),
+                stats.ok.sum(), stats.errors.sum(), stats.dropped.sum(), latency.count() / seconds,
+                latency.percentileMillis(50), latency.percentileMillis(95), latency.percentileMillis(99),
+                latency.percentileMillis(100));
+    }
+
+    // 종류별 p99 와 처리량을 이전 결과와 비교한다
+    private static void compare(PrintStream console, JsonNode before, JsonNode after) {
+        console.printf("%ncompared with %s (%s)%n", before.path("commit").asText("?"), before.path("startedAt").asText("?"));
+        for (String field : WORKLOAD_FIELDS) {
+            if (!before.path(field).equals(after.path(field))) {
+                console.printf("note: %s differs (%s -> %s)%n", field, before.path(field), after.path(field));
+            }
+        }
+        List<String> names = new ArrayList<>();
+        after.path("operations").fieldNames().forEachRemaining(names::add);
+        names.add("total");
+        for (String name : names) {
+            JsonNode a = name.equals("total") ? after.path("total") : after.path("operations").path(name);
+            JsonNode b = name.equals("total") ? before.path("total") : before.path("operations").path(name);
+            if (b.isMissingNode()) {
+                continue;
+            }
+            console.printf("%-14s p50 %s  p99 %s  req/s %s  errors %d -> %d%n", name,
+                    delta(b.path("p50Millis").asDouble(), a.path("p50Millis").asDouble()),
+                    delta(b.path("p99Millis").asDouble(), a.path("p99Millis").asDouble()),
+                    delta(b.path("throughput").asDouble(), a.path("throughput").asDouble()),
+                    b.path("errors").asLong(), a.path("errors").asLong());
+        }
+    }
+
+    private static String delta(double before, double after) {
+        if (before == 0) {
+            return String.format("%.1f -> %.1f", before, after);
+        }
+        return String.format("%.1f -> %.1f (%+.0f%%)", before, after, (after - before) / before * 100);
+    }
+
+    private static String gitRevision() {
+        try {
+            Process process = new ProcessBuilder("git", "describe", "--always", "--dirty").redirectErrorStream(true).start();
+            String revision = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? revision : "unknown";
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private static String get(HttpClient client, String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString())
+                .body();
+    }
+
+    // 요청 종류별 비중 (name:weight,...)
+    private static final class Mix {
+
+        private final String[] names;
+        private final int[] cumulative;
+
+        private Mix(String[] names, int[] cumulative) {
+            this.names = names;
+            this.cumulative = cumulative;
+        }
+
+        static Mix parse(String spec) {
+            List<String> names = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            for (String part : spec.split(",")) {
+                String[] kv = part.trim().split(":");
+                if (kv.length != 2 || !List.of(OPERATIONS).contains(kv[0])) {
+                    throw new IllegalArgumentException("mix 형식은 " + String.join("|", OPERATIONS) + ":비중,...: " + part);
+                }
+                names.add(kv[0]);
+                weights.add(Integer.parseInt(kv[1]));
+            }
+            int[] cumulative = new int[weights.size()];
+            int sum = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                sum += weights.get(i);
+                cumulative[i] = sum;
+            }
+            return new Mix(names.toArray(new String[0]), cumulative);
+        }
+
+        String pick() {
+            int r = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (r < cumulative[i]) {
+                    return names[i];
+                }
+            }
+            return names[names.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder spec = new StringBuilder();
+            for (int i = 0; i < names.length; i++) {
+                spec.append(i > 0 ? "," : "").append(names[i]).append(':')
+                        .append(cumulative[i] - (i > 0 ? cumulative[i - 1] : 0));
+            }
+            return spec.toString();
+        }
+    }
+
+    // 요청 만들기 (사용자/지역은 무작위)
+    private static final class Workload {
+
+        private final String base;
+        private final Mix mix;
+        private final List<String> regions;
+        private final String[] idTokens;
+        private final String[] jwts;
+        private final AtomicLong nicknameSeq = new AtomicLong();
+
+        Workload(String base, Mix mix, List<String> regions, int users) {
+            this.base = base;
+            this.mix = mix;
+            this.regions = regions;
+            this.idTokens = new String[users];
+            this.jwts = new String[users];
+        }
+
+        HttpRequest request(String operation) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int user = random.nextInt(jwts.length);
+            switch (operation) {
+                case "broadcast":
+                    return get("/api/tbn/broadcast/" + regions.get(random.nextInt(regions.size()))).build();
+                case "broadcast-all":
+                    return get("/api/tbn/broadcast").build();
+                case "login":
+                    return login(idTokens[user]);
+                case "profile":
+                    return get("/api/auth/profile").header("Authorization", "Bearer " + jwts[user]).build();
+                default:
+                    String body = "{\"nickname\":\"load" + user + "-" + nicknameSeq.incrementAndGet() % 1000 + "\"}";
+                    return HttpRequest.newBuilder(URI.create(base + "/api/auth/profile/nickname"))
+                            .header("Authorization", "Bearer " + jwts[user])
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString(body))
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+            }
+        }
+
+        HttpRequest login(String idToken) {
+            return HttpRequest.newBuilder(URI.create(base + "/api/auth/google"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"idToken\":\"" + idToken + "\"}"))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(30));
+        }
+    }
+
+    private static final class OperationStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder ok = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        // -1 = 연결 오류/타임아웃
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(long nanos, int status) {
+            latency.record(nanos);
+            if (status >= 200 && status < 400) {
+                ok.increment();
+            } else {
+                errors.increment();
+                statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+            }
+        }
+
+        Map<String, Object> toMap(double seconds) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", latency.count());
+            map.put("ok", ok.sum());
+            map.put("errors", errors.sum());
+            map.put("dropped", dropped.sum());
+            map.put("throughput", latency.count() / seconds);
+            map.put("p50Millis", latency.percentileMillis(50));
+            map.put("p95Millis", latency.percentileMillis(95));
+            map.put("p99Millis", latency.percentileMillis(99));
+            map.put("maxMillis", latency.percentileMillis(100));
+            return map;
+        }
+    }
+
+    // 한 구간(워밍업 또는 측정)의 실행과 기록
+    private static final class Run {
+
+        private final HttpClient client;
+        private final Workload workload;
+        private final String model;
+        private final double rate;
+        private final int clients;
+        private final Semaphore inFlight;
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        final Map<String, OperationStats> stats = new LinkedHashMap<>();
+        final OperationStats total = new OperationStats();
+
+        Run(HttpClient client, Workload workload, String model, double rate, int clients, int maxInFlight) {
+            this.client = client;
+            this.workload = workload;
+            this.model = model;
+            this.rate = rate;
+            this.clients = clients;
+            this.inFlight = new Semaphore(maxInFlight);
+            for (String name : workload.mix.names) {
+                stats.put(name, new OperationStats());
+            }
+        }
+
+        // seconds 동안 보내고, 나가 있는 요청이 끝나기를 잠시 기다린다. 실제 측정 시간(초)을 돌려준다
+        double execute(int seconds) throws InterruptedException {
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(seconds);
+            if (model.equals("open")) {
+                long periodNanos = (long) (1_000_000_000 / rate);
+                AtomicLong seq = new AtomicLong();
+                ScheduledExecutorService arrivals = Executors.newSingleThreadScheduledExecutor();
+                arrivals.scheduleAtFixedRate(() -> {
+                    // 스케줄러가 늦었으면 밀린 만큼 한꺼번에 보낸다 (예정 시각은 그대로)
+                    long now = System.nanoTime();
+                    long intended;
+                    while ((intended = start + seq.get() * periodNanos) <= now && intended < end) {
+                        seq.incrementAndGet();
+                        send(workload.mix.pick(), intended, false);
+                    }
+                }, 0, Math.max(periodNanos / 1000, 100), TimeUnit.MICROSECONDS);
+                Thread.sleep(seconds * 1000L);
+                arrivals.shutdownNow();
+            } else {
+                for (int i = 0; i < clients; i++) {
+                    loop(end);
+                }
+                Thread.sleep(seconds * 1000L);
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            // 나가 있는 요청은 요청 타임아웃(30초)까지 기다린다 (늦게 끝난 요청도 지연에 넣는다)
+            long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (outstanding.get() > 0 && System.nanoTime() < drainUntil) {
+                Thread.sleep(50);
+            }
+            return elapsed;
+        }
+
+        private void loop(long end) {
+            if (System.nanoTime() < end) {
+                send(workload.mix.pick(), System.nanoTime(), true).thenRun(() -> loop(end));
+            }
+        }
+
+        private CompletableFuture<Void> send(String operation, long intended, boolean closed) {
+            OperationStats operationStats = stats.get(operation);
+            if (!closed && !inFlight.tryAcquire()) {
+                operationStats.dropped.increment();
+                total.dropped.increment();
+                return CompletableFuture.completedFuture(null);
+            }
+            outstanding.incrementAndGet();
+            return client.sendAsync(workload.request(operation), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> {
+                        outstanding.decrementAndGet();
+                        long nanos = System.nanoTime() - intended;
+                        int status = response != null ? response.statusCode() : -1;
+                        operationStats.record(nanos, status);
+                        total.record(nanos, status);
+                        if (!closed) {
+                            inFlight.release();
+                        }
+                        return null;
+                    });
+        }
+
+        Map<String, Object> result(double seconds) {
+            Map<String, Object> operations = new LinkedHashMap<>();
+            stats.forEach((name, operationStats) -> operations.put(name, operationStats.toMap(seconds)));
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("operations", operations);
+            result.put("total", total.toMap(seconds));
+            return result;
+        }
+    }
+}
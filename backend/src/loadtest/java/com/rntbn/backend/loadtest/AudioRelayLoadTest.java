@@ -0,0 +1,285 @@
+package com.rntbn.backend.loadtest;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.relay.AudioRelayHub;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스트림 중계(/api/relay/stream/{regionCode})에 청취자 수천 명을 붙여 본다.
+// 업스트림은 AudioStubServer (HLS), 서버는 같은 프로세스에서 링을 작게 잡아 띄운다.
+//   - 빠른 청취자: 패킷 정렬(188바이트마다 0x47)과 패킷 번호가 끊김 없이 이어지는지, 받는 속도가 비트레이트만큼인지
+//   - 느린 청취자: 수신 버퍼를 작게 잡고 측정이 끝날 때까지 읽지 않는다 → 링에서 밀려 건너뛰어야 한다
+//   - 업스트림 세그먼트 요청 수가 청취자 수와 관계없이 지역 수만큼인지, 서버 스레드 수가 청취자 수에 비례하지 않는지
+//   - 모두 끊은 뒤 idle-seconds 가 지나면 업스트림이 멈추는지
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=AudioRelayLoadTest \
+//       -Dloadtest.args="listeners=2000 regions=3 slow-listeners=20 duration=30 bitrate=64000"
+public class AudioRelayLoadTest {
+
+    private static final String[] REGION_CODES = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14"};
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        int listeners = args.getInt("listeners", 2000);
+        int regions = Math.min(args.getInt("regions", 3), REGION_CODES.length);
+        int slowListeners = args.getInt("slow-listeners", 20);
+        int duration = args.getInt("duration", 30);
+        int bitrate = args.getInt("bitrate", 64000);
+        int segmentSeconds = args.getInt("segment-seconds", 2);
+        double rampRate = args.getDouble("ramp-rate", 200);
+        double minThroughput = args.getDouble("min-throughput", 0.8);
+
+        AudioStubServer stub = new AudioStubServer(0, bitrate, segmentSeconds);
+        stub.start();
+        // 링: 22패킷 청크 × 16 ≈ 66KB (64kbps 에서 약 8초), 송신 버퍼 고정 → 느린 청취자가 짧은 시간 안에 밀린다
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:relay;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--tbn.prefetch.enabled=false",
+                        "--tbn.schedule.enabled=false",
+                        "--tbn.traffic.enabled=false",
+                        "--tbn.streams.url-template=" + stub.playlistUrlTemplate(),
+                        "--tbn.relay.chunk-bytes=" + AudioStubServer.PACKET_BYTES * 22,
+                        "--tbn.relay.ring-chunks=16",
+                        "--tbn.relay.preroll-chunks=4",
+                        "--tbn.relay.idle-seconds=2",
+                        "--tbn.relay.socket-send-buffer-bytes=16384");
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        String base = "http://127.0.0.1:" + port;
+        AudioRelayHub hub = context.getBean(AudioRelayHub.class);
+
+        // 클라이언트 스레드도 적게: 응답 본문은 셀렉터 스레드 + 작은 풀에서 처리한다
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("server %s, %d listeners over %d regions, %d slow listeners%n",
+                base, listeners, regions, slowListeners);
+        LatencyHistogram firstByte = new LatencyHistogram();
+        List<PacketChecker> checkers = new ArrayList<>();
+        for (int i = 0; i < listeners; i++) {
+            PacketChecker checker = new PacketChecker(firstByte);
+            checkers.add(checker);
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create(base + "/api/relay/stream/" + REGION_CODES[i % regions])).build();
+            // 응답은 끝나지 않으므로 상태 코드는 헤더를 받을 때 기록한다
+            client.sendAsync(request, info -> {
+                checker.status = info.statusCode();
+                return HttpResponse.BodySubscribers.fromSubscriber(checker);
+            });
+            Thread.sleep((long) (1000 / rampRate));
+        }
+        List<Socket> slowSockets = new ArrayList<>();
+        for (int i = 0; i < slowListeners; i++) {
+            slowSockets.add(openSlow(port, REGION_CODES[i % regions]));
+        }
+        long warmupSegments = stub.segmentRequests();
+        System.out.println("connected " + hub.totals());
+
+        // 측정 구간: 연결이 모두 자리 잡은 뒤의 수신량만 센다
+        Thread.sleep(3000);
+        long segmentsBefore = stub.segmentRequests();
+        long[] bytesBefore = new long[listeners];
+        for (int i = 0; i < listeners; i++) {
+            bytesBefore[i] = checkers.get(i).bytes.get();
+        }
+        long start = System.nanoTime();
+        Thread.sleep(duration * 1000L);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long segments = stub.segmentRequests() - segmentsBefore;
+        int serverThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        double expected = bitrate / 8.0;
+        double minRate = Double.MAX_VALUE;
+        long gaps = 0;
+        long misaligned = 0;
+        long notOk = 0;
+        for (int i = 0; i < listeners; i++) {
+            PacketChecker checker = checkers.get(i);
+            minRate = Math.min(minRate, (checker.bytes.get() - bytesBefore[i]) / seconds);
+            gaps += checker.gaps.sum();
+            misaligned += checker.misaligned.sum();
+            notOk += checker.status == 200 ? 0 : 1;
+        }
+        // 느린 청취자는 이때까지 한 바이트도 읽지 않았다
+        System.out.println("relay " + hub.totals());
+        System.out.println("first byte " + firstByte.summary());
+        System.out.printf("fast listeners: min %.0f B/s (bitrate %.0f B/s), gaps=%d misaligned=%d non-200=%d%n",
+                minRate, expected, gaps, misaligned, notOk);
+        System.out.printf("upstream segment requests in %.0fs: %d (%d regions), JVM threads: %d%n",
+                seconds, segments, regions, serverThreads);
+
+        List<String> failures = new ArrayList<>();
+        if (notOk > 0 || gaps > 0 || misaligned > 0) {
+            failures.add("fast listeners saw errors/gaps/misaligned packets");
+        }
+        if (minRate < expected * minThroughput) {
+            failures.add(String.format("slowest fast listener %.0f B/s < %.0f B/s", minRate, expected * minThroughput));
+        }
+        // 지역마다 세그먼트 하나씩 (+ 측정 경계 여유)
+        long segmentLimit = regions * ((long) Math.ceil(seconds / segmentSeconds) + 2);
+        if (segments > segmentLimit) {
+            failures.add("upstream segment requests " + segments + " > " + segmentLimit);
+        }
+        if (serverThreads > 300) {
+            failures.add("JVM threads " + serverThreads + " > 300");
+        }
+
+        // 느린 청취자가 다시 읽기 시작하면 그동안 링에서 밀려난 구간을 건너뛰어야 한다
+        // (건너뛰기는 다시 쓸 수 있게 됐을 때 판단하므로 읽기 전에는 0 이다)
+        for (Socket socket : slowSockets) {
+            drain(socket, 1000);
+        }
+        long skipped = hub.totals().get("skippedChunks");
+        System.out.println("skipped chunks after slow listeners resumed: " + skipped);
+        if (slowListeners > 0 && skipped == 0) {
+            failures.add("slow listeners were never skipped forward");
+        }
+
+        // 모두 끊는다 → idle-seconds 뒤 업스트림이 멈춰야 한다
+        for (Socket socket : slowSockets) {
+            socket.close();
+        }
+        checkers.forEach(PacketChecker::cancel);
+        Thread.sleep(6000);
+        Map<String, Long> after = hub.totals();
+        System.out.println("after disconnect " + after);
+        if (after.get("listeners") != 0 || after.get("upstreams") != 0) {
+            failures.add("listeners/upstreams not released after disconnect");
+        }
+
+        context.close();
+        stub.stop();
+        clientExecutor.shutdownNow();
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAIL: " + failure));
+            System.exit(1);
+        }
+        System.out.println("PASS (segment requests before measuring: " + warmupSegments + ")");
+        System.exit(0);
+    }
+
+    // millis 동안 받는 대로 읽고 버린다
+    private static void drain(Socket socket, long millis) throws Exception {
+        socket.setSoTimeout(200);
+        byte[] buffer = new byte[65536];
+        long until = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < until) {
+            try {
+                if (socket.getInputStream().read(buffer) < 0) {
+                    return;
+                }
+            } catch (SocketTimeoutException e) {
+                // 계속 기다린다
+            }
+        }
+    }
+
+    // 수신 버퍼를 작게 잡고 요청만 보낸 뒤 읽지 않는 청취자
+    private static Socket openSlow(int port, String regionCode) throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("127.0.0.1", port), 5000);
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /api/relay/stream/" + regionCode + " HTTP/1.1\r\nHost: 127.0.0.1\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    // 받은 바이트를 188바이트 패킷으로 나눠 동기 바이트와 패킷 번호(1~4번째 바이트) 연속성을 확인한다
+    private static final class PacketChecker implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final LatencyHistogram firstByte;
+        private final long openedAt = System.nanoTime();
+        private Flow.Subscription subscription;
+
+        final AtomicLong bytes = new AtomicLong();
+        final LongAdder gaps = new LongAdder();
+        final LongAdder misaligned = new LongAdder();
+        volatile int status;
+
+        // 현재 패킷 안의 위치와 읽고 있는 패킷 번호
+        private int offset;
+        private long number;
+        private long expected = -1;
+
+        PacketChecker(LatencyHistogram firstByte) {
+            this.firstByte = firstByte;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                if (bytes.get() == 0 && buffer.hasRemaining()) {
+                    firstByte.record(System.nanoTime() - openedAt);
+                }
+                bytes.addAndGet(buffer.remaining());
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (offset == 0) {
+                        if (b != AudioStubServer.SYNC) {
+                            misaligned.increment();
+                        }
+                        number = 0;
+                    } else if (offset <= 4) {
+                        number = number << 8 | (b & 0xff);
+                        if (offset == 4) {
+                            if (expected >= 0 && number != expected) {
+                                gaps.increment();
+                            }
+                            expected = number + 1;
+                        }
+                    }
+                    offset = (offset + 1) % AudioStubServer.PACKET_BYTES;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        void cancel() {
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.rntbn.backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// 라디오 스트림 서버(streamlock)를 흉내 내는 로컬 스텁
+// - GET /{key}/playlist.m3u8 : 마스터 플레이리스트 (→ chunklist.m3u8)
+// - GET /{key}/chunklist.m3u8 : 라이브 미디어 플레이리스트 (최근 3개 세그먼트)
+// - GET /{key}/seg-{n}.ts : segment-seconds 길이의 세그먼트
+// - GET /{key}/live : 같은 내용을 실시간 속도로 계속 보내는 progressive 스트림
+// - GET /control?down=true|false&latency-ms=.. : 장애/지연 주입 (down 이면 모두 503)
+// 내용은 TS 흉내: 188바이트 패킷마다 0x47 + 패킷 번호(4바이트, big-endian), 나머지는 채움 값.
+// 패킷 번호는 스트림 시작부터 이어지므로 받는 쪽에서 정렬/누락/순서를 확인할 수 있다.
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=AudioStubServer -Dloadtest.args="port=18082"
+//   서버는 --tbn.streams.url-template=http://127.0.0.1:18082/{key}/playlist.m3u8 로 띄운다
+public class AudioStubServer {
+
+    public static final int PACKET_BYTES = 188;
+    public static final byte SYNC = 0x47;
+    private static final int WINDOW = 3;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "audio-stub");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int segmentSeconds;
+    private final int packetsPerSegment;
+    private final long startMillis = System.currentTimeMillis();
+
+    private volatile boolean down;
+    private volatile long latencyMillis;
+
+    private final LongAdder playlistRequests = new LongAdder();
+    private final LongAdder segmentRequests = new LongAdder();
+    private final LongAdder liveConnections = new LongAdder();
+
+    public AudioStubServer(int port, int bitrate, int segmentSeconds) throws IOException {
+        this.segmentSeconds = segmentSeconds;
+        this.packetsPerSegment = bitrate / 8 * segmentSeconds / PACKET_BYTES;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/control", this::control);
+        server.createContext("/", this::stream);
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        AudioStubServer stub = new AudioStubServer(args.getInt("port", 18082), args.getInt("bitrate", 64000),
+                args.getInt("segment-seconds", 2));
+        stub.start();
+        System.out.println("audio stub listening on " + stub.playlistUrlTemplate());
+        Thread.currentThread().join();
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // 서버의 tbn.streams.url-template 에 넣을 값
+    public String playlistUrlTemplate() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/{key}/playlist.m3u8";
+    }
+
+    public String liveUrlTemplate() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/{key}/live";
+    }
+
+    public int packetsPerSegment() {
+        return packetsPerSegment;
+    }
+
+    public void setDown(boolean down) {
+        this.down = down;
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public long playlistRequests() {
+        return playlistRequests.sum();
+    }
+
+    public long segmentRequests() {
+        return segmentRequests.sum();
+    }
+
+    public long liveConnections() {
+        return liveConnections.sum();
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (down) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            // /{key}/{name}
+            String[] parts = exchange.getRequestURI().getPath().split("/");
+            String name = parts.length == 3 ? parts[2] : "";
+            boolean head = exchange.getRequestMethod().equals("HEAD");
+            long current = currentSegment();
+            if (name.equals("playlist.m3u8")) {
+                playlistRequests.increment();
+                respond(exchange, "application/vnd.apple.mpegurl", head, ("#EXTM3U\n#EXT-X-VERSION:3\n"
+                        + "#EXT-X-STREAM-INF:BANDWIDTH=64000,CODECS=\"mp4a.40.2\"\nchunklist.m3u8\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            } else if (name.equals("chunklist.m3u8")) {
+                playlistRequests.increment();
+                long first = Math.max(0, current - WINDOW + 1);
+                StringBuilder playlist = new StringBuilder("#EXTM3U\n#EXT-X-VERSION:3\n")
+                        .append("#EXT-X-TARGETDURATION:").append(segmentSeconds).append('\n')
+                        .append("#EXT-X-MEDIA-SEQUENCE:").append(first).append('\n');
+                for (long n = first; n <= current; n++) {
+                    playlist.append("#EXTINF:").append(segmentSeconds).append(".0,\nseg-").append(n).append(".ts\n");
+                }
+                respond(exchange, "application/vnd.apple.mpegurl", head,
+                        playlist.toString().getBytes(StandardCharsets.UTF_8));
+            } else if (name.startsWith("seg-") && name.endsWith(".ts")) {
+                segmentRequests.increment();
+                long n = Long.parseLong(name.substring(4, name.length() - 3));
+                if (n > current) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                respond(exchange, "video/MP2T", head, packets(n * packetsPerSegment, packetsPerSegment));
+            } else if (name.equals("live")) {
+                live(exchange, head);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // 지금 시각까지 만들어진 패킷만큼을 100ms 마다 보낸다 (클라이언트가 끊을 때까지)
+    private void live(HttpExchange exchange, boolean head) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", "video/MP2T");
+        if (head) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        liveConnections.increment();
+        exchange.sendResponseHeaders(200, 0);
+        double packetsPerMilli = (double) packetsPerSegment / (segmentSeconds * 1000L);
+        long next = (long) ((System.currentTimeMillis() - startMillis) * packetsPerMilli);
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (!down) {
+                long until = (long) ((System.currentTimeMillis() - startMillis) * packetsPerMilli);
+                if (until > next) {
+                    out.write(packets(next, (int) (until - next)));
+                    out.flush();
+                    next = until;
+                }
+                Thread.sleep(100);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 끊었다
+        }
+    }
+
+    private long currentSegment() {
+        return (System.currentTimeMillis() - startMillis) / (segmentSeconds * 1000L);
+    }
+
+    private static byte[] packets(long first, int count) {
+        byte[] bytes = new byte[count * PACKET_BYTES];
+        for (int i = 0; i < count; i++) {
+            long number = first + i;
+            int offset = i * PACKET_BYTES;
+            bytes[offset] = SYNC;
+            bytes[offset + 1] = (byte) (number >>> 24);
+            bytes[offset + 2] = (byte) (number >>> 16);
+            bytes[offset + 3] = (byte) (number >>> 8);
+            bytes[offset + 4] = (byte) number;
+            for (int j = 5; j < PACKET_BYTES; j++) {
+                bytes[offset + j] = (byte) 0xff;
+            }
+        }
+        return bytes;
+    }
+
+    private void control(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length == 2 && kv[0].equals("down")) {
+                    down = Boolean.parseBoolean(kv[1]);
+                } else if (kv.length == 2 && kv[0].equals("latency-ms")) {
+                    latencyMillis = Long.parseLong(kv[1]);
+                }
+            }
+        }
+        respond(exchange, "text/plain", false, ("down=" + down + " latency-ms=" + latencyMillis
+                + " playlists=" + playlistRequests.sum() + " segments=" + segmentRequests.sum())
+                .getBytes(StandardCharsets.UTF_8));
+        exchange.close();
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, boolean head, byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if (head) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
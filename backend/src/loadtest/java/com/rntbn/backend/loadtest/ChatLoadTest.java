@@ -0,0 +1,168 @@
+package com.rntbn.backend.loadtest;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 한 채팅방에 수천 개의 세션을 붙이고 일정 속도로 메시지를 보내 전달 지연을 잰다.
+// 서버는 같은 프로세스에서 띄운다 (H2 메모리 DB, tbn.or.kr/Google 은 TbnStubServer).
+// 송신자는 먼저 사용자로 가입시킨 뒤 토큰을 받는다 (DB 에 없는 사용자의 토큰은 401).
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=ChatLoadTest \
+//       -Dloadtest.args="region=2 listeners=3000 senders=10 rate=20 duration=60"
+public class ChatLoadTest {
+
+    private static final Pattern SENT_AT = Pattern.compile("lt:(\\d+)");
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        String region = args.get("region", "2");
+        int listeners = args.getInt("listeners", 3000);
+        int senders = args.getInt("senders", 10);
+        double rate = args.getDouble("rate", 20);
+        int duration = args.getInt("duration", 60);
+        int clients = args.getInt("clients", 4);
+
+        TbnStubServer stub = new TbnStubServer(0);
+        stub.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:chatload;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--google.oauth.certs-url=" + stub.certsUrl(),
+                        "--tbn.upstream.onair-url=" + stub.onAirUrl(),
+                        "--tbn.probe.enabled=false");
+        URI uri = URI.create("ws://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + "/ws/chat/" + region);
+        UserService userService = context.getBean(UserService.class);
+        JwtService jwtService = context.getBean(JwtService.class);
+        List<String> senderTokens = new ArrayList<>();
+        for (int i = 0; i < senders; i++) {
+            String email = "loadtest" + i + "@example.com";
+            userService.createOrUpdateSocialUser(email, "loadtest" + i, null, "google", "loadtest" + i);
+            senderTokens.add(jwtService.generateToken(email));
+        }
+
+        // 셀렉터 스레드를 나누기 위해 HttpClient 를 여러 개 쓴다
+        List<HttpClient> httpClients = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            httpClients.add(HttpClient.newHttpClient());
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder received = new LongAdder();
+        AtomicInteger closed = new AtomicInteger();
+
+        System.out.printf("connecting %d listeners + %d senders to %s%n", listeners, senders, uri);
+        long connectStart = System.nanoTime();
+        List<CompletableFuture<WebSocket>> connecting = new ArrayList<>();
+        for (int i = 0; i < listeners + senders; i++) {
+            HttpClient client = httpClients.get(i % clients);
+            WebSocket.Builder builder = client.newWebSocketBuilder();
+            if (i >= listeners) {
+                builder.header("Authorization", "Bearer " + senderTokens.get(i - listeners));
+            }
+            connecting.add(builder.buildAsync(uri, new Listener(latency, received, closed)));
+            if (connecting.size() % 500 == 0) {
+                CompletableFuture.allOf(connecting.toArray(new CompletableFuture[0])).join();
+            }
+        }
+        List<WebSocket> sockets = new ArrayList<>();
+        for (CompletableFuture<WebSocket> future : connecting) {
+            sockets.add(future.join());
+        }
+        System.out.printf("connected in %.1fs%n", (System.nanoTime() - connectStart) / 1e9);
+
+        List<WebSocket> senderSockets = sockets.subList(listeners, sockets.size());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        LongAdder sent = new LongAdder();
+        AtomicInteger next = new AtomicInteger();
+        long periodMicros = (long) (1_000_000 / rate);
+        scheduler.scheduleAtFixedRate(() -> {
+            WebSocket sender = senderSockets.get(Math.floorMod(next.getAndIncrement(), senderSockets.size()));
+            // 직전 전송이 끝나지 않았으면 건너뛴다 (JDK WebSocket 은 동시 sendText 를 허용하지 않음)
+            try {
+                sender.sendText("{\"content\":\"lt:" + System.nanoTime() + "\"}", true).join();
+                sent.increment();
+            } catch (RuntimeException e) {
+                // 연결이 끊긴 송신자
+            }
+        }, 0, periodMicros, TimeUnit.MICROSECONDS);
+
+        for (int s = 1; s <= duration; s++) {
+            Thread.sleep(1000);
+            if (s % 10 == 0 || s == duration) {
+                System.out.printf("[%3ds] sent=%d received=%d closed=%d latency %s%n",
+                        s, sent.sum(), received.sum(), closed.get(), latency.summary());
+            }
+        }
+        scheduler.shutdownNow();
+        Thread.sleep(2000);
+
+        long expected = sent.sum() * (listeners + senders);
+        System.out.println("=== chat fan-out result ===");
+        System.out.printf("sessions=%d messages=%d deliveries=%d/%d (%.2f%%) closedByServer=%d%n",
+                listeners + senders, sent.sum(), received.sum(), expected,
+                expected == 0 ? 0 : 100.0 * received.sum() / expected, closed.get());
+        System.out.println("delivery latency " + latency.summary());
+
+        for (WebSocket socket : sockets) {
+            socket.abort();
+        }
+        context.close();
+        stub.stop();
+        System.exit(0);
+    }
+
+    private static final class Listener implements WebSocket.Listener {
+        private final LatencyHistogram latency;
+        private final LongAdder received;
+        private final AtomicInteger closed;
+        private final StringBuilder partial = new StringBuilder();
+
+        private Listener(LatencyHistogram latency, LongAdder received, AtomicInteger closed) {
+            this.latency = latency;
+            this.received = received;
+            this.closed = closed;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                Matcher m = SENT_AT.matcher(partial);
+                if (m.find()) {
+                    latency.record(System.nanoTime() - Long.parseLong(m.group(1)));
+                    received.increment();
+                }
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            closed.incrementAndGet();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.rntbn.backend.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 100µs 단위 고정 버킷 히스토그램 (최대 60초, 그 이상은 마지막 버킷)
+public class LatencyHistogram {
+
+    private static final long BUCKET_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int BUCKETS = (int) (TimeUnit.SECONDS.toNanos(60) / BUCKET_NANOS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS + 1);
+    private final LongAdder total = new LongAdder();
+
+    public void record(long nanos) {
+        int bucket = (int) Math.min(Math.max(nanos, 0) / BUCKET_NANOS, BUCKETS);
+        counts.incrementAndGet(bucket);
+        total.increment();
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    // 백분위 값 (밀리초)
+    public double percentileMillis(double percentile) {
+        long n = total.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i <= BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return (i + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return BUCKETS * BUCKET_NANOS / 1_000_000.0;
+    }
+
+    public String summary() {
+        return String.format("count=%d p50=%.1fms p95=%.1fms p99=%.1fms max<=%.1fms",
+                count(), percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+    }
+}
@@ -0,0 +1,31 @@
+package com.rntbn.backend.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// key=value 형식의 명령행 인자
+public class LoadTestArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public LoadTestArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                values.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+    }
+}
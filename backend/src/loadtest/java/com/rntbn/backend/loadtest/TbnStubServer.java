@@ -0,0 +1,234 @@
+package com.rntbn.backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// tbn.or.kr onair 페이지와 Google JWKS 를 흉내 내는 로컬 스텁 (지연/오류 주입)
+// - GET /onair?area_code=N : greeting-text 블록과 편성표(tbl-schedule)가 있는 HTML
+// - GET /certs : RSA 키 하나짜리 JWKS (google.oauth.certs-url 용), signIdToken 으로 이 키로 서명한 ID 토큰을 만든다
+// - GET /control?latency-ms=..&error-rate=.. : 실행 중에 주입 값 변경
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=TbnStubServer -Dloadtest.args="port=18081 latency-ms=200"
+//   서버는 --tbn.upstream.onair-url=http://localhost:18081/onair?area_code= 로 띄운다
+public class TbnStubServer {
+
+    private static final String KEY_ID = "stub";
+
+    private final HttpServer server;
+    // 스텁이 Google 대신 ID 토큰에 서명하는 키 (공개키는 /certs 로 나간다)
+    private final KeyPair keyPair;
+    private final String jwks;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "tbn-stub");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+
+    private final LongAdder requests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public TbnStubServer(int port) throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        jwks = "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + KEY_ID + "\",\"alg\":\"RS256\",\"use\":\"sig\","
+                + "\"n\":\"" + base64Url(unsigned(publicKey.getModulus())) + "\","
+                + "\"e\":\"" + base64Url(unsigned(publicKey.getPublicExponent())) + "\"}]}";
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/onair", this::onAir);
+        server.createContext("/certs", this::certs);
+        server.createContext("/control", this::control);
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        TbnStubServer stub = new TbnStubServer(args.getInt("port", 18081));
+        stub.setLatencyMillis(args.getInt("latency-ms", 0));
+        stub.setErrorRate(args.getDouble("error-rate", 0));
+        stub.start();
+        System.out.println("TBN stub listening on " + stub.onAirUrl());
+        Thread.currentThread().join();
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // 서버의 tbn.upstream.onair-url 에 넣을 값
+    public String onAirUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/onair?area_code=";
+    }
+
+    // 서버의 google.oauth.certs-url 에 넣을 값
+    public String certsUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/certs";
+    }
+
+    // /certs 의 키로 서명한 Google ID 토큰 (google.client-id 를 aud 로, 1시간 유효)
+    public String signIdToken(String clientId, String email, String name) {
+        long now = System.currentTimeMillis() / 1000;
+        String header = "{\"alg\":\"RS256\",\"kid\":\"" + KEY_ID + "\",\"typ\":\"JWT\"}";
+        String payload = "{\"iss\":\"https://accounts.google.com\",\"aud\":\"" + clientId + "\","
+                + "\"sub\":\"" + Math.abs(email.hashCode()) + "\",\"email\":\"" + email + "\","
+                + "\"email_verified\":true,\"name\":\"" + name + "\",\"iat\":" + now + ",\"exp\":" + (now + 3600) + "}";
+        String signingInput = base64Url(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + base64Url(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + base64Url(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public void resetMaxInFlight() {
+        maxInFlight.set(inFlight.get());
+    }
+
+    private void onAir(HttpExchange exchange) throws IOException {
+        serve(exchange, "text/html; charset=UTF-8", page(areaCode(exchange.getRequestURI())));
+    }
+
+    private void certs(HttpExchange exchange) throws IOException {
+        serve(exchange, "application/json", jwks);
+    }
+
+    // 주입된 지연 후 주입된 비율만큼 503, 아니면 body
+    private void serve(HttpExchange exchange, String contentType, String body) throws IOException {
+        requests.increment();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, 503, "text/plain", "injected error");
+                return;
+            }
+            respond(exchange, 200, contentType, body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void control(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length == 2 && kv[0].equals("latency-ms")) {
+                    latencyMillis = Long.parseLong(kv[1]);
+                } else if (kv.length == 2 && kv[0].equals("error-rate")) {
+                    errorRate = Double.parseDouble(kv[1]);
+                }
+            }
+        }
+        respond(exchange, 200, "text/plain",
+                "latency-ms=" + latencyMillis + " error-rate=" + errorRate + " requests=" + requests.sum());
+        exchange.close();
+    }
+
+    // 현재 시각이 포함된 한 시간짜리 프로그램 + 05:00 ~ 다음날 04:00 한 시간 단위 편성표
+    private static String page(String areaCode) {
+        int hour = LocalTime.now(ZoneId.of("Asia/Seoul")).getHour();
+        StringBuilder schedule = new StringBuilder("<table class=\"tbl-schedule\"><tbody>");
+        for (int h = 5; h < 29; h++) {
+            schedule.append(String.format("<tr><td>%02d:00</td><td><a href=\"/program/view.tbn?area_code=%s&amp;"
+                    + "prog=%d\">스텁 프로그램 %d</a></td><td>스텁 진행자</td></tr>", h, areaCode, h, h));
+        }
+        schedule.append("</tbody></table>");
+        return "<html><body><div class=\"onair\">"
+                + "<p class=\"greeting-text\"><b id=\"forumName\">스텁 방송 " + areaCode + "</b><br>"
+                + "<span>MC : 스텁 진행자 | 방송시간 : " + String.format("%02d:00 ~ %02d:00", hour, hour + 1)
+                + "</span></p></div>" + schedule + "</body></html>";
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // BigInteger.toByteArray 의 부호 바이트를 뗀다 (JWK 는 부호 없는 big-endian)
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String areaCode(URI uri) {
+        String query = uri.getQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.startsWith("area_code=")) {
+                    return pair.substring("area_code=".length());
+                }
+            }
+        }
+        return "?";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
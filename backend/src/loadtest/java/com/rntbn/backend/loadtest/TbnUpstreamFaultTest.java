@@ -0,0 +1,130 @@
+package com.rntbn.backend.loadtest;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.dto.BroadcastInfo;
+import com.rntbn.backend.service.TbnService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 로컬 스텁에 지연/오류를 주입하면서 TbnService 의 서킷 브레이커, 벌크헤드, stale 응답을 확인한다.
+// 기대와 다르면 예외로 끝난다 (exit code != 0).
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=TbnUpstreamFaultTest
+public class TbnUpstreamFaultTest {
+
+    private static final long TIMEOUT_MS = 500;
+    private static final long OPEN_SECONDS = 2;
+    private static final int MAX_CONCURRENT = 4;
+
+    private static TbnService tbnService;
+
+    public static void main(String[] argv) throws Exception {
+        TbnStubServer stub = new TbnStubServer(0);
+        stub.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                // application.yml 보다 우선하도록 명령행 인자로 넘긴다
+                .run("--spring.datasource.url=jdbc:h2:mem:faulttest;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--tbn.prefetch.enabled=false",
+                        "--tbn.upstream.onair-url=" + stub.onAirUrl(),
+                        "--tbn.upstream.timeout-ms=" + TIMEOUT_MS,
+                        "--tbn.upstream.max-concurrent=" + MAX_CONCURRENT,
+                        "--tbn.upstream.circuit.failure-threshold=3",
+                        "--tbn.upstream.circuit.open-seconds=" + OPEN_SECONDS);
+        try {
+            tbnService = context.getBean(TbnService.class);
+            run(stub);
+            System.out.println("PASS " + tbnService.getUpstreamStats());
+        } finally {
+            context.close();
+            stub.stop();
+        }
+    }
+
+    private static void run(TbnStubServer stub) throws Exception {
+        // 1. 정상
+        BroadcastInfo fresh = load("2");
+        check(!fresh.isStale() && fresh.getTitle().equals("스텁 방송 2"), "정상 응답: " + fresh.getTitle());
+        check(circuit("2").equals("CLOSED"), "처음에는 CLOSED");
+
+        // 2. 오류 주입 → 연속 3번 실패하면 OPEN, 그동안 마지막 정상 값을 stale 로
+        stub.setErrorRate(1.0);
+        Thread.sleep(1100);
+        for (int i = 0; i < 3; i++) {
+            BroadcastInfo info = load("2");
+            check(info.isStale() && info.getTitle().equals("스텁 방송 2"), "실패 시 마지막 정상 값");
+            check(info.getAgeSeconds() >= 1, "stale 응답에 age 표시: " + info.getAgeSeconds());
+        }
+        check(circuit("2").equals("OPEN"), "연속 실패 후 OPEN");
+        long before = stub.requests();
+        for (int i = 0; i < 20; i++) {
+            check(load("2").isStale(), "OPEN 동안 stale");
+        }
+        check(stub.requests() == before, "OPEN 동안 업스트림을 호출하지 않음");
+        // 다른 지역 브레이커는 영향을 받지 않는다
+        check(circuit("3").equals("CLOSED"), "지역별 브레이커");
+
+        // 3. 느린 업스트림: HALF_OPEN 프로브가 타임아웃으로 실패 → 다시 OPEN (요청은 타임아웃 이상 막히지 않음)
+        stub.setErrorRate(0);
+        stub.setLatencyMillis(TIMEOUT_MS * 4);
+        Thread.sleep(OPEN_SECONDS * 1000 + 100);
+        long started = System.nanoTime();
+        check(load("2").isStale(), "프로브 실패 시 stale");
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        check(elapsedMs < TIMEOUT_MS * 2, "타임아웃으로 끊김: " + elapsedMs + "ms");
+        check(circuit("2").equals("OPEN"), "프로브 실패 후 다시 OPEN");
+
+        // 4. 복구: 다음 프로브가 성공하면 CLOSED
+        stub.setLatencyMillis(0);
+        Thread.sleep(OPEN_SECONDS * 1000 + 100);
+        BroadcastInfo recovered = load("2");
+        check(!recovered.isStale() && recovered.getAgeSeconds() == 0, "프로브 성공 시 정상 값");
+        check(circuit("2").equals("CLOSED"), "복구 후 CLOSED");
+
+        // 5. 벌크헤드: 느린 업스트림에 동시에 몰려도 나가는 요청은 max-concurrent 개까지
+        // (jsoup 읽기 타임아웃은 timeout 의 절반이므로 그보다 짧은 지연)
+        stub.setLatencyMillis(TIMEOUT_MS / 4);
+        stub.resetMaxInFlight();
+        long rejectedBefore = (Long) tbnService.getUpstreamStats().get("bulkheadRejected");
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        List<CompletableFuture<BroadcastInfo>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String regionCode = Integer.toString(2 + i % 13);
+            futures.add(CompletableFuture.supplyAsync(() -> load(regionCode), pool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        pool.shutdown();
+        long rejected = (Long) tbnService.getUpstreamStats().get("bulkheadRejected") - rejectedBefore;
+        check(stub.maxInFlight() <= MAX_CONCURRENT, "동시 업스트림 요청 " + stub.maxInFlight());
+        check(rejected > 0, "벌크헤드가 넘치는 요청을 거절: " + rejected);
+        System.out.println("bulkhead: maxInFlight=" + stub.maxInFlight() + " rejected=" + rejected);
+    }
+
+    // 캐시를 거치지 않고 로더를 직접 호출한다
+    private static BroadcastInfo load(String regionCode) {
+        return ReflectionTestUtils.invokeMethod(tbnService, "loadBroadcastInfo", regionCode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String circuit(String regionCode) {
+        return ((Map<String, String>) tbnService.getUpstreamStats().get("circuits")).get(regionCode);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+        System.out.println("ok - " + message);
+    }
+}
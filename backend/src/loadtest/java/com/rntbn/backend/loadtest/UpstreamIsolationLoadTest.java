@@ -0,0 +1,164 @@
+package com.rntbn.backend.loadtest;
+
+import com.rntbn.backend.BackendApplication;
+import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 업스트림(Google JWKS, tbn.or.kr)이 느려져도 /api/auth/profile 지연이 그대로인지 확인한다.
+// 서버를 같은 프로세스에서 톰캣 스레드를 작게 잡아 띄우고, 업스트림은 로컬 스텁으로 대신한다.
+//   1) 기준: 업스트림 정상, 프로필만 일정 속도로 호출
+//   2) 장애: 스텁에 지연+오류를 주입하고 로그인/전 지역 조회를 동시에 몰아넣으면서 프로필 호출
+// 장애 구간의 프로필 p99 가 기준 p99 + slack-ms 를 넘으면 실패로 끝난다.
+//
+//   mvn -Ploadtest test-compile exec:exec -Dloadtest.main=UpstreamIsolationLoadTest \
+//       -Dloadtest.args="tomcat-threads=20 slow-rate=40 slow-clients=200 rate=50 duration=15 upstream-latency-ms=3000"
+public class UpstreamIsolationLoadTest {
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        int tomcatThreads = args.getInt("tomcat-threads", 20);
+        double slowRate = args.getDouble("slow-rate", 40);
+        int slowClients = args.getInt("slow-clients", 200);
+        double rate = args.getDouble("rate", 50);
+        int duration = args.getInt("duration", 15);
+        int upstreamLatency = args.getInt("upstream-latency-ms", 3000);
+        int slackMillis = args.getInt("slack-ms", 200);
+
+        TbnStubServer stub = new TbnStubServer(0);
+        stub.start();
+        // application.yml 보다 우선하도록 명령행 인자로 넘긴다
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:isolation;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--google.oauth.certs-url=" + stub.certsUrl(),
+                        "--tbn.upstream.onair-url=" + stub.onAirUrl(),
+                        "--tbn.prefetch.jitter-seconds=0");
+        String base = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+        // 프로필 프로브용 사용자 (DB 에 없는 사용자의 토큰은 401)
+        context.getBean(UserService.class).createOrUpdateSocialUser("probe@example.com", "probe", null, "google", "probe");
+        String token = context.getBean(JwtService.class).generateToken("probe@example.com");
+        String idToken = fakeIdToken(context.getEnvironment().getProperty("google.client-id"));
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        System.out.printf("server %s, tomcat threads=%d%n", base, tomcatThreads);
+        // JIT/커넥션 워밍업 (기록하지 않음)
+        probe(client, base, token, rate, 5);
+        LatencyHistogram baseline = probe(client, base, token, rate, duration);
+        System.out.println("baseline profile latency " + baseline.summary());
+
+        // 장애 주입: 매 호출이 upstream-latency-ms 동안 걸리고 결국 실패
+        stub.setLatencyMillis(upstreamLatency);
+        stub.setErrorRate(1.0);
+        Map<Integer, LongAdder> slowStatuses = new ConcurrentHashMap<>();
+        // 응답 속도와 관계없이 일정 속도로 도착시키고 (open model), 동시 요청은 slow-clients 개까지
+        Semaphore inFlight = new Semaphore(slowClients);
+        AtomicLong seq = new AtomicLong();
+        ScheduledExecutorService loader = Executors.newSingleThreadScheduledExecutor();
+        loader.scheduleAtFixedRate(() -> {
+            if (!inFlight.tryAcquire()) {
+                slowStatuses.computeIfAbsent(0, k -> new LongAdder()).increment();
+                return;
+            }
+            HttpRequest request = seq.getAndIncrement() % 2 == 0
+                    ? HttpRequest.newBuilder(URI.create(base + "/api/auth/google"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"idToken\":\"" + idToken + "\"}"))
+                            .timeout(Duration.ofSeconds(30)).build()
+                    : HttpRequest.newBuilder(URI.create(base + "/api/tbn/broadcast"))
+                            .timeout(Duration.ofSeconds(30)).build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        int status = response != null ? response.statusCode() : -1;
+                        slowStatuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+                        inFlight.release();
+                    });
+        }, 0, (long) (1_000_000 / slowRate), TimeUnit.MICROSECONDS);
+        Thread.sleep(2000);
+
+        LatencyHistogram degraded = probe(client, base, token, rate, duration);
+        loader.shutdownNow();
+        System.out.println("degraded profile latency " + degraded.summary());
+        // 0 = 동시 요청 한도에 걸려 보내지 않음
+        System.out.println("slow requests by status " + slowStatuses);
+        System.out.println("upstream pool " + get(client, base + "/api/auth/upstream/stats"));
+        System.out.println("tbn upstream " + get(client, base + "/api/tbn/upstream/stats"));
+
+        context.close();
+        stub.stop();
+
+        double limit = baseline.percentileMillis(99) + slackMillis;
+        if (degraded.percentileMillis(99) > limit) {
+            System.out.printf("FAIL: degraded p99 %.1fms > %.1fms%n", degraded.percentileMillis(99), limit);
+            System.exit(1);
+        }
+        System.out.printf("PASS: degraded p99 %.1fms <= %.1fms%n", degraded.percentileMillis(99), limit);
+        System.exit(0);
+    }
+
+    // 일정 속도로 프로필을 호출해 지연을 잰다 (오류 응답도 지연으로 기록하고 개수를 센다)
+    private static LatencyHistogram probe(HttpClient client, String base, String token, double rate, int duration)
+            throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/auth/profile"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> {
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latency.record(System.nanoTime() - start);
+                        if (response == null || response.statusCode() != 200) {
+                            errors.increment();
+                        }
+                    });
+        }, 0, (long) (1_000_000 / rate), TimeUnit.MICROSECONDS);
+        Thread.sleep(duration * 1000L);
+        scheduler.shutdownNow();
+        Thread.sleep(1000);
+        if (errors.sum() > 0) {
+            System.out.println("profile errors: " + errors.sum());
+        }
+        return latency;
+    }
+
+    private static String get(HttpClient client, String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString())
+                .body();
+    }
+
+    // 발급자/대상/만료는 맞고 서명만 틀린 토큰 → 검증 중 공개키 조회(느린 업스트림)까지 간다
+    private static String fakeIdToken(String clientId) {
+        long now = System.currentTimeMillis() / 1000;
+        String header = "{\"alg\":\"RS256\",\"kid\":\"stub\",\"typ\":\"JWT\"}";
+        String payload = "{\"iss\":\"https://accounts.google.com\",\"aud\":\"" + clientId + "\",\"sub\":\"1\","
+                + "\"email\":\"slow@example.com\",\"iat\":" + now + ",\"exp\":" + (now + 3600) + "}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString("not-a-signature".getBytes(StandardCharsets.UTF_8));
+    }
+}
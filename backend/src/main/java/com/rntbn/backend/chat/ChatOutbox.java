@@ -0,0 +1,137 @@
+package com.rntbn.backend.chat;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendResult;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 세션별 송신 큐 (크기 제한)
+// 컨테이너의 비동기 전송으로 한 번에 한 프레임씩 내보내므로 느린 클라이언트가 방 전체를 막지 않는다.
+// 큐가 가득 차면 가장 오래된 메시지를 버리고, 계속 따라오지 못하면 세션을 끊는다.
+// 끊을 때 보내는 close 프레임은 진행 중인 비동기 전송 뒤에서 블로킹으로 나가므로, 방송 스레드에서는
+// 닫힘 표시만 하고 실제 close 는 closer 스레드에 넘긴다.
+public class ChatOutbox {
+
+    // 느린 클라이언트를 끊을 때 쓰는 종료 코드
+    static final CloseStatus TOO_SLOW = CloseStatus.POLICY_VIOLATION.withReason("too slow");
+
+    private final WebSocketSession session;
+    private final RemoteEndpoint.Async remote;
+    private final int capacity;
+    private final int maxConsecutiveDrops;
+    private final Executor closer;
+
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicInteger consecutiveDrops = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public ChatOutbox(WebSocketSession session, RemoteEndpoint.Async remote, int capacity, int maxConsecutiveDrops,
+                      Executor closer) {
+        this.session = session;
+        this.remote = remote;
+        this.capacity = capacity;
+        this.maxConsecutiveDrops = maxConsecutiveDrops;
+        this.closer = closer;
+    }
+
+    public String getId() {
+        return session.getId();
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // payload 는 방송마다 한 번 직렬화된 문자열을 모든 세션이 공유한다
+    public void offer(String payload) {
+        if (closed.get()) {
+            return;
+        }
+        if (size.incrementAndGet() > capacity) {
+            if (queue.poll() != null) {
+                size.decrementAndGet();
+            }
+            dropped.incrementAndGet();
+            if (consecutiveDrops.incrementAndGet() > maxConsecutiveDrops) {
+                size.decrementAndGet();
+                close(TOO_SLOW);
+                return;
+            }
+        }
+        queue.add(payload);
+        trySend();
+    }
+
+    private void trySend() {
+        while (!closed.get() && sending.compareAndSet(false, true)) {
+            String next = queue.poll();
+            if (next != null) {
+                size.decrementAndGet();
+                try {
+                    remote.sendText(next, this::onSent);
+                } catch (RuntimeException e) {
+                    sending.set(false);
+                    close(CloseStatus.SERVER_ERROR);
+                }
+                return;
+            }
+            sending.set(false);
+            // 플래그를 내리는 사이 들어온 메시지가 있으면 다시 시도
+            if (queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void onSent(SendResult result) {
+        sending.set(false);
+        if (!result.isOK()) {
+            // 전송 타임아웃 또는 연결 오류
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+        consecutiveDrops.set(0);
+        trySend();
+    }
+
+    // 호출한 스레드는 막히지 않는다. 이후 offer 는 무시된다
+    void close(CloseStatus status) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        try {
+            closer.execute(() -> {
+                try {
+                    if (session.isOpen()) {
+                        session.close(status);
+                    }
+                } catch (IOException e) {
+                    // 이미 끊긴 세션
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
@@ -0,0 +1,42 @@
+package com.rntbn.backend.chat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 지역별 채팅방
+public class ChatRoom {
+
+    private final String regionCode;
+    private final Map<String, ChatOutbox> outboxes = new ConcurrentHashMap<>();
+
+    public ChatRoom(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void join(ChatOutbox outbox) {
+        outboxes.put(outbox.getId(), outbox);
+    }
+
+    public void leave(String sessionId) {
+        outboxes.remove(sessionId);
+    }
+
+    public ChatOutbox get(String sessionId) {
+        return outboxes.get(sessionId);
+    }
+
+    public int size() {
+        return outboxes.size();
+    }
+
+    // 이미 직렬화된 메시지를 모든 세션의 송신 큐에 넣는다 (블로킹 없음)
+    public void broadcast(String payload) {
+        for (ChatOutbox outbox : outboxes.values()) {
+            outbox.offer(payload);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rntbn.backend.chat;
+
+import com.rntbn.backend.service.TbnService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ChatRoomRegistry {
+
+    @Autowired
+    private TbnService tbnService;
+
+    private final Map<String, ChatRoom> rooms = new ConcurrentHashMap<>();
+
+    // 알 수 없는 지역이면 null
+    public ChatRoom room(String regionCode) {
+        if (regionCode == null || !tbnService.isKnownRegion(regionCode)) {
+            return null;
+        }
+        return rooms.computeIfAbsent(regionCode, ChatRoom::new);
+    }
+
+    public Map<String, Integer> participantCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        rooms.forEach((regionCode, room) -> counts.put(regionCode, room.size()));
+        return counts;
+    }
+}
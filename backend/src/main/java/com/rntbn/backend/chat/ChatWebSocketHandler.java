@@ -0,0 +1,178 @@
+package com.rntbn.backend.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.ChatMessage;
+import com.rntbn.backend.security.AuthenticatedUser;
+import com.rntbn.backend.service.CommentWriteBehind;
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 지역 채팅 WebSocket 핸들러: /ws/chat/{regionCode}
+// 누구나 들을 수 있고, 메시지 전송은 JWT 로 인증된 사용자만 가능하다.
+@Component
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String REGION_ATTRIBUTE = "regionCode";
+    // 톰캣 WsRemoteEndpoint 가 블로킹 전송(close 프레임 포함)에 쓰는 타임아웃 (Long, 밀리초)
+    private static final String BLOCKING_SEND_TIMEOUT_PROPERTY = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    @Autowired
+    private ChatRoomRegistry chatRoomRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CommentWriteBehind commentWriteBehind;
+
+    @Value("${chat.outbox-capacity:64}")
+    private int outboxCapacity;
+
+    @Value("${chat.max-consecutive-drops:256}")
+    private int maxConsecutiveDrops;
+
+    @Value("${chat.send-timeout-ms:10000}")
+    private long sendTimeoutMillis;
+
+    @Value("${chat.max-message-length:500}")
+    private int maxMessageLength;
+
+    // 끊는 세션에 close 프레임을 보낼 때 기다리는 최대 시간 (톰캣 기본값은 20초)
+    @Value("${chat.close-timeout-ms:2000}")
+    private long closeTimeoutMillis;
+
+    // 느린 세션 끊기 전용 (close 프레임 전송이 블로킹이라 방송 스레드에서 하지 않는다)
+    private final ExecutorService closer = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "chat-closer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stop() {
+        closer.shutdownNow();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String regionCode = regionOf(session.getUri());
+        ChatRoom room = chatRoomRegistry.room(regionCode);
+        if (room == null) {
+            session.close(CloseStatus.BAD_DATA.withReason("unknown region"));
+            return;
+        }
+
+        Session nativeSession = ((NativeWebSocketSession) session).getNativeSession(Session.class);
+        RemoteEndpoint.Async remote = nativeSession.getAsyncRemote();
+        remote.setSendTimeout(sendTimeoutMillis);
+        nativeSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT_PROPERTY, closeTimeoutMillis);
+
+        session.getAttributes().put(REGION_ATTRIBUTE, regionCode);
+        room.join(new ChatOutbox(session, remote, outboxCapacity, maxConsecutiveDrops, closer));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        ChatRoom room = chatRoomRegistry.room((String) session.getAttributes().get(REGION_ATTRIBUTE));
+        ChatOutbox outbox = room != null ? room.get(session.getId()) : null;
+        if (outbox == null) {
+            return;
+        }
+
+        AuthenticatedUser user = userOf(session);
+        if (user == null) {
+            outbox.offer(error(room.getRegionCode(), "로그인이 필요합니다."));
+            return;
+        }
+
+        String content = contentOf(message.getPayload());
+        if (content == null || content.isBlank()) {
+            outbox.offer(error(room.getRegionCode(), "메시지 내용이 없습니다."));
+            return;
+        }
+        if (content.length() > maxMessageLength) {
+            outbox.offer(error(room.getRegionCode(), "메시지는 " + maxMessageLength + "자 이하로 입력해주세요."));
+            return;
+        }
+
+        // DB 컬럼(timestamp(6))과 같은 정밀도로 맞춰야 메모리/DB 페이지의 커서가 일치한다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        // 저장 버퍼가 가득 차면 방송하지 않고 보낸 사람에게만 알린다
+        if (!commentWriteBehind.submit(room.getRegionCode(), user.getUserId(), user.getNickname(), content, now)) {
+            outbox.offer(error(room.getRegionCode(), "메시지가 많아 잠시 후 다시 시도해주세요."));
+            return;
+        }
+
+        ChatMessage chat = new ChatMessage(ChatMessage.TYPE_CHAT, room.getRegionCode(), user.getUserId(),
+                user.getNickname(), content, now);
+        // 직렬화는 방송당 한 번
+        room.broadcast(objectMapper.writeValueAsString(chat));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        ChatRoom room = chatRoomRegistry.room((String) session.getAttributes().get(REGION_ATTRIBUTE));
+        if (room != null) {
+            room.leave(session.getId());
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        if (session.isOpen()) {
+            session.close(CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    // 핸드셰이크 요청에서 JwtAuthenticationFilter 가 만든 principal
+    private static AuthenticatedUser userOf(WebSocketSession session) {
+        if (session.getPrincipal() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+
+    // 클라이언트는 {"content": "..."} 형식으로 보낸다
+    private String contentOf(String payload) {
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            JsonNode content = node.get("content");
+            return content != null && content.isTextual() ? content.asText().trim() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String error(String regionCode, String reason) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(
+                new ChatMessage(ChatMessage.TYPE_ERROR, regionCode, null, null, reason, LocalDateTime.now()));
+    }
+
+    private static String regionOf(URI uri) {
+        if (uri == null) {
+            return null;
+        }
+        String path = uri.getPath();
+        int slash = path.lastIndexOf('/');
+        return slash >= 0 ? path.substring(slash + 1) : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.rntbn.backend.config;
+
+import com.rntbn.backend.service.GooglePublicKeySource;
+import com.rntbn.backend.service.HttpGooglePublicKeySource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Google ID 토큰 검증용 공개키 공급자
+// 다른 GooglePublicKeySource 빈(테스트의 로컬 키셋 등)이 있으면 HTTP 구현은 만들지 않는다
+@Configuration
+public class GoogleAuthConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(GooglePublicKeySource.class)
+    public HttpGooglePublicKeySource googlePublicKeySource(
+            @Value("${google.oauth.certs-url:https://www.googleapis.com/oauth2/v3/certs}") String certsUrl) {
+        return new HttpGooglePublicKeySource(certsUrl);
+    }
+}
@@ -0,0 +1,106 @@
+package com.rntbn.backend.config;
+
+import com.rntbn.backend.relay.AudioRelayHub;
+import com.rntbn.backend.service.BroadcastStreamHub;
+import com.rntbn.backend.service.CircuitBreaker;
+import com.rntbn.backend.service.CommentService;
+import com.rntbn.backend.service.CommentWriteBehind;
+import com.rntbn.backend.service.TbnService;
+import com.rntbn.backend.service.StreamProber;
+import com.rntbn.backend.service.TrafficService;
+import com.rntbn.backend.service.UpstreamExecutor;
+import com.rntbn.backend.service.UserService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 기존 통계 맵(/api/**/stats)을 Prometheus 게이지로도 노출한다
+// 키 목록은 기동 시 한 번 읽고, 값은 스크랩할 때 통계 맵에서 다시 읽는다 (요청 경로에는 비용 없음)
+@Configuration
+public class MetricsConfig {
+
+    static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Autowired
+    private BroadcastStreamHub broadcastStreamHub;
+
+    @Autowired
+    private UpstreamExecutor upstreamExecutor;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentWriteBehind commentWriteBehind;
+
+    @Autowired
+    private TrafficService trafficService;
+
+    @Autowired
+    private AudioRelayHub audioRelayHub;
+
+    @Autowired
+    private StreamProber streamProber;
+
+    @Bean
+    public MeterBinder statsMetrics() {
+        return registry -> {
+            bind(registry, "tbn.cache", tbnService::getCacheStats);
+            bind(registry, "tbn.upstream", tbnService::getUpstreamStats);
+            bind(registry, "tbn.stream", broadcastStreamHub::stats);
+            bind(registry, "auth.upstream.executor", upstreamExecutor::stats);
+            bind(registry, "auth.profile.cache", userService::getProfileCacheStats);
+            bind(registry, "chat.recent.cache", commentService::getRecentCacheStats);
+            bind(registry, "chat.persistence", commentWriteBehind::stats);
+            bind(registry, "traffic.index", trafficService::getStats);
+            bind(registry, "relay", audioRelayHub::totals);
+            bind(registry, "stream.probe", streamProber::getStats);
+            // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+            for (String regionCode : tbnService.getCircuitStates().keySet()) {
+                Gauge.builder("tbn.circuit.state", () -> {
+                    CircuitBreaker.State state = tbnService.getCircuitStates().get(regionCode);
+                    return state != null ? state.ordinal() : -1;
+                }).tag("region", regionCode).register(registry);
+            }
+        };
+    }
+
+    // UserRepository 호출은 UserService 가 user.db.latency 로 직접 재므로 리포지토리 자동 계측에서만 뺀다
+    // (다른 리포지토리의 spring.data.repository.invocations 는 그대로 남는다)
+    // static: 레지스트리를 만들 때 필요한 필터라 위 서비스 주입(레지스트리가 필요함)을 기다리지 않게 한다
+    @Bean
+    public static MeterFilter skipUserRepositoryAutotime() {
+        return MeterFilter.deny(id -> REPOSITORY_INVOCATIONS.equals(id.getName())
+                && "UserRepository".equals(id.getTag("repository")));
+    }
+
+    // 숫자 값만 게이지로 (중첩 맵 등은 건너뜀), 이름은 prefix + camelCase 키를 점으로 나눈 것
+    private static void bind(MeterRegistry registry, String prefix, Supplier<? extends Map<String, ?>> stats) {
+        stats.get().forEach((key, value) -> {
+            if (value instanceof Number) {
+                Gauge.builder(prefix + "." + dotted(key), () -> {
+                    Object current = stats.get().get(key);
+                    return current instanceof Number ? (Number) current : Double.NaN;
+                }).register(registry);
+            }
+        });
+    }
+
+    private static String dotted(String camelCase) {
+        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1.$2").toLowerCase(Locale.ROOT);
+    }
+}
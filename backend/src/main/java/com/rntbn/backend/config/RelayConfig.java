@@ -0,0 +1,43 @@
+package com.rntbn.backend.config;
+
+import com.rntbn.backend.relay.AudioRelayHub;
+import com.rntbn.backend.relay.AudioRelayServlet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 스트림 중계는 Spring MVC 대신 비동기 서블릿으로 직접 받는다 (논블로킹 쓰기)
+@Configuration
+public class RelayConfig {
+
+    @Autowired
+    private AudioRelayHub audioRelayHub;
+
+    // 0 이면 OS 자동 조정. 자동 조정된 커널 송신 버퍼는 수 MB 까지 커져 느린 청취자가 링에서 밀리기 전에
+    // 커널에 오디오가 쌓인다 → 값을 주면 연결당 커널 메모리가 줄고 밀린 청취자는 링에서 바로 건너뛴다
+    @Value("${tbn.relay.socket-send-buffer-bytes:0}")
+    private int socketSendBufferBytes;
+
+    @Bean
+    public ServletRegistrationBean<AudioRelayServlet> audioRelayServlet() {
+        ServletRegistrationBean<AudioRelayServlet> registration =
+                new ServletRegistrationBean<>(new AudioRelayServlet(audioRelayHub), "/api/relay/stream/*");
+        registration.setName("audioRelay");
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> relaySocketCustomizer() {
+        return factory -> {
+            if (socketSendBufferBytes > 0) {
+                factory.addConnectorCustomizers(connector ->
+                        connector.setProperty("socket.txBufSize", String.valueOf(socketSendBufferBytes)));
+            }
+        };
+    }
+}
@@ -1,31 +1,59 @@
 package com.rntbn.backend.config;
 
+import com.rntbn.backend.security.JwtAuthenticationFilter;
+import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService, UserService userService,
+            @Value("${actuator.allowed-networks:127.0.0.1/32,::1/128}") List<String> actuatorNetworks)
+            throws Exception {
+        // 지표/관리 엔드포인트는 허용한 대역(기본 localhost)에서만
+        List<IpAddressMatcher> actuatorMatchers = actuatorNetworks.stream()
+                .map(String::trim)
+                .filter(network -> !network.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/auth/profile", "/api/auth/profile/**", "/api/auth/delete").authenticated()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).access((authentication, context) ->
+                                new AuthorizationDecision(actuatorMatchers.stream()
+                                        .anyMatch(matcher -> matcher.matches(context.getRequest()))))
                         .anyRequest().permitAll())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                // 요청당 한 번 JWT 검증 (서블릿 필터로 중복 등록되지 않도록 빈이 아닌 인스턴스로 추가)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userService),
+                        UsernamePasswordAuthenticationFilter.class)
                 .headers(headers -> headers.disable()); // H2 콘솔을 위한 설정
 
         return http.build();
@@ -1 +1,23 @@
- 
\ No newline at end of file
+package com.rntbn.backend.config;
+
+import com.rntbn.backend.chat.ChatWebSocketHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    @Autowired
+    private ChatWebSocketHandler chatWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 지역 채팅: /ws/chat/{regionCode}
+        registry.addHandler(chatWebSocketHandler, "/ws/chat/*")
+                .setAllowedOriginPatterns("*");
+    }
+}
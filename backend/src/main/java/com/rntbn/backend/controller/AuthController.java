@@ -2,22 +2,28 @@ package com.rntbn.backend.controller;
 
 import com.rntbn.backend.dto.LoginResponse;
 import com.rntbn.backend.dto.GoogleLoginRequest;
+import com.rntbn.backend.dto.UserProfile;
 import com.rntbn.backend.entity.User;
+import com.rntbn.backend.security.AuthenticatedUser;
+import com.rntbn.backend.service.GoogleTokenVerifier;
 import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UpstreamExecutor;
 import com.rntbn.backend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken.Payload;
 import com.rntbn.backend.dto.UpdateNicknameRequest;
 import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -30,30 +36,47 @@ public class AuthController {
     @Autowired
     private JwtService jwtService;
 
-    @PostMapping("/google")
-    public ResponseEntity<LoginResponse> googleLogin(@RequestBody GoogleLoginRequest googleLoginRequest) {
-        String idToken = googleLoginRequest.getIdToken();
-        System.out.println("📥 받은 idToken: " + idToken);
+    @Autowired
+    private GoogleTokenVerifier googleTokenVerifier;
 
-        try {
+    @Autowired
+    private UpstreamExecutor upstreamExecutor;
+
+    @Value("${upstream.google-login-deadline-ms:5000}")
+    private long googleLoginDeadlineMillis;
 
-            NetHttpTransport transport = new NetHttpTransport();
-            JacksonFactory jsonFactory = JacksonFactory.getDefaultInstance();
+    // Google 공개키 조회가 느려도 요청 스레드는 바로 반환된다 (업스트림 전용 풀에서 검증)
+    @PostMapping("/google")
+    public CompletableFuture<ResponseEntity<LoginResponse>> googleLogin(
+            @RequestBody GoogleLoginRequest googleLoginRequest) {
+        return upstreamExecutor.supply(() -> googleLogin(googleLoginRequest.getIdToken()), googleLoginDeadlineMillis)
+                .exceptionally(AuthController::googleLoginUnavailable);
+    }
+
+    // 풀이 가득 찼으면 503, 마감 시간을 넘기면 504
+    private static ResponseEntity<LoginResponse> googleLoginUnavailable(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(new LoginResponse(null, null, null, "구글 로그인 시간 초과"));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new LoginResponse(null, null, null, "구글 로그인 지연, 잠시 후 다시 시도해 주세요"));
+    }
 
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(transport, jsonFactory)
-                    .setAudience(Collections
-                            .singletonList("929637116364-eqsl60da7giesc340fk6evl9e9i4bts2.apps.googleusercontent.com"))
-                    .build();
+    private ResponseEntity<LoginResponse> googleLogin(String idToken) {
+        System.out.println("📥 받은 idToken: " + idToken);
 
-            GoogleIdToken idTokenPayload = verifier.verify(idToken);
+        try {
+            // 캐시된 Google 공개키로 로컬 검증
+            Payload payload = googleTokenVerifier.verify(idToken);
 
-            if (idTokenPayload == null) {
+            if (payload == null) {
                 System.out.println("❌ Google token verification failed.");
                 return ResponseEntity.badRequest()
                         .body(new LoginResponse(null, null, null, "유효하지 않은 Google ID 토큰입니다."));
             }
 
-            Payload payload = idTokenPayload.getPayload();
             System.out.println("✅ 토큰 payload 이메일: " + payload.getEmail());
 
             String email = payload.getEmail();
@@ -76,26 +99,19 @@ public class AuthController {
         }
     }
 
-    // 닉네임 수정 API
+    // 닉네임 수정 API (토큰은 JwtAuthenticationFilter 에서 이미 검증됨)
     @PutMapping("/profile/nickname")
     public ResponseEntity<LoginResponse> updateNickname(
-            @RequestHeader("Authorization") String authHeader,
+            Authentication authentication,
             @RequestBody UpdateNicknameRequest request) {
         try {
-            // JWT 토큰에서 이메일 추출
-            String token = authHeader.replace("Bearer ", "");
-            String email = jwtService.extractEmail(token);
-
-            if (email == null) {
-                return ResponseEntity.badRequest()
-                        .body(new LoginResponse(null, null, null, "유효하지 않은 토큰입니다."));
-            }
+            AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
             // 닉네임 업데이트
-            User updatedUser = userService.updateNickname(email, request.getNickname());
+            UserProfile updatedUser = userService.updateNickname(principal.getEmail(), request.getNickname());
 
             return ResponseEntity.ok(new LoginResponse(
-                    token,
+                    (String) authentication.getCredentials(),
                     updatedUser.getEmail(),
                     updatedUser.getNickname(),
                     "닉네임이 성공적으로 수정되었습니다."));
@@ -118,34 +134,30 @@ public class AuthController {
     // }
 
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile(@RequestHeader("Authorization") String authHeader) {
-        try {
-            String token = authHeader.replace("Bearer ", "");
-            String email = jwtService.extractEmail(token);
-            Optional<User> userOpt = userService.findByEmail(email);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                return ResponseEntity.ok(Map.of(
-                    "email", user.getEmail(),
-                    "nickname", user.getNickname()
-                ));
-            } else {
-                // 최초 로그인(가입) 등 DB에 유저가 없을 때
-                return ResponseEntity.ok(Map.of(
-                    "email", email,
-                    "nickname", ""
-                ));
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
-        }
+    public ResponseEntity<?> getProfile(@AuthenticationPrincipal AuthenticatedUser principal) {
+        // 필터가 만든 principal 에 이메일/닉네임이 이미 있다 (없는/탈퇴한 사용자는 필터에서 401)
+        return ResponseEntity.ok(Map.of(
+            "email", principal.getEmail(),
+            "nickname", principal.getNickname()
+        ));
+    }
+
+    // 업스트림 전용 풀 상태 (active/queued/completed/rejected/timedOut)
+    @GetMapping("/upstream/stats")
+    public ResponseEntity<Map<String, Long>> getUpstreamStats() {
+        return ResponseEntity.ok(upstreamExecutor.stats());
+    }
+
+    // 프로필 캐시 hit/miss/hitRatio 통계
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Number>> getProfileCacheStats() {
+        return ResponseEntity.ok(userService.getProfileCacheStats());
     }
 
+    // 회원탈퇴: 토큰의 사용자만 탈퇴한다 (요청 본문의 이메일은 믿지 않는다)
     @PostMapping("/delete")
-    public ResponseEntity<?> softDeleteUser(@RequestBody Map<String, String> req) {
-        String email = req.get("email");
-        userService.softDeleteUser(email);
+    public ResponseEntity<?> softDeleteUser(@AuthenticationPrincipal AuthenticatedUser principal) {
+        userService.softDeleteUser(principal.getEmail());
         return ResponseEntity.ok(Collections.singletonMap("message", "탈퇴 처리 완료"));
     }
 
@@ -1 +1,71 @@
- 
\ No newline at end of file
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.chat.ChatRoom;
+import com.rntbn.backend.chat.ChatRoomRegistry;
+import com.rntbn.backend.dto.CommentPage;
+import com.rntbn.backend.service.CommentService;
+import com.rntbn.backend.service.CommentWriteBehind;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/chat")
+@CrossOrigin(origins = "*")
+public class ChatController {
+
+    @Autowired
+    private ChatRoomRegistry chatRoomRegistry;
+
+    @Autowired
+    private CommentWriteBehind commentWriteBehind;
+
+    @Autowired
+    private CommentService commentService;
+
+    // 지역별 채팅 접속자 수
+    @GetMapping("/rooms")
+    public ResponseEntity<Map<String, Integer>> getRooms() {
+        return ResponseEntity.ok(chatRoomRegistry.participantCounts());
+    }
+
+    @GetMapping("/rooms/{regionCode}")
+    public ResponseEntity<Map<String, Object>> getRoom(@PathVariable String regionCode) {
+        ChatRoom room = chatRoomRegistry.room(regionCode);
+        if (room == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "regionCode", regionCode,
+                "participants", room.size()));
+    }
+
+    // 지난 채팅 메시지 (최신순). 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다
+    @GetMapping("/rooms/{regionCode}/messages")
+    public ResponseEntity<CommentPage> getMessages(@PathVariable String regionCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size) {
+        if (chatRoomRegistry.room(regionCode) == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(commentService.getComments(regionCode, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 최신 댓글 메모리 캐시 통계 (hits/misses/loads/regions)
+    @GetMapping("/recent/stats")
+    public ResponseEntity<Map<String, Long>> getRecentStats() {
+        return ResponseEntity.ok(commentService.getRecentCacheStats());
+    }
+
+    // 채팅 메시지 저장 버퍼 통계 (submitted/rejected/persisted/failed/batches/pending)
+    @GetMapping("/persistence/stats")
+    public ResponseEntity<Map<String, Long>> getPersistenceStats() {
+        return ResponseEntity.ok(commentWriteBehind.stats());
+    }
+}
@@ -0,0 +1,61 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.service.BroadcastPrefetcher;
+import com.rntbn.backend.service.BroadcastSnapshot;
+import com.rntbn.backend.service.CircuitBreaker;
+import com.rntbn.backend.service.TbnService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 앱의 서버 상태 확인 (status 가 "ok" 면 응답 가능)
+// upstream 은 tbn.or.kr 데이터 신선도: 한 지역이라도 브레이커가 닫혀 있지 않거나
+// 아직 조회 전이거나 stale 이면 "degraded"
+@RestController
+@RequestMapping("/api/health")
+@CrossOrigin(origins = "*")
+public class HealthController {
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Autowired
+    private BroadcastPrefetcher broadcastPrefetcher;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> health() {
+        Instant now = Instant.now();
+        boolean degraded = false;
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (Map.Entry<String, CircuitBreaker.State> circuit : tbnService.getCircuitStates().entrySet()) {
+            BroadcastSnapshot snapshot = broadcastPrefetcher.getSnapshot(circuit.getKey());
+            Map<String, Object> region = new LinkedHashMap<>();
+            region.put("circuit", circuit.getValue().name());
+            if (snapshot == null) {
+                region.put("ageSeconds", null);
+                region.put("stale", true);
+                degraded = true;
+            } else {
+                // 마지막 정상 조회 이후 경과 시간 (실패한 조회는 스냅샷을 바꾸지 않는다)
+                boolean stale = broadcastPrefetcher.isStale(snapshot, now);
+                region.put("ageSeconds", Duration.between(snapshot.getFetchedAt(), now).getSeconds());
+                region.put("stale", stale);
+                degraded |= stale;
+            }
+            degraded |= circuit.getValue() != CircuitBreaker.State.CLOSED;
+            regions.put(circuit.getKey(), region);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "ok");
+        body.put("upstream", degraded ? "degraded" : "ok");
+        body.put("regions", regions);
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+    }
+}
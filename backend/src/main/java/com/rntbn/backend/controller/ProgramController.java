@@ -0,0 +1,65 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.dto.Program;
+import com.rntbn.backend.service.ProgramSchedule;
+import com.rntbn.backend.service.ScheduleService;
+import com.rntbn.backend.service.TbnService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiFunction;
+
+// 지역별 오늘의 편성표 (하루 한 번 받아 둔 메모리 인덱스에서 응답)
+@RestController
+@RequestMapping("/api/program")
+@CrossOrigin(origins = "*")
+public class ProgramController {
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @GetMapping("/{regionId}")
+    public ResponseEntity<List<Program>> getPrograms(@PathVariable String regionId) {
+        if (!tbnService.isKnownRegion(regionId)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ProgramSchedule schedule = scheduleService.getSchedule(regionId);
+        if (schedule == null) {
+            // 아직 편성표를 받아 오지 못함
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(schedule.getPrograms());
+    }
+
+    // 지금 방송 중인 프로그램
+    @GetMapping("/{regionId}/current")
+    public ResponseEntity<Program> getCurrentProgram(@PathVariable String regionId) {
+        return lookup(regionId, ProgramSchedule::at);
+    }
+
+    // 다음 프로그램
+    @GetMapping("/{regionId}/next")
+    public ResponseEntity<Program> getNextProgram(@PathVariable String regionId) {
+        return lookup(regionId, ProgramSchedule::next);
+    }
+
+    private ResponseEntity<Program> lookup(String regionId, BiFunction<ProgramSchedule, Instant, Program> find) {
+        if (!tbnService.isKnownRegion(regionId)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ProgramSchedule schedule = scheduleService.getSchedule(regionId);
+        if (schedule == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Program program = find.apply(schedule, Instant.now());
+        // 편성표 범위 밖 (방송일이 바뀌었는데 아직 새 편성표가 없는 경우 등)
+        return program != null ? ResponseEntity.ok(program) : ResponseEntity.notFound().build();
+    }
+}
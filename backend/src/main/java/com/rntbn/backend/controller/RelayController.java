@@ -0,0 +1,23 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.relay.AudioRelayHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/relay")
+@CrossOrigin(origins = "*")
+public class RelayController {
+
+    @Autowired
+    private AudioRelayHub audioRelayHub;
+
+    // 청취자/업스트림/전송량/건너뛴 청크 통계
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(audioRelayHub.stats());
+    }
+}
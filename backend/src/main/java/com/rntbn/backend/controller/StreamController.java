@@ -0,0 +1,60 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.dto.StreamStatus;
+import com.rntbn.backend.service.StreamCatalog;
+import com.rntbn.backend.service.StreamProber;
+import com.rntbn.backend.service.StreamStatusSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 지역 라디오 스트림 상태 (서버 프로버 결과). 앱은 스트림 주소에 직접 HEAD 를 보내지 않고 이 값을 쓴다
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class StreamController {
+
+    @Autowired
+    private StreamProber streamProber;
+
+    @Autowired
+    private StreamCatalog streamCatalog;
+
+    // 전 지역 상태. 본문과 ETag 는 스냅샷을 게시할 때 만들어 둔 것을 그대로 쓴다 (일치하면 304)
+    @GetMapping("/status")
+    public ResponseEntity<byte[]> getAllStatus() {
+        StreamStatusSnapshot snapshot = streamProber.getSnapshot();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(cacheControl())
+                .body(snapshot.getBody());
+    }
+
+    @GetMapping("/status/{regionCode}")
+    public ResponseEntity<StreamStatus> getStatus(@PathVariable String regionCode) {
+        if (streamCatalog.getStreamUrl(regionCode) == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamStatus status = streamProber.getSnapshot().getStatuses().get(regionCode);
+        if (status == null) {
+            // 아직 첫 프로브 전
+            return ResponseEntity.status(503).cacheControl(CacheControl.noStore()).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl()).body(status);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Long>> getStats() {
+        return ResponseEntity.ok(streamProber.getStats());
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(streamProber.getMaxAgeSeconds(), TimeUnit.SECONDS).cachePublic();
+    }
+}
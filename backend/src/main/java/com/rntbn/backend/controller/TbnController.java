@@ -1,34 +1,128 @@
 package com.rntbn.backend.controller;
 
 import com.rntbn.backend.dto.BroadcastInfo;
+import com.rntbn.backend.service.BroadcastPrefetcher;
+import com.rntbn.backend.service.BroadcastSnapshot;
+import com.rntbn.backend.service.BroadcastStreamHub;
 import com.rntbn.backend.service.TbnService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/tbn")
 @CrossOrigin(origins = "*")
 public class TbnController {
 
+    // 방송 정보 응답의 max-age 범위 (남은 방송 시간 기준)
+    private static final long MIN_MAX_AGE_SECONDS = 5;
+    private static final long MAX_MAX_AGE_SECONDS = Duration.ofHours(3).getSeconds();
+    // 방송시간을 파싱하지 못한 프로그램
+    private static final long UNKNOWN_END_MAX_AGE_SECONDS = 60;
+    private static final long REGIONS_MAX_AGE_SECONDS = Duration.ofDays(1).getSeconds();
+
     @Autowired
     private TbnService tbnService;
 
+    @Autowired
+    private BroadcastPrefetcher broadcastPrefetcher;
+
+    @Autowired
+    private BroadcastStreamHub broadcastStreamHub;
+
     @GetMapping("/regions")
     public ResponseEntity<Map<String, String>> getAllRegions() {
         Map<String, String> regions = tbnService.getAllRegions();
-        return ResponseEntity.ok(regions);
+        // If-None-Match 가 ETag 와 같으면 Spring 이 본문 없이 304 로 응답한다
+        return ResponseEntity.ok()
+                .eTag(tbnService.getRegionsEtag())
+                .cacheControl(CacheControl.maxAge(REGIONS_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                .body(regions);
+    }
+
+    // 전 지역 방송 정보 일괄 조회 (마감 시간 내 갱신 못 한 지역은 stale)
+    // 갱신을 기다리는 동안 요청 스레드를 잡지 않는다
+    @GetMapping("/broadcast")
+    public CompletableFuture<ResponseEntity<Map<String, BroadcastInfo>>> getAllBroadcastInfo() {
+        return broadcastPrefetcher.getAllBroadcastInfo().thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/broadcast/{regionCode}")
     public ResponseEntity<BroadcastInfo> getBroadcastInfo(@PathVariable String regionCode) {
-        try {
-            BroadcastInfo info = tbnService.getBroadcastInfo(regionCode);
-            return ResponseEntity.ok(info);
-        } catch (IllegalArgumentException e) {
+        if (!tbnService.isKnownRegion(regionCode)) {
             return ResponseEntity.badRequest().build();
         }
+        if (!broadcastPrefetcher.isEnabled()) {
+            // 프리페치를 끈 경우(부하 테스트 등) 스냅샷이 갱신되지 않으므로 TbnService 캐시로 직접 조회한다
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(tbnService.getBroadcastInfo(regionCode));
+        }
+        // 프리페처 스냅샷만 읽는다 (요청 스레드에서 스크래핑하지 않음)
+        BroadcastSnapshot snapshot = broadcastPrefetcher.getSnapshot(regionCode);
+        if (snapshot == null) {
+            // 아직 첫 조회가 끝나지 않은 기본값은 캐시하지 않는다
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(tbnService.emptyInfo(regionCode));
+        }
+        // ETag 는 스냅샷마다 한 번 계산해 둔 값. 일치하면 본문 없이 304
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(cacheControlOf(snapshot))
+                .body(snapshot.getInfo());
+    }
+
+    // 현재 프로그램이 끝날 때까지 캐시해도 된다 (끝난 뒤에는 짧게 두고 재검증)
+    private static CacheControl cacheControlOf(BroadcastSnapshot snapshot) {
+        Instant programEnd = snapshot.getProgramEnd();
+        long seconds = programEnd == null
+                ? UNKNOWN_END_MAX_AGE_SECONDS
+                : Duration.between(Instant.now(), programEnd).getSeconds();
+        seconds = Math.max(MIN_MAX_AGE_SECONDS, Math.min(MAX_MAX_AGE_SECONDS, seconds));
+        return CacheControl.maxAge(seconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    // 방송 정보가 바뀔 때마다 broadcast 이벤트를 보낸다 (SSE). 재접속 시 Last-Event-ID 로 이어 받는다
+    // 응답은 BroadcastStreamHub 가 async 로 넘겨받아 논블로킹으로 쓴다
+    @GetMapping(value = "/broadcast/{regionCode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamBroadcastInfo(@PathVariable String regionCode,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!tbnService.isKnownRegion(regionCode)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (!broadcastStreamHub.subscribe(regionCode, lastEventId, request)) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    // 방송 정보 스트림 통계 (subscribers/events/deliveries/heartbeats/rejected/disconnected)
+    @GetMapping("/stream/stats")
+    public ResponseEntity<Map<String, Long>> getStreamStats() {
+        return ResponseEntity.ok(broadcastStreamHub.stats());
+    }
+
+    // tbn.or.kr 호출 통계와 지역별 서킷 브레이커 상태 (CLOSED/OPEN/HALF_OPEN)
+    @GetMapping("/upstream/stats")
+    public ResponseEntity<Map<String, Object>> getUpstreamStats() {
+        return ResponseEntity.ok(tbnService.getUpstreamStats());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Long>> getCacheStats() {
+        return ResponseEntity.ok(tbnService.getCacheStats());
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.dto.TrafficChanges;
+import com.rntbn.backend.dto.TrafficNews;
+import com.rntbn.backend.service.TbnService;
+import com.rntbn.backend.service.TrafficService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/traffic")
+@CrossOrigin(origins = "*")
+public class TrafficController {
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Autowired
+    private TrafficService trafficService;
+
+    // 전 지역 교통정보 (최신순)
+    @GetMapping
+    public ResponseEntity<List<TrafficNews>> getAllTrafficNews() {
+        return ResponseEntity.ok(trafficService.getAllNews());
+    }
+
+    @GetMapping("/{regionId}")
+    public ResponseEntity<List<TrafficNews>> getTrafficNews(@PathVariable String regionId) {
+        if (!tbnService.isKnownRegion(regionId)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(trafficService.getNews(regionId));
+    }
+
+    // 마지막으로 받은 version 이후 변경분
+    @GetMapping("/changes")
+    public ResponseEntity<TrafficChanges> getAllChanges(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(trafficService.getChanges(null, since));
+    }
+
+    @GetMapping("/{regionId}/changes")
+    public ResponseEntity<TrafficChanges> getChanges(@PathVariable String regionId,
+            @RequestParam(defaultValue = "0") long since) {
+        if (!tbnService.isKnownRegion(regionId)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(trafficService.getChanges(regionId, since));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Long>> getStats() {
+        return ResponseEntity.ok(trafficService.getStats());
+    }
+}
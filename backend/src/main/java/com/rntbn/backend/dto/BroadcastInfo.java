@@ -7,6 +7,10 @@ public class BroadcastInfo {
     private String time;
     private String regionCode;
     private String regionName;
+    // 마감 시간 안에 갱신하지 못해 이전 값(또는 기본값)을 내려주는 경우 true
+    private boolean stale;
+    // stale 일 때 마지막으로 정상 조회한 뒤 지난 시간(초), 아니면 0
+    private long ageSeconds;
 
     // Default constructor
     public BroadcastInfo() {
@@ -61,4 +65,20 @@ public class BroadcastInfo {
     public void setRegionName(String regionName) {
         this.regionName = regionName;
     }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+
+    public long getAgeSeconds() {
+        return ageSeconds;
+    }
+
+    public void setAgeSeconds(long ageSeconds) {
+        this.ageSeconds = ageSeconds;
+    }
 }
\ No newline at end of file
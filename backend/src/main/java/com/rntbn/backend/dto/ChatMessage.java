@@ -1 +1,80 @@
- 
\ No newline at end of file
+package com.rntbn.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class ChatMessage {
+
+    public static final String TYPE_CHAT = "CHAT";
+    public static final String TYPE_ERROR = "ERROR";
+
+    private String type;
+    private String regionCode;
+    private Long userId;
+    private String nickname;
+    private String content;
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public ChatMessage() {
+    }
+
+    // Constructor with parameters
+    public ChatMessage(String type, String regionCode, Long userId, String nickname, String content,
+            LocalDateTime createdAt) {
+        this.type = type;
+        this.regionCode = regionCode;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.rntbn.backend.dto;
+
+import java.util.List;
+
+// 댓글 한 페이지 (최신순). nextCursor 가 null 이면 마지막 페이지
+public class CommentPage {
+
+    private List<CommentView> comments;
+    private String nextCursor;
+
+    // Default constructor
+    public CommentPage() {
+    }
+
+    // Constructor with parameters
+    public CommentPage(List<CommentView> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<CommentView> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentView> comments) {
+        this.comments = comments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,78 @@
+package com.rntbn.backend.dto;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 응답 (작성자 닉네임까지 한 쿼리로 가져오는 프로젝션)
+public class CommentView {
+
+    private Long id;
+    private String regionCode;
+    private Long userId;
+    private String nickname;
+    private String content;
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public CommentView() {
+    }
+
+    // Constructor with parameters (JPQL constructor expression 에서 사용)
+    public CommentView(Long id, String regionCode, Long userId, String nickname, String content,
+            LocalDateTime createdAt) {
+        this.id = id;
+        this.regionCode = regionCode;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
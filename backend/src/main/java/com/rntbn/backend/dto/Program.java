@@ -0,0 +1,62 @@
+package com.rntbn.backend.dto;
+
+import java.time.OffsetDateTime;
+
+// 편성표의 프로그램 한 편 (불변)
+// startTime/endTime 은 앱에서 쓰는 "HH:mm", startAt/endAt 은 날짜를 넘기는 편성을 위한 실제 시각
+public class Program {
+
+    private final String id;
+    private final String title;
+    private final String mc;
+    private final String startTime;
+    private final String endTime;
+    private final OffsetDateTime startAt;
+    private final OffsetDateTime endAt;
+    private final String sms;
+
+    public Program(String id, String title, String mc, String startTime, String endTime,
+            OffsetDateTime startAt, OffsetDateTime endAt, String sms) {
+        this.id = id;
+        this.title = title;
+        this.mc = mc;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.sms = sms;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMc() {
+        return mc;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public String getEndTime() {
+        return endTime;
+    }
+
+    public OffsetDateTime getStartAt() {
+        return startAt;
+    }
+
+    public OffsetDateTime getEndAt() {
+        return endAt;
+    }
+
+    public String getSms() {
+        return sms;
+    }
+}
@@ -0,0 +1,63 @@
+package com.rntbn.backend.dto;
+
+import java.time.Instant;
+
+// 지역 라디오 스트림 상태 (서버 프로브 결과, 불변)
+// httpStatus 는 응답을 받지 못했으면(연결 실패/마감 시간 초과) null, error 는 실패 사유
+public class StreamStatus {
+
+    private final String regionCode;
+    private final boolean up;
+    private final Integer httpStatus;
+    private final long latencyMillis;
+    private final String error;
+    private final int consecutiveFailures;
+    private final Instant checkedAt;
+    // up 이 마지막으로 바뀐 시각
+    private final Instant changedAt;
+
+    public StreamStatus(String regionCode, boolean up, Integer httpStatus, long latencyMillis, String error,
+            int consecutiveFailures, Instant checkedAt, Instant changedAt) {
+        this.regionCode = regionCode;
+        this.up = up;
+        this.httpStatus = httpStatus;
+        this.latencyMillis = latencyMillis;
+        this.error = error;
+        this.consecutiveFailures = consecutiveFailures;
+        this.checkedAt = checkedAt;
+        this.changedAt = changedAt;
+    }
+
+    // Getters
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public boolean isUp() {
+        return up;
+    }
+
+    public Integer getHttpStatus() {
+        return httpStatus;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public Instant getCheckedAt() {
+        return checkedAt;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.rntbn.backend.dto;
+
+import java.util.List;
+
+// since 버전 이후 바뀐 교통정보
+// reset 이 true 면 since 가 너무 오래돼 (또는 서버 재시작으로) 변경분을 줄 수 없어서
+// updated 에 현재 전체 목록을 담았다는 뜻이다 — 클라이언트는 목록을 통째로 교체한다.
+public class TrafficChanges {
+
+    private long version;
+    private boolean reset;
+    private List<TrafficNews> updated;
+    private List<String> removed;
+
+    // Default constructor
+    public TrafficChanges() {
+    }
+
+    // Constructor with parameters
+    public TrafficChanges(long version, boolean reset, List<TrafficNews> updated, List<String> removed) {
+        this.version = version;
+        this.reset = reset;
+        this.updated = updated;
+        this.removed = removed;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+
+    public List<TrafficNews> getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(List<TrafficNews> updated) {
+        this.updated = updated;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<String> removed) {
+        this.removed = removed;
+    }
+}
@@ -0,0 +1,86 @@
+package com.rntbn.backend.dto;
+
+import java.time.OffsetDateTime;
+
+// 교통정보 소스에서 들어오는 사고/통제 한 건
+// 같은 id 가 다시 오면 갱신, cleared 가 true 면 해제. expiresAt 이 없으면 createdAt + 기본 TTL 에 만료된다.
+public class TrafficIncident {
+
+    private String id;
+    private String title;
+    private String content;
+    private String region;
+    private OffsetDateTime createdAt;
+    private String priority;
+    private OffsetDateTime expiresAt;
+    private boolean cleared;
+
+    // Default constructor
+    public TrafficIncident() {
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public OffsetDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(OffsetDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCleared() {
+        return cleared;
+    }
+
+    public void setCleared(boolean cleared) {
+        this.cleared = cleared;
+    }
+}
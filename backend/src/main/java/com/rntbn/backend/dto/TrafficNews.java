@@ -0,0 +1,80 @@
+package com.rntbn.backend.dto;
+
+import java.time.OffsetDateTime;
+
+// 교통정보 한 건 (앱의 TrafficNews 와 같은 형태)
+public class TrafficNews {
+
+    private String id;
+    private String title;
+    private String content;
+    // 지역 코드 (/api/tbn/regions 의 키)
+    private String region;
+    private OffsetDateTime createdAt;
+    // high / medium / low
+    private String priority;
+
+    // Default constructor
+    public TrafficNews() {
+    }
+
+    // Constructor with parameters
+    public TrafficNews(String id, String title, String content, String region, OffsetDateTime createdAt,
+            String priority) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.region = region;
+        this.createdAt = createdAt;
+        this.priority = priority;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,51 @@
+package com.rntbn.backend.dto;
+
+import com.rntbn.backend.entity.User;
+
+// 캐시에 두는 사용자 프로필 (불변, 엔티티와 달리 영속성 컨텍스트와 무관)
+public class UserProfile {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final String pictureUrl;
+    private final boolean deleted;
+
+    public UserProfile(Long id, String email, String nickname, String pictureUrl, boolean deleted) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname != null ? nickname : "";
+        this.pictureUrl = pictureUrl;
+        this.deleted = deleted;
+    }
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getId(), user.getEmail(), user.getNickname(), user.getPictureUrl(),
+                user.isDeleted());
+    }
+
+    public UserProfile withNickname(String nickname) {
+        return new UserProfile(id, email, nickname, pictureUrl, deleted);
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public String getPictureUrl() {
+        return pictureUrl;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -4,17 +4,25 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "comments")
+// 지역별 최신순 keyset 페이지네이션용 인덱스, 사용자별 id 구간 숨김 처리용 인덱스
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_region_created_id", columnList = "region_code, created_at, id"),
+        @Index(name = "idx_comments_user_id", columnList = "user_id, id")
+})
 public class Comment {
 
+    // IDENTITY 는 Hibernate 가 INSERT 배치를 끄므로 시퀀스(pooled, 50개씩 할당)를 쓴다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
     @Size(max = 500)
+    @Column(length = 500)
     private String content;
 
     @Column(name = "region_code")
@@ -35,8 +43,10 @@ public class Comment {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // 채팅 메시지는 받은 시각을 그대로 저장한다 (write-behind 로 늦게 저장되더라도)
+        // 컬럼 정밀도(마이크로초)로 잘라 메모리 캐시의 값과 DB 값이 같게 한다
+        createdAt = (createdAt != null ? createdAt : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
@@ -0,0 +1,78 @@
+package com.rntbn.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 탈퇴한 사용자의 댓글 숨김 작업 (id 구간 단위로 진행, 재시작 시 lastCommentId 부터 이어서 처리)
+@Entity
+@Table(name = "comment_hide_jobs", indexes = {
+        @Index(name = "idx_comment_hide_jobs_status", columnList = "status, id")
+})
+public class CommentHideJob {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DONE = "DONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 이 시각까지 작성된 댓글만 숨긴다 (탈퇴 시각)
+    @Column(nullable = false)
+    private LocalDateTime cutoff;
+
+    // 마지막으로 처리한 댓글 id (다음 청크는 이 id 다음부터)
+    @Column(name = "last_comment_id", nullable = false)
+    private Long lastCommentId = 0L;
+
+    @Column(name = "hidden_count", nullable = false)
+    private long hiddenCount;
+
+    @Column(nullable = false)
+    private String status = STATUS_PENDING;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public CommentHideJob() {}
+
+    public CommentHideJob(Long userId, LocalDateTime cutoff) {
+        this.userId = userId;
+        this.cutoff = cutoff;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public LocalDateTime getCutoff() { return cutoff; }
+    public void setCutoff(LocalDateTime cutoff) { this.cutoff = cutoff; }
+    public Long getLastCommentId() { return lastCommentId; }
+    public void setLastCommentId(Long lastCommentId) { this.lastCommentId = lastCommentId; }
+    public long getHiddenCount() { return hiddenCount; }
+    public void setHiddenCount(long hiddenCount) { this.hiddenCount = hiddenCount; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+// email, provider_id 는 unique 제약이 인덱스 역할을 한다
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_provider_provider_id", columnList = "provider, provider_id")
+})
 public class User {
 
     @Id
@@ -0,0 +1,171 @@
+package com.rntbn.backend.relay;
+
+import com.rntbn.backend.service.StreamCatalog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지역별 라디오 스트림 중계
+// 지역마다 업스트림 연결 하나를 공유 링 버퍼에 받아 모든 청취자에게 같은 청크를 그대로 내보낸다.
+// 청취자는 톰캣 비동기 + 논블로킹 쓰기라 스레드를 잡지 않고, 느린 청취자는 링에서 밀리면 라이브 지점으로 건너뛴다.
+@Component
+public class AudioRelayHub {
+
+    @Autowired
+    private StreamCatalog streamCatalog;
+
+    // 청크 수 × 청크 크기 = 지역당 메모리 (기본 256 × 16KB ≈ 4MB, 128kbps 에서 약 4분)
+    @Value("${tbn.relay.ring-chunks:256}")
+    private int ringChunks;
+
+    // TS 패킷(188바이트)의 배수
+    @Value("${tbn.relay.chunk-bytes:16356}")
+    private int chunkBytes;
+
+    @Value("${tbn.relay.preroll-chunks:8}")
+    private int prerollChunks;
+
+    @Value("${tbn.relay.idle-seconds:30}")
+    private long idleSeconds;
+
+    @Value("${tbn.relay.max-listeners:20000}")
+    private int maxListeners;
+
+    @Value("${tbn.relay.upstream-timeout-ms:5000}")
+    private int upstreamTimeoutMillis;
+
+    @Value("${tbn.relay.hls-start-segments:2}")
+    private int hlsStartSegments;
+
+    @Value("${tbn.relay.reconnect-max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    private Settings settings;
+
+    private final Map<String, RegionRelay> relays = new ConcurrentHashMap<>();
+    private final AtomicInteger listenerCount = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        settings = new Settings();
+        settings.ringChunks = ringChunks;
+        settings.chunkBytes = chunkBytes;
+        settings.prerollChunks = prerollChunks;
+        settings.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+        settings.upstreamTimeoutMillis = upstreamTimeoutMillis;
+        settings.hlsStartSegments = hlsStartSegments;
+        settings.minBackoffMillis = 1000;
+        settings.maxBackoffMillis = maxBackoffMillis;
+        settings.onDetach = listenerCount::decrementAndGet;
+    }
+
+    @PreDestroy
+    public void stop() {
+        relays.values().forEach(RegionRelay::closeAll);
+    }
+
+    public boolean isKnownRegion(String regionCode) {
+        return streamCatalog.getStreamUrl(regionCode) != null;
+    }
+
+    // 요청을 비동기로 돌리고 청취자로 붙인다. 노드 한도를 넘으면 false (호출자는 503)
+    public boolean attach(String regionCode, HttpServletRequest request) throws IOException {
+        if (listenerCount.incrementAndGet() > maxListeners) {
+            listenerCount.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        RegionRelay relay = relays.computeIfAbsent(regionCode,
+                code -> new RegionRelay(code, streamCatalog.getStreamUrl(code), settings));
+        AsyncContext async;
+        try {
+            async = request.startAsync();
+        } catch (IllegalStateException e) {
+            listenerCount.decrementAndGet();
+            throw e;
+        }
+        // 끊을 때까지 계속 보낸다
+        async.setTimeout(0);
+        RelayListener listener = new RelayListener(relay, async);
+        relay.attach(listener);
+        try {
+            listener.start();
+        } catch (IOException | RuntimeException e) {
+            listener.close();
+            throw e;
+        }
+        return true;
+    }
+
+    // 전체 합계 (지표용)
+    public Map<String, Long> totals() {
+        long bytesIn = 0;
+        long bytesOut = 0;
+        long skipped = 0;
+        long errors = 0;
+        long connects = 0;
+        long upstreams = 0;
+        for (RegionRelay relay : relays.values()) {
+            bytesIn += relay.bytesIn.sum();
+            bytesOut += relay.bytesOut.sum();
+            skipped += relay.skippedChunks.sum();
+            errors += relay.upstreamErrors.sum();
+            connects += relay.upstreamConnects.sum();
+            upstreams += relay.isUpstreamRunning() ? 1 : 0;
+        }
+        Map<String, Long> totals = new LinkedHashMap<>();
+        totals.put("listeners", (long) listenerCount.get());
+        totals.put("upstreams", upstreams);
+        totals.put("bytesIn", bytesIn);
+        totals.put("bytesOut", bytesOut);
+        totals.put("skippedChunks", skipped);
+        totals.put("upstreamConnects", connects);
+        totals.put("upstreamErrors", errors);
+        totals.put("rejected", rejected.sum());
+        return totals;
+    }
+
+    // 합계 + 지역별 청취자/업스트림 상태
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(totals());
+        Map<String, Object> regions = new TreeMap<>();
+        relays.forEach((regionCode, relay) -> {
+            Map<String, Object> region = new LinkedHashMap<>();
+            region.put("listeners", relay.listenerCount());
+            region.put("upstream", relay.isUpstreamRunning());
+            region.put("chunks", relay.ring().head());
+            region.put("skippedChunks", relay.skippedChunks.sum());
+            region.put("upstreamErrors", relay.upstreamErrors.sum());
+            regions.put(regionCode, region);
+        });
+        stats.put("regions", regions);
+        return stats;
+    }
+
+    // 지역 중계 공통 설정
+    static final class Settings {
+        int ringChunks;
+        int chunkBytes;
+        int prerollChunks;
+        long idleNanos;
+        int upstreamTimeoutMillis;
+        int hlsStartSegments;
+        long minBackoffMillis;
+        long maxBackoffMillis;
+        Runnable onDetach;
+    }
+}
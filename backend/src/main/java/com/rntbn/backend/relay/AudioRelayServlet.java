@@ -0,0 +1,47 @@
+package com.rntbn.backend.relay;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+// 지역 라디오 스트림 중계: GET /api/relay/stream/{regionCode}
+// 응답은 끝나지 않는 progressive 스트림 (길이 없음, chunked). 앱 플레이어는 이 주소를 그대로 재생한다.
+public class AudioRelayServlet extends HttpServlet {
+
+    private final AudioRelayHub hub;
+
+    public AudioRelayServlet(AudioRelayHub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String regionCode = regionCodeOf(request);
+        if (!hub.isKnownRegion(regionCode)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader("Cache-Control", "no-store");
+        // 프록시(nginx)가 버퍼링하지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+        if (!hub.attach(regionCode, request)) {
+            response.setHeader("Retry-After", "5");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    // 스트림을 열지 않고 지역만 확인한다
+    @Override
+    protected void doHead(HttpServletRequest request, HttpServletResponse response) {
+        response.setStatus(hub.isKnownRegion(regionCodeOf(request))
+                ? HttpServletResponse.SC_OK
+                : HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    private static String regionCodeOf(HttpServletRequest request) {
+        String path = request.getPathInfo();
+        return path != null && path.length() > 1 ? path.substring(1) : "";
+    }
+}
@@ -0,0 +1,156 @@
+package com.rntbn.backend.relay;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 한 지역의 중계: 업스트림 연결 하나 → 공유 링 → 청취자들
+// 업스트림 스레드는 첫 청취자가 붙을 때 시작하고, 청취자가 idle 시간 동안 없으면 멈춘다.
+// 업스트림이 끊기면 청취자는 그대로 두고 백오프 후 다시 연결한다.
+final class RegionRelay implements UpstreamReader.Sink {
+
+    private final String regionCode;
+    private final AudioRelayHub.Settings settings;
+    private final UpstreamReader reader;
+    private final RelayRing ring;
+    private final Set<RelayListener> listeners = ConcurrentHashMap.newKeySet();
+
+    private volatile String contentType;
+    // 지금 업스트림 세션의 첫 청크 번호. idle 로 멈췄다 다시 시작하면 그 전 청크는 끊긴 이전 세션이다
+    private volatile long sessionStart;
+    // 청취자가 0 이 된 시각 (nanoTime)
+    private volatile long idleSince = System.nanoTime();
+    // this 로 보호
+    private Thread upstream;
+
+    final LongAdder bytesIn = new LongAdder();
+    final LongAdder bytesOut = new LongAdder();
+    final LongAdder skippedChunks = new LongAdder();
+    final LongAdder upstreamErrors = new LongAdder();
+    final LongAdder upstreamConnects = new LongAdder();
+
+    RegionRelay(String regionCode, String upstreamUrl, AudioRelayHub.Settings settings) {
+        this.regionCode = regionCode;
+        this.settings = settings;
+        this.reader = new UpstreamReader(upstreamUrl, settings.chunkBytes, settings.upstreamTimeoutMillis,
+                settings.hlsStartSegments);
+        this.ring = new RelayRing(settings.ringChunks);
+    }
+
+    synchronized void attach(RelayListener listener) {
+        listeners.add(listener);
+        if (upstream == null) {
+            sessionStart = ring.head();
+            upstream = new Thread(this::runUpstream, "relay-upstream-" + regionCode);
+            upstream.setDaemon(true);
+            upstream.start();
+        }
+    }
+
+    void detach(RelayListener listener) {
+        if (!listeners.remove(listener)) {
+            return;
+        }
+        if (listeners.isEmpty()) {
+            idleSince = System.nanoTime();
+        }
+        settings.onDetach.run();
+    }
+
+    // 새 청취자 / 밀린 청취자의 시작 위치: 라이브 지점에서 preroll 만큼 앞 (플레이어 버퍼를 바로 채운다)
+    // 지금 세션 안에서만 거슬러 올라간다 (이전 세션 청크를 새 세션에 이어 붙이지 않는다)
+    long startPosition() {
+        return Math.max(Math.max(ring.oldest(), sessionStart), ring.head() - settings.prerollChunks);
+    }
+
+    RelayRing ring() {
+        return ring;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    void sent(int bytes) {
+        bytesOut.add(bytes);
+    }
+
+    void skipped(long chunks) {
+        skippedChunks.add(chunks);
+    }
+
+    int listenerCount() {
+        return listeners.size();
+    }
+
+    synchronized boolean isUpstreamRunning() {
+        return upstream != null;
+    }
+
+    void closeAll() {
+        listeners.forEach(RelayListener::close);
+        Thread thread;
+        synchronized (this) {
+            thread = upstream;
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void contentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    // 업스트림 스레드: 링에 넣고 모든 청취자를 깨운다 (청취자별 복사 없이 같은 배열을 쓴다)
+    @Override
+    public void accept(byte[] chunk) {
+        ring.append(chunk);
+        bytesIn.add(chunk.length);
+        for (RelayListener listener : listeners) {
+            listener.signal();
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return !Thread.currentThread().isInterrupted()
+                && (!listeners.isEmpty() || System.nanoTime() - idleSince < settings.idleNanos);
+    }
+
+    private void runUpstream() {
+        long backoff = settings.minBackoffMillis;
+        while (true) {
+            synchronized (this) {
+                if (!isActive()) {
+                    upstream = null;
+                    return;
+                }
+            }
+            try {
+                upstreamConnects.increment();
+                reader.run(this);
+                backoff = settings.minBackoffMillis;
+            } catch (IOException | RuntimeException e) {
+                upstreamErrors.increment();
+                System.out.println("❌ 스트림 중계 업스트림 오류 (" + regionCode + "): " + e.getMessage());
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    upstream = null;
+                }
+                return;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    upstream = null;
+                }
+                return;
+            }
+            backoff = Math.min(backoff * 2, settings.maxBackoffMillis);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.rntbn.backend.relay;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 중계 청취자 하나 (논블로킹 쓰기)
+// 자기 위치(next)만 들고 링의 청크를 그대로 쓴다. 소켓이 밀리면(isReady=false) 쓰기를 멈추고 톰캣이
+// onWritePossible 로 다시 부를 때 이어 쓴다. 그 사이 링에서 밀려난 구간은 복사해 두지 않고 건너뛴다.
+final class RelayListener implements WriteListener, AsyncListener {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final RegionRelay relay;
+    private final AsyncContext async;
+    private final HttpServletResponse response;
+    private ServletOutputStream out;
+
+    // 다음에 보낼 청크 번호 (drain 안에서만 바뀐다). 붙은 뒤 첫 drain 에서 정한다:
+    // attach 가 업스트림을 다시 시작했으면 그 세션 시작 이후에서 고른다
+    private long next = -1;
+    private boolean started;
+
+    // drain 을 한 스레드에서만 돌리기 위한 작업 카운터 (업스트림 스레드와 톰캣 스레드가 함께 부른다)
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    RelayListener(RegionRelay relay, AsyncContext async) {
+        this.relay = relay;
+        this.async = async;
+        this.response = (HttpServletResponse) async.getResponse();
+    }
+
+    void start() throws IOException {
+        async.addListener(this);
+        out = response.getOutputStream();
+        // 등록하면 톰캣이 곧바로 onWritePossible 을 부른다
+        out.setWriteListener(this);
+    }
+
+    // 새 청크가 들어왔거나 소켓에 쓸 수 있게 됐을 때
+    void signal() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            drain();
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void drain() {
+        if (closed.get() || out == null) {
+            return;
+        }
+        RelayRing ring = relay.ring();
+        if (next < 0) {
+            next = relay.startPosition();
+        }
+        try {
+            while (out.isReady()) {
+                long head = ring.head();
+                if (next >= head) {
+                    // 다 보냄: 응답 버퍼에 남은 것을 내보내고 다음 청크를 기다린다.
+                    // 첫 청크 전에는 flush 하지 않는다 (Content-Type 을 정하기 전에 응답이 커밋된다)
+                    if (started) {
+                        out.flush();
+                    }
+                    return;
+                }
+                byte[] chunk = ring.get(next);
+                if (chunk == null) {
+                    // 밀려서 이미 덮어쓴 구간: 라이브 지점 근처로 건너뛴다
+                    long target = relay.startPosition();
+                    relay.skipped(target - next);
+                    next = target;
+                    continue;
+                }
+                if (!started) {
+                    String contentType = relay.contentType();
+                    response.setContentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+                    started = true;
+                }
+                out.write(chunk);
+                next++;
+                relay.sent(chunk.length);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었다
+            close();
+        }
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        relay.detach(this);
+        complete();
+    }
+
+    private void complete() {
+        try {
+            async.complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 요청
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    // 업스트림 스레드에서 쓰다 끊긴 경우 close 가 먼저 불렸더라도 여기서 다시 끝내야 톰캣이 오류 페이지(/error)로 넘기지 않는다
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+        complete();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
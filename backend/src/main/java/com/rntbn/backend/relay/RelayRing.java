@@ -0,0 +1,45 @@
+package com.rntbn.backend.relay;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 지역 스트림 공유 링 버퍼 (청크 단위)
+// 청크(byte[])는 한 번 넣으면 바꾸지 않으므로 모든 청취자가 같은 배열을 그대로 소켓에 쓴다 (청취자별 복사 없음).
+// 쓰기는 업스트림 스레드 하나, 읽기는 여러 스레드. 이미 덮어쓴 자리를 읽으면 null 이고 청취자는 앞으로 건너뛴다.
+final class RelayRing {
+
+    private final AtomicReferenceArray<byte[]> slots;
+    private final int capacity;
+    // 지금까지 넣은 청크 수 (다음에 넣을 청크의 번호)
+    private volatile long head;
+
+    RelayRing(int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    // 업스트림 스레드에서만 호출
+    void append(byte[] chunk) {
+        long seq = head;
+        slots.set((int) (seq % capacity), chunk);
+        head = seq + 1;
+    }
+
+    long head() {
+        return head;
+    }
+
+    // 아직 읽을 수 있는 가장 오래된 청크 번호. 쓰는 중인 자리 하나는 비워 둔다
+    long oldest() {
+        return Math.max(0, head - capacity + 1);
+    }
+
+    // seq 번 청크. 아직 없거나 이미 덮어썼으면 null
+    byte[] get(long seq) {
+        if (seq >= head || seq < oldest()) {
+            return null;
+        }
+        byte[] chunk = slots.get((int) (seq % capacity));
+        // 읽는 사이에 덮어썼으면 버린다
+        return seq < oldest() ? null : chunk;
+    }
+}
@@ -0,0 +1,177 @@
+package com.rntbn.backend.relay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 업스트림 스트림을 읽어 청크로 넘긴다 (지역마다 하나, 업스트림 스레드에서 실행)
+// - HLS (.m3u8): 미디어 플레이리스트를 타깃 길이의 절반마다 다시 받아 새 세그먼트만 이어 붙인다.
+//   마스터 플레이리스트면 첫 번째 변형 스트림을 쓴다. 세그먼트를 이어 붙이면 하나의 연속 스트림(TS/ADTS)이 된다
+// - 그 외: 응답 본문을 그대로 이어 받는다 (progressive)
+// 청크 크기는 TS 패킷(188바이트)의 배수로 두어 청취자가 어느 청크에서 시작해도 패킷 경계에서 시작하게 한다.
+final class UpstreamReader {
+
+    interface Sink {
+        void contentType(String contentType);
+
+        void accept(byte[] chunk);
+
+        // 청취자가 없어 멈춰도 되면 false
+        boolean isActive();
+    }
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final long DEFAULT_TARGET_DURATION_SECONDS = 10;
+
+    private final String url;
+    private final int chunkBytes;
+    private final int timeoutMillis;
+    private final int hlsStartSegments;
+
+    UpstreamReader(String url, int chunkBytes, int timeoutMillis, int hlsStartSegments) {
+        this.url = url;
+        this.chunkBytes = chunkBytes;
+        this.timeoutMillis = timeoutMillis;
+        this.hlsStartSegments = hlsStartSegments;
+    }
+
+    // 스트림이 끝나거나 sink 가 비활성이 되면 돌아온다. 연결/응답 오류는 예외
+    void run(Sink sink) throws IOException, InterruptedException {
+        if (new URL(url).getPath().endsWith(".m3u8")) {
+            runHls(new URL(url), sink);
+        } else {
+            runProgressive(sink);
+        }
+    }
+
+    private void runProgressive(Sink sink) throws IOException {
+        HttpURLConnection connection = open(new URL(url));
+        sink.contentType(connection.getContentType());
+        try (InputStream in = connection.getInputStream()) {
+            byte[] chunk = new byte[chunkBytes];
+            int filled = 0;
+            while (sink.isActive()) {
+                int n = in.read(chunk, filled, chunkBytes - filled);
+                if (n < 0) {
+                    return;
+                }
+                filled += n;
+                if (filled == chunkBytes) {
+                    // 읽은 배열을 그대로 넘기고 새 배열에 읽는다 (복사 없음)
+                    sink.accept(chunk);
+                    chunk = new byte[chunkBytes];
+                    filled = 0;
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void runHls(URL playlistUrl, Sink sink) throws IOException, InterruptedException {
+        URL mediaUrl = playlistUrl;
+        long lastSequence = -1;
+        boolean typed = false;
+        while (sink.isActive()) {
+            List<String> lines = fetchLines(mediaUrl);
+            String variant = firstVariant(lines);
+            if (variant != null) {
+                mediaUrl = new URL(mediaUrl, variant);
+                continue;
+            }
+
+            long targetDuration = DEFAULT_TARGET_DURATION_SECONDS;
+            long mediaSequence = 0;
+            boolean ended = false;
+            List<String> segments = new ArrayList<>();
+            for (String line : lines) {
+                if (line.startsWith("#EXT-X-TARGETDURATION:")) {
+                    targetDuration = Long.parseLong(line.substring("#EXT-X-TARGETDURATION:".length()).trim());
+                } else if (line.startsWith("#EXT-X-MEDIA-SEQUENCE:")) {
+                    mediaSequence = Long.parseLong(line.substring("#EXT-X-MEDIA-SEQUENCE:".length()).trim());
+                } else if (line.startsWith("#EXT-X-ENDLIST")) {
+                    ended = true;
+                } else if (!line.isEmpty() && !line.startsWith("#")) {
+                    segments.add(line);
+                }
+            }
+
+            // 처음에는 끝에서 몇 개만 (라이브 지점 근처), 이후에는 받은 다음 번호부터
+            int start = lastSequence < 0
+                    ? Math.max(0, segments.size() - hlsStartSegments)
+                    : (int) Math.max(0, Math.min(segments.size(), lastSequence + 1 - mediaSequence));
+            for (int i = start; i < segments.size() && sink.isActive(); i++) {
+                HttpURLConnection connection = open(new URL(mediaUrl, segments.get(i)));
+                byte[] segment;
+                try (InputStream in = connection.getInputStream()) {
+                    if (!typed) {
+                        sink.contentType(connection.getContentType());
+                        typed = true;
+                    }
+                    segment = in.readAllBytes();
+                } finally {
+                    connection.disconnect();
+                }
+                // 세그먼트를 청크 크기로 나눠 넣는다 (모든 청취자가 공유하는 단 한 번의 복사)
+                for (int offset = 0; offset < segment.length; offset += chunkBytes) {
+                    sink.accept(Arrays.copyOfRange(segment, offset, Math.min(segment.length, offset + chunkBytes)));
+                }
+                lastSequence = mediaSequence + i;
+            }
+            if (ended) {
+                return;
+            }
+            Thread.sleep(targetDuration * 1000 / 2);
+        }
+    }
+
+    private List<String> fetchLines(URL playlistUrl) throws IOException {
+        HttpURLConnection connection = open(playlistUrl);
+        try (InputStream in = connection.getInputStream()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (!body.startsWith("#EXTM3U")) {
+                throw new IOException("HLS 플레이리스트가 아님: " + playlistUrl);
+            }
+            List<String> lines = new ArrayList<>();
+            for (String line : body.split("\r?\n")) {
+                lines.add(line.trim());
+            }
+            return lines;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    // 마스터 플레이리스트의 첫 번째 변형 스트림 주소 (미디어 플레이리스트면 null)
+    private static String firstVariant(List<String> lines) {
+        for (int i = 0; i < lines.size() - 1; i++) {
+            if (lines.get(i).startsWith("#EXT-X-STREAM-INF")) {
+                for (int j = i + 1; j < lines.size(); j++) {
+                    if (!lines.get(j).isEmpty() && !lines.get(j).startsWith("#")) {
+                        return lines.get(j);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private HttpURLConnection open(URL target) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) target.openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        // 업스트림이 멈추면 읽기 타임아웃으로 끊고 다시 연결한다
+        connection.setReadTimeout(timeoutMillis);
+        connection.setRequestProperty("User-Agent", USER_AGENT);
+        int status = connection.getResponseCode();
+        if (status != HttpURLConnection.HTTP_OK) {
+            connection.disconnect();
+            throw new IOException("HTTP " + status + ": " + target);
+        }
+        return connection;
+    }
+}
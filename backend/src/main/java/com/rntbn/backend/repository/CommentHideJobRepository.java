@@ -0,0 +1,13 @@
+package com.rntbn.backend.repository;
+
+import com.rntbn.backend.entity.CommentHideJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentHideJobRepository extends JpaRepository<CommentHideJob, Long> {
+
+    List<CommentHideJob> findByStatusOrderByIdAsc(String status);
+}
@@ -1,12 +1,15 @@
 package com.rntbn.backend.repository;
 
+import com.rntbn.backend.dto.CommentView;
 import com.rntbn.backend.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,6 +19,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 지역의 최신 댓글 (idx_comments_region_created_id 를 역순으로 읽고 LIMIT 에서 멈춘다)
+    @Query("SELECT new com.rntbn.backend.dto.CommentView(c.id, c.regionCode, u.id, u.nickname, c.content, c.createdAt) "
+            + "FROM Comment c LEFT JOIN c.user u "
+            + "WHERE c.regionCode = :regionCode AND c.isVisibleToUser = true "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findLatestViews(String regionCode, Limit limit);
+
+    // 커서 (createdAt, id) 보다 오래된 댓글 — OFFSET 없이 인덱스 위치에서 바로 이어 읽는다
+    @Query("SELECT new com.rntbn.backend.dto.CommentView(c.id, c.regionCode, u.id, u.nickname, c.content, c.createdAt) "
+            + "FROM Comment c LEFT JOIN c.user u "
+            + "WHERE c.regionCode = :regionCode AND c.isVisibleToUser = true "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findViewsBefore(String regionCode, LocalDateTime createdAt, Long id, Limit limit);
+
     @Transactional
     @Modifying
     @Query("UPDATE Comment c SET c.isVisibleToUser = false WHERE c.user.id = :userId")
@@ -25,4 +43,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Modifying
     @Query("UPDATE Comment c SET c.isVisibleToUser = false WHERE c.user.id = :userId AND c.createdAt BETWEEN :start AND :end")
     void hideAllByUserIdAndCreatedAtBetween(Long userId, java.time.LocalDateTime start, java.time.LocalDateTime end);
-}
\ No newline at end of file
+
+    // 숨김 작업의 다음 청크: afterId 다음부터 보이는 댓글 id (idx_comments_user_id 로 범위 스캔)
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId AND c.id > :afterId "
+            + "AND c.createdAt <= :cutoff AND c.isVisibleToUser = true ORDER BY c.id")
+    List<Long> findVisibleIdsAfter(Long userId, Long afterId, LocalDateTime cutoff, Limit limit);
+
+    // (afterId, upToId] 구간만 숨긴다 — 한 문장이 잡는 행 수가 청크 크기로 제한된다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Comment c SET c.isVisibleToUser = false WHERE c.user.id = :userId "
+            + "AND c.id > :afterId AND c.id <= :upToId AND c.createdAt <= :cutoff")
+    int hideByUserIdAndIdRange(Long userId, Long afterId, Long upToId, LocalDateTime cutoff);
+}
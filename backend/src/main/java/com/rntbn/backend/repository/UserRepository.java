@@ -2,8 +2,12 @@ package com.rntbn.backend.repository;
 
 import com.rntbn.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +20,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailAndProvider(String email, String provider);
 
     boolean existsByEmail(String email);
+
+    // 조회 없이 UPDATE 한 번으로 닉네임 변경 (변경된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.nickname = :nickname, u.updatedAt = :updatedAt WHERE u.email = :email")
+    int updateNicknameByEmail(String email, String nickname, LocalDateTime updatedAt);
 }
\ No newline at end of file
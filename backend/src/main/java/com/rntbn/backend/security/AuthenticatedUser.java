@@ -0,0 +1,32 @@
+package com.rntbn.backend.security;
+
+// JWT 인증 필터가 요청마다 한 번 만들어 SecurityContext 에 올리는 사용자 정보 (불변)
+public final class AuthenticatedUser {
+
+    private final String email;
+    private final Long userId;
+    private final String nickname;
+
+    public AuthenticatedUser(String email, Long userId, String nickname) {
+        this.email = email;
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,101 @@
+package com.rntbn.backend.security;
+
+import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UserService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+// Authorization: Bearer 토큰을 요청당 한 번만 검증하고 AuthenticatedUser 를 SecurityContext 에 올린다.
+// 토큰이 잘못됐거나 사용자가 없거나 탈퇴했으면 컨트롤러나 DB 작업 전에 401 로 끝낸다.
+// 토큰이 없으면 익명으로 통과시킨다.
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    // 헤더를 붙일 수 없는 WebSocket 클라이언트용 (핸드셰이크에서만 허용)
+    private static final String WEBSOCKET_PATH_PREFIX = "/ws/";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final JwtService jwtService;
+    private final UserService userService;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserService userService) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String email;
+        try {
+            email = jwtService.parseToken(token).getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            reject(response);
+            return;
+        }
+        if (email == null) {
+            reject(response);
+            return;
+        }
+
+        AuthenticatedUser principal = loadPrincipal(email);
+        if (principal == null) {
+            reject(response);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, token, Collections.emptyList());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        chain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String token = null;
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            token = header.substring(BEARER_PREFIX.length()).trim();
+        } else if (request.getRequestURI().startsWith(WEBSOCKET_PATH_PREFIX)) {
+            token = request.getParameter(TOKEN_PARAMETER);
+        }
+        return token == null || token.isEmpty() ? null : token;
+    }
+
+    // 토큰은 로그인(가입) 후에만 발급되므로 DB 에 없는 사용자나 탈퇴한 사용자의 토큰은 받지 않는다 (null)
+    private AuthenticatedUser loadPrincipal(String email) {
+        // 프로필 캐시에서 (보통 DB 조회 없음)
+        return userService.findProfileByEmail(email)
+                .filter(profile -> !profile.isDeleted() && profile.getId() != null)
+                .map(profile -> new AuthenticatedUser(profile.getEmail(), profile.getId(), profile.getNickname()))
+                .orElse(null);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"유효하지 않은 토큰입니다.\"}");
+    }
+}
@@ -0,0 +1,133 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.BroadcastInfo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 지역별 방송 정보 캐시
+// - 만료 시각은 고정 TTL이 아니라 현재 프로그램의 방송 종료 시각
+// - 같은 지역에 대한 동시 미스는 한 번의 업스트림 조회로 합친다 (single-flight)
+public class BroadcastInfoCache {
+
+    // 방송시간을 파싱할 수 없을 때
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    // 로드 실패(또는 마지막 정상 값으로 대신한 경우) 또는 이미 끝난 프로그램이 아직 내려오는 경우
+    static final Duration MIN_TTL = Duration.ofSeconds(30);
+    static final Duration MAX_TTL = Duration.ofHours(3);
+
+    private final Function<String, BroadcastInfo> loader;
+    private final Clock clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<BroadcastInfo>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public BroadcastInfoCache(Function<String, BroadcastInfo> loader, Clock clock) {
+        this.loader = loader;
+        this.clock = clock;
+    }
+
+    public BroadcastInfo get(String regionCode) {
+        Entry entry = entries.get(regionCode);
+        if (entry != null && entry.isFresh(clock.instant())) {
+            hits.increment();
+            return entry.info;
+        }
+
+        CompletableFuture<BroadcastInfo> mine = new CompletableFuture<>();
+        CompletableFuture<BroadcastInfo> leader = inFlight.putIfAbsent(regionCode, mine);
+        if (leader != null) {
+            // 이미 같은 지역을 조회 중인 요청이 있으면 그 결과를 기다린다
+            coalesced.increment();
+            return await(leader);
+        }
+
+        try {
+            // 앞선 리더가 막 끝낸 경우: 그 결과가 이미 들어와 있으면 다시 조회하지 않는다
+            Entry current = entries.get(regionCode);
+            if (current != null && current.isFresh(clock.instant())) {
+                hits.increment();
+                mine.complete(current.info);
+                return current.info;
+            }
+            misses.increment();
+            BroadcastInfo info = loader.apply(regionCode);
+            entries.put(regionCode, new Entry(info, expiryOf(info)));
+            mine.complete(info);
+            return info;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(regionCode, mine);
+        }
+    }
+
+    public void invalidate(String regionCode) {
+        entries.remove(regionCode);
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("size", (long) entries.size());
+        return stats;
+    }
+
+    private Instant expiryOf(BroadcastInfo info) {
+        Instant now = clock.instant();
+        if (TbnService.LOAD_FAILED.equals(info.getTitle()) || info.isStale()) {
+            return now.plus(MIN_TTL);
+        }
+        Instant end = BroadcastTimes.programEnd(info.getTime(), now);
+        if (end == null) {
+            return now.plus(DEFAULT_TTL);
+        }
+        if (end.isBefore(now.plus(MIN_TTL))) {
+            return now.plus(MIN_TTL);
+        }
+        if (end.isAfter(now.plus(MAX_TTL))) {
+            return now.plus(MAX_TTL);
+        }
+        return end;
+    }
+
+    private static BroadcastInfo await(CompletableFuture<BroadcastInfo> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final BroadcastInfo info;
+        private final Instant expiresAt;
+
+        private Entry(BroadcastInfo info, Instant expiresAt) {
+            this.info = info;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isFresh(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.BroadcastInfo;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 모든 지역의 방송 정보를 백그라운드에서 미리 받아 두는 컴포넌트
+// 각 지역은 현재 프로그램이 끝난 직후(+지터)에 다시 조회하고,
+// 요청 스레드는 불변 스냅샷만 읽으므로 tbn.or.kr 를 직접 호출하지 않는다.
+@Service
+public class BroadcastPrefetcher {
+
+    // 프로그램 종료 후 사이트가 다음 편성으로 바뀔 때까지 기다리는 시간
+    private static final Duration AFTER_PROGRAM_END = Duration.ofSeconds(5);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration UNKNOWN_END_DELAY = Duration.ofMinutes(5);
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Autowired
+    private BroadcastStreamHub broadcastStreamHub;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tbn.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tbn.prefetch.threads:4}")
+    private int threads;
+
+    @Value("${tbn.prefetch.jitter-seconds:20}")
+    private int jitterSeconds;
+
+    @Value("${tbn.broadcast.bulk-deadline-ms:1500}")
+    private long bulkDeadlineMillis;
+
+    private volatile Map<String, BroadcastSnapshot> snapshots = Map.of();
+
+    // 지역별 예약된 다음 갱신 (한 지역에 예약은 항상 하나)
+    private final Map<String, ScheduledFuture<?>> nextRefresh = new ConcurrentHashMap<>();
+    // 진행 중인 갱신 (같은 지역의 즉시 갱신 요청은 하나로 합친다)
+    private final Map<String, CompletableFuture<BroadcastSnapshot>> refreshing = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ThreadPoolExecutor fetchPool;
+
+    // 실행기는 항상 만든다. enabled=false 면 시작 시 워밍업과 예약 갱신만 하지 않고,
+    // 일괄 조회가 부르는 즉시 갱신(refreshNow)은 그대로 동작한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int regionCount = tbnService.getAllRegions().size();
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("tbn-prefetch-scheduler"));
+        fetchPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(regionCount * 2), daemonThreads("tbn-prefetch"));
+        if (!enabled) {
+            return;
+        }
+
+        // 시작 시 전 지역을 병렬로 한 번 받아 온다
+        for (String regionCode : tbnService.getAllRegions().keySet()) {
+            refreshNow(regionCode);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (fetchPool != null) {
+            fetchPool.shutdownNow();
+        }
+    }
+
+    // 전 지역 방송 정보를 한 번에 조회
+    // 프로그램이 이미 끝났거나 스냅샷이 없는 지역은 병렬로 즉시 갱신하고,
+    // 지역별 마감 시간 안에 갱신되지 않으면 이전 값을 stale 로 표시해 내려준다.
+    // 호출 스레드는 기다리지 않는다 (모든 지역이 끝나거나 마감되면 완료)
+    public CompletableFuture<Map<String, BroadcastInfo>> getAllBroadcastInfo() {
+        Instant now = Instant.now();
+        List<String> regionCodes = tbnService.getAllRegions().keySet().stream()
+                .sorted(Comparator.comparingInt(Integer::parseInt))
+                .toList();
+
+        Map<String, CompletableFuture<BroadcastInfo>> futures = new LinkedHashMap<>();
+        for (String regionCode : regionCodes) {
+            BroadcastSnapshot snapshot = snapshots.get(regionCode);
+            if (isCurrent(snapshot, now)) {
+                futures.put(regionCode, CompletableFuture.completedFuture(snapshot.getInfo()));
+            } else {
+                futures.put(regionCode, refreshNow(regionCode).copy()
+                        .thenApply(BroadcastSnapshot::getInfo)
+                        .completeOnTimeout(null, bulkDeadlineMillis, TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> null));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    Map<String, BroadcastInfo> result = new LinkedHashMap<>();
+                    futures.forEach((regionCode, future) -> {
+                        BroadcastInfo info = future.join();
+                        result.put(regionCode, info != null ? info : staleInfo(regionCode));
+                    });
+                    return result;
+                });
+    }
+
+    // 꺼져 있으면 스냅샷이 예약 갱신되지 않는다 (단일 지역 조회는 TbnService 로 직접)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 요청 스레드용: 스냅샷만 읽는다 (아직 첫 조회 전이면 null)
+    public BroadcastSnapshot getSnapshot(String regionCode) {
+        return snapshots.get(regionCode);
+    }
+
+    public Map<String, BroadcastSnapshot> getSnapshots() {
+        return snapshots;
+    }
+
+    // 스냅샷이 제때 갱신되지 않았는지. 실패한 조회는 스냅샷을 바꾸지 않으므로 fetchedAt 으로 판단한다:
+    // 예정된 다음 조회 시각(+지터)에서 재시도 한 번 만큼 더 지나도록 새 정상 조회가 없으면 stale
+    public boolean isStale(BroadcastSnapshot snapshot, Instant now) {
+        Instant due = snapshot.getFetchedAt()
+                .plus(refreshDelay(snapshot.getProgramEnd(), snapshot.getFetchedAt()))
+                .plusSeconds(Math.max(jitterSeconds, 0))
+                .plus(RETRY_DELAY);
+        return now.isAfter(due);
+    }
+
+    // 현재 방송 중인 프로그램의 스냅샷인지 (종료 시각을 모르면 주기 갱신에 맡긴다)
+    private static boolean isCurrent(BroadcastSnapshot snapshot, Instant now) {
+        return snapshot != null && (snapshot.getProgramEnd() == null || now.isBefore(snapshot.getProgramEnd()));
+    }
+
+    private BroadcastInfo staleInfo(String regionCode) {
+        BroadcastSnapshot snapshot = snapshots.get(regionCode);
+        BroadcastInfo base = snapshot != null ? snapshot.getInfo() : tbnService.emptyInfo(regionCode);
+        BroadcastInfo stale = new BroadcastInfo(base.getTitle(), base.getMc(), base.getTime(),
+                base.getRegionCode(), base.getRegionName());
+        stale.setStale(true);
+        if (snapshot != null) {
+            stale.setAgeSeconds(Duration.between(snapshot.getFetchedAt(), Instant.now()).getSeconds());
+        }
+        return stale;
+    }
+
+    // 지역을 바로 갱신한다. 이미 갱신 중이면 그 결과를 공유한다.
+    // 성공하면 새 스냅샷으로, 실패하면 예외로 완료된다.
+    private CompletableFuture<BroadcastSnapshot> refreshNow(String regionCode) {
+        CompletableFuture<BroadcastSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<BroadcastSnapshot> running = refreshing.putIfAbsent(regionCode, mine);
+        if (running != null) {
+            return running;
+        }
+        try {
+            fetchPool.execute(() -> refresh(regionCode, mine));
+        } catch (RuntimeException e) {
+            // 큐가 찼거나(RejectedExecutionException) 실행기 문제: 등록한 future 를 치우고 실패로 끝내야
+            // 다음 일괄 조회가 끝나지 않는 future 를 마감 시간까지 기다리지 않는다
+            System.out.println("❌ 방송 정보 갱신 요청 실패 (" + regionCode + "): " + e.getMessage());
+            refreshing.remove(regionCode, mine);
+            mine.completeExceptionally(e);
+            if (fetchPool != null && !fetchPool.isShutdown()) {
+                schedule(regionCode, RETRY_DELAY);
+            }
+        }
+        return mine;
+    }
+
+    private void refresh(String regionCode, CompletableFuture<BroadcastSnapshot> result) {
+        Duration delay;
+        try {
+            BroadcastInfo info = tbnService.getBroadcastInfo(regionCode);
+            delay = publish(regionCode, info, result);
+        } catch (RuntimeException e) {
+            System.out.println("❌ 방송 정보 프리페치 실패 (" + regionCode + "): " + e.getMessage());
+            result.completeExceptionally(e);
+            delay = RETRY_DELAY;
+        } finally {
+            refreshing.remove(regionCode, result);
+        }
+        schedule(regionCode, delay);
+    }
+
+    // 스냅샷을 갱신하고 다음 조회까지의 지연 시간을 돌려준다
+    private Duration publish(String regionCode, BroadcastInfo info, CompletableFuture<BroadcastSnapshot> result) {
+        if (TbnService.LOAD_FAILED.equals(info.getTitle()) || info.isStale()) {
+            // 실패(브레이커 열림 포함) 시 마지막 정상 스냅샷을 유지한다
+            result.completeExceptionally(new IllegalStateException("TBN 방송 정보 로드 실패: " + regionCode));
+            return RETRY_DELAY;
+        }
+
+        Instant now = Instant.now();
+        Instant programEnd = BroadcastTimes.programEnd(info.getTime(), now);
+        BroadcastSnapshot snapshot = new BroadcastSnapshot(info, now, programEnd, etagOf(info));
+        BroadcastSnapshot previous = replace(regionCode, snapshot);
+        result.complete(snapshot);
+        // 구독자별이 아니라 지역별로 한 번만 비교해서 바뀐 경우에만 스트림으로 보낸다
+        if (previous == null || changed(previous.getInfo(), info)) {
+            broadcastStreamHub.publish(regionCode, info);
+        }
+
+        return refreshDelay(programEnd, now);
+    }
+
+    // 정상 조회 뒤 다음 조회까지의 지연 (지터 제외)
+    private static Duration refreshDelay(Instant programEnd, Instant fetchedAt) {
+        if (programEnd == null) {
+            return UNKNOWN_END_DELAY;
+        }
+        Duration untilEnd = Duration.between(fetchedAt, programEnd.plus(AFTER_PROGRAM_END));
+        // 이미 끝난 프로그램이 아직 내려오는 경우 곧 다시 조회
+        return untilEnd.compareTo(RETRY_DELAY) < 0 ? RETRY_DELAY : untilEnd;
+    }
+
+    // copy-on-write 로 스냅샷 교체, 이전 스냅샷을 돌려준다
+    private synchronized BroadcastSnapshot replace(String regionCode, BroadcastSnapshot snapshot) {
+        Map<String, BroadcastSnapshot> next = new HashMap<>(snapshots);
+        BroadcastSnapshot previous = next.put(regionCode, snapshot);
+        snapshots = Map.copyOf(next);
+        return previous;
+    }
+
+    // 컨트롤러가 내려줄 본문과 같은 JSON 으로 계산한다
+    private String etagOf(BroadcastInfo info) {
+        try {
+            return ContentETag.of(objectMapper.writeValueAsBytes(info));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방송 정보 직렬화 실패", e);
+        }
+    }
+
+    private static boolean changed(BroadcastInfo before, BroadcastInfo after) {
+        return !Objects.equals(before.getTitle(), after.getTitle())
+                || !Objects.equals(before.getMc(), after.getMc())
+                || !Objects.equals(before.getTime(), after.getTime());
+    }
+
+    private void schedule(String regionCode, Duration delay) {
+        if (!enabled || scheduler == null || scheduler.isShutdown()) {
+            return;
+        }
+        long jitterMillis = jitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(jitterSeconds * 1000L) : 0L;
+        try {
+            ScheduledFuture<?> next = scheduler.schedule(() -> refreshNow(regionCode),
+                    delay.toMillis() + jitterMillis, TimeUnit.MILLISECONDS);
+            ScheduledFuture<?> previous = nextRefresh.put(regionCode, next);
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
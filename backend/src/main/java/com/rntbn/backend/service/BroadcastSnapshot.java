@@ -0,0 +1,39 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.BroadcastInfo;
+
+import java.time.Instant;
+
+// 프리페처가 게시하는 지역별 방송 정보 스냅샷 (불변)
+public final class BroadcastSnapshot {
+
+    private final BroadcastInfo info;
+    private final Instant fetchedAt;
+    private final Instant programEnd;
+    // 스냅샷마다 한 번 계산하는 응답 ETag
+    private final String etag;
+
+    public BroadcastSnapshot(BroadcastInfo info, Instant fetchedAt, Instant programEnd, String etag) {
+        this.info = info;
+        this.fetchedAt = fetchedAt;
+        this.programEnd = programEnd;
+        this.etag = etag;
+    }
+
+    public BroadcastInfo getInfo() {
+        return info;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    // 방송시간을 파싱하지 못했으면 null
+    public Instant getProgramEnd() {
+        return programEnd;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,241 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.BroadcastInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지역별 현재 방송 정보 SSE 스트림
+// - 변경 감지는 프리페처가 지역당 한 번 하고 (제목/진행자/시간이 바뀐 경우만) 여기로 넘긴다
+// - 이벤트는 변경마다 한 번만 직렬화해서 모든 구독자에게 같은 바이트 배열을 보낸다
+// - 구독자는 스레드를 잡지 않는다 (서블릿 async + 논블로킹 쓰기, BroadcastStreamListener).
+//   이벤트/하트비트는 구독자 칸에 넣고 알리기만 하므로 밀린 연결이 있어도 다른 구독자 전송이 늦어지지 않는다
+// - 밀린 구독자는 최신 이벤트 하나만 들고 있다가 쓸 수 있게 되면 받는다. stall-timeout 넘게 밀리면 끊는다
+// - 이벤트 id 는 지역별로 증가하는 버전. 재접속 시 Last-Event-ID 가 현재 버전과 같으면 다시 보내지 않는다
+@Service
+public class BroadcastStreamHub {
+
+    static final String EVENT_NAME = "broadcast";
+    static final byte[] HEARTBEAT = ":hb\n\n".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tbn.stream.max-subscribers:50000}")
+    private int maxSubscribers;
+
+    @Value("${tbn.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${tbn.stream.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${tbn.stream.retry-ms:3000}")
+    private long retryMillis;
+
+    @Value("${tbn.stream.stall-timeout-seconds:60}")
+    private long stallTimeoutSeconds;
+
+    // 지역별 마지막 이벤트 (아직 조회 전이면 없음)
+    private final Map<String, Frame> latest = new ConcurrentHashMap<>();
+    private final Map<String, Set<BroadcastStreamListener>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    // 재접속 간격 + 응답을 바로 내보내기 위한 주석
+    private byte[] preamble;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        preamble = ("retry: " + retryMillis + "\n:connected\n\n").getBytes(StandardCharsets.UTF_8);
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tbn-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        for (Set<BroadcastStreamListener> region : subscribers.values()) {
+            for (BroadcastStreamListener subscriber : region) {
+                subscriber.close();
+            }
+        }
+    }
+
+    // 구독 시작 (요청을 async 로 넘긴다). 동시 구독자가 가득 찼으면 false (응답은 건드리지 않음)
+    public boolean subscribe(String regionCode, String lastEventId, HttpServletRequest request) throws IOException {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        AsyncContext async = request.startAsync();
+        async.setTimeout(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        HttpServletResponse response = (HttpServletResponse) async.getResponse();
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        // 프록시(nginx)가 이벤트를 모아 두지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        BroadcastStreamListener subscriber = new BroadcastStreamListener(this, regionCode, async,
+                parseVersion(lastEventId));
+        subscribers.computeIfAbsent(regionCode, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        // 놓친 변경이 있으면 (또는 첫 접속이면) 현재 값부터. 쓰기는 start 뒤 첫 onWritePossible 에서
+        Frame current = latest.get(regionCode);
+        if (current != null) {
+            subscriber.offer(current);
+        }
+        subscriber.start();
+        return true;
+    }
+
+    // 프리페처가 지역의 방송 정보가 바뀌었을 때 호출한다 (지역당 한 번)
+    public void publish(String regionCode, BroadcastInfo info) {
+        Frame frame;
+        synchronized (this) {
+            Frame previous = latest.get(regionCode);
+            // 재시작 후에도 이전 id 보다 커지도록 시각 기반으로 올린다
+            long version = Math.max(System.currentTimeMillis(), previous != null ? previous.version + 1 : 0);
+            frame = new Frame(version, serialize(info), regionCode);
+            latest.put(regionCode, frame);
+        }
+        events.increment();
+        try {
+            // 구독자 칸 채우기는 프리페치 스레드가 아닌 스트림 스레드에서
+            executor.execute(() -> fanOut(frame));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("subscribers", (long) subscriberCount.get());
+        stats.put("events", events.sum());
+        stats.put("deliveries", deliveries.sum());
+        stats.put("heartbeats", heartbeats.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("disconnected", disconnected.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("stalled", stalled.sum());
+        return stats;
+    }
+
+    private void fanOut(Frame frame) {
+        Set<BroadcastStreamListener> region = subscribers.get(frame.regionCode);
+        if (region == null) {
+            return;
+        }
+        for (BroadcastStreamListener subscriber : region) {
+            subscriber.offer(frame);
+        }
+    }
+
+    // 하트비트 표시를 남기고, 너무 오래 밀린 구독자는 끊는다
+    private void heartbeat() {
+        long now = System.nanoTime();
+        long stallNanos = TimeUnit.SECONDS.toNanos(stallTimeoutSeconds);
+        for (Set<BroadcastStreamListener> region : subscribers.values()) {
+            for (BroadcastStreamListener subscriber : region) {
+                if (subscriber.isStalled(now, stallNanos)) {
+                    stalled.increment();
+                    subscriber.close();
+                } else {
+                    subscriber.heartbeat();
+                }
+            }
+        }
+    }
+
+    byte[] preamble() {
+        return preamble;
+    }
+
+    void delivered() {
+        deliveries.increment();
+    }
+
+    void heartbeatSent() {
+        heartbeats.increment();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void remove(BroadcastStreamListener subscriber) {
+        Set<BroadcastStreamListener> region = subscribers.get(subscriber.regionCode());
+        if (region != null && region.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            disconnected.increment();
+        }
+    }
+
+    private String serialize(BroadcastInfo info) {
+        try {
+            return objectMapper.writeValueAsString(info);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방송 정보 직렬화 실패", e);
+        }
+    }
+
+    private static long parseVersion(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 한 번 직렬화한 이벤트 (SSE 프레임 바이트를 모든 구독자가 같이 쓴다)
+    static final class Frame {
+        final long version;
+        final byte[] bytes;
+        private final String regionCode;
+
+        Frame(long version, String json, String regionCode) {
+            this.version = version;
+            this.regionCode = regionCode;
+            // JSON 은 한 줄 (문자열 안의 줄바꿈은 이스케이프됨)
+            this.bytes = ("id: " + version + "\nevent: " + EVENT_NAME + "\ndata: " + json + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.rntbn.backend.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 방송 정보 SSE 구독자 하나 (논블로킹 쓰기)
+// 보낼 것은 "마지막 이벤트 한 칸 + 하트비트 표시"뿐이다. 소켓이 밀리면(isReady=false) 쓰기를 멈추고,
+// 그 사이 들어온 이벤트는 칸을 덮어써서 최신 것만 남긴다. 톰캣이 onWritePossible 로 부르면 이어 쓴다.
+// → 느린 구독자가 있어도 이벤트/하트비트를 보내는 스레드는 기다리지 않는다
+final class BroadcastStreamListener implements WriteListener, AsyncListener {
+
+    private final BroadcastStreamHub hub;
+    private final String regionCode;
+    private final AsyncContext async;
+    private ServletOutputStream out;
+
+    // 아직 보내지 않은 가장 새 이벤트
+    private final AtomicReference<BroadcastStreamHub.Frame> pending = new AtomicReference<>();
+    private volatile boolean heartbeatDue;
+    // 쓰기가 밀리기 시작한 시각 (nanoTime, 0 이면 밀리지 않음)
+    private volatile long blockedSince;
+
+    // drain 안에서만 바뀐다
+    private boolean preambleSent;
+    private long lastVersion;
+
+    // drain 을 한 스레드에서만 돌리기 위한 작업 카운터 (스트림 스레드와 톰캣 스레드가 함께 부른다)
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    BroadcastStreamListener(BroadcastStreamHub hub, String regionCode, AsyncContext async, long lastVersion) {
+        this.hub = hub;
+        this.regionCode = regionCode;
+        this.async = async;
+        this.lastVersion = lastVersion;
+    }
+
+    String regionCode() {
+        return regionCode;
+    }
+
+    void start() throws IOException {
+        async.addListener(this);
+        out = async.getResponse().getOutputStream();
+        // 등록하면 톰캣이 곧바로 onWritePossible 을 부른다
+        out.setWriteListener(this);
+    }
+
+    // 같은 지역의 새 이벤트. 보내지 못한 이전 이벤트가 있으면 버리고 새 것만 남긴다
+    void offer(BroadcastStreamHub.Frame frame) {
+        BroadcastStreamHub.Frame previous = pending.getAndAccumulate(frame,
+                (current, next) -> current == null || next.version > current.version ? next : current);
+        if (previous != null && frame.version > previous.version) {
+            hub.dropped();
+        }
+        signal();
+    }
+
+    void heartbeat() {
+        heartbeatDue = true;
+        signal();
+    }
+
+    // 쓰기가 stallNanos 넘게 밀려 있으면 true
+    boolean isStalled(long now, long stallNanos) {
+        long since = blockedSince;
+        return since != 0 && now - since > stallNanos;
+    }
+
+    private void signal() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            drain();
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void drain() {
+        if (closed.get() || out == null) {
+            return;
+        }
+        try {
+            while (out.isReady()) {
+                byte[] bytes = next();
+                if (bytes == null) {
+                    // 다 보냄: 응답 버퍼에 남은 것을 내보낸다. 소켓이 다 받지 못하면 다시 불릴 때까지 기다린다
+                    out.flush();
+                    if (out.isReady()) {
+                        blockedSince = 0;
+                    } else {
+                        markBlocked();
+                    }
+                    return;
+                }
+                out.write(bytes);
+            }
+            markBlocked();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었다
+            close();
+        }
+    }
+
+    private byte[] next() {
+        if (!preambleSent) {
+            preambleSent = true;
+            return hub.preamble();
+        }
+        BroadcastStreamHub.Frame frame = pending.getAndSet(null);
+        // 구독 직후 현재 값과 변경 이벤트가 겹쳐도 같은 버전은 한 번만 보낸다
+        if (frame != null && frame.version > lastVersion) {
+            lastVersion = frame.version;
+            hub.delivered();
+            return frame.bytes;
+        }
+        if (heartbeatDue) {
+            heartbeatDue = false;
+            hub.heartbeatSent();
+            return BroadcastStreamHub.HEARTBEAT;
+        }
+        return null;
+    }
+
+    private void markBlocked() {
+        if (blockedSince == 0) {
+            blockedSince = System.nanoTime();
+        }
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        hub.remove(this);
+        complete();
+    }
+
+    private void complete() {
+        try {
+            async.complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 요청
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    // 스트림 스레드에서 쓰다 끊긴 경우 close 가 먼저 불렸더라도 여기서 다시 끝내야 톰캣이 오류 페이지(/error)로 넘기지 않는다
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+        complete();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.rntbn.backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 방송시간 문자열("18:05 ~ 19:55") 계산 유틸
+public final class BroadcastTimes {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final Pattern RANGE = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*~\\s*(\\d{1,2}):(\\d{2})");
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private BroadcastTimes() {
+    }
+
+    // 현재 프로그램의 종료 시각 (파싱할 수 없으면 null)
+    // 자정을 넘기는 편성("23:00 ~ 01:00")과 "24:00" 표기도 처리한다.
+    // 프로그램이 시작한 날은 어제/오늘/내일 중 시작 시각이 지금과 가장 가까운 날로 본다
+    // (자정 뒤에 아직 내려오는 "23:00 ~ 24:00" 은 어제 시작해서 이미 끝난 프로그램)
+    public static Instant programEnd(String time, Instant now) {
+        if (time == null) {
+            return null;
+        }
+        Matcher m = RANGE.matcher(time);
+        if (!m.find()) {
+            return null;
+        }
+        int startMin = Integer.parseInt(m.group(1)) * 60 + Integer.parseInt(m.group(2));
+        int endMin = Integer.parseInt(m.group(3)) * 60 + Integer.parseInt(m.group(4));
+        if (startMin > MINUTES_PER_DAY || endMin > MINUTES_PER_DAY
+                || Integer.parseInt(m.group(2)) >= 60 || Integer.parseInt(m.group(4)) >= 60) {
+            return null;
+        }
+        int durationMin = endMin - startMin;
+        if (durationMin <= 0) {
+            durationMin += MINUTES_PER_DAY;
+        }
+        startMin %= MINUTES_PER_DAY;
+
+        LocalDate today = now.atZone(ZONE).toLocalDate();
+        ZonedDateTime start = null;
+        for (int offset = -1; offset <= 1; offset++) {
+            ZonedDateTime candidate = today.plusDays(offset).atStartOfDay(ZONE).plusMinutes(startMin);
+            if (start == null || distance(candidate, now) < distance(start, now)) {
+                start = candidate;
+            }
+        }
+        return start.plusMinutes(durationMin).toInstant();
+    }
+
+    private static long distance(ZonedDateTime time, Instant now) {
+        return Math.abs(Duration.between(now, time.toInstant()).toMinutes());
+    }
+}
@@ -0,0 +1,77 @@
+package com.rntbn.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+// 업스트림 호출용 서킷 브레이커 (지역마다 하나)
+// - CLOSED: 연속 실패가 failure-threshold 에 닿으면 OPEN
+// - OPEN: open-duration 동안 호출하지 않는다 (호출자는 마지막 정상 값으로 응답)
+// - HALF_OPEN: 시간이 지나면 한 요청만 프로브로 보내고, 성공하면 CLOSED / 실패하면 다시 OPEN
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    // HALF_OPEN 에서 프로브가 나가 있는지
+    private boolean probing;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    // 호출해도 되는지. true 를 받으면 반드시 onSuccess/onFailure/release 중 하나를 호출한다
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probing = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            probing = false;
+        }
+    }
+
+    // 허가를 받았지만 호출하지 못한 경우 (벌크헤드 거절 등) — 결과로 치지 않는다
+    public synchronized void release() {
+        probing = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,239 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.entity.CommentHideJob;
+import com.rntbn.backend.repository.CommentHideJobRepository;
+import com.rntbn.backend.repository.CommentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 탈퇴 사용자 댓글 숨김을 백그라운드에서 id 구간 청크 단위로 처리한다
+// - 청크 하나 = 짧은 트랜잭션 하나 (UPDATE 최대 chunk-size 행 + 진행 위치 저장)
+// - 청크 사이에 pause 를 둬서 채팅 INSERT 가 락을 오래 기다리지 않게 한다
+// - 진행 위치(lastCommentId)가 같은 트랜잭션에 저장되므로 재시작하면 남은 구간부터 이어서 처리한다
+// - 빈 청크가 나오면 write-behind 버퍼에 남은 탈퇴 전 댓글이 저장될 때까지 기다렸다가 한 번 더 확인하고 완료한다
+// - 실패하면 retry-backoff-ms 부터 두 배씩 (최대 1분) 늘려 max-retries 번까지 다시 시도하고,
+//   그래도 안 되면 PENDING 으로 남겨 두고 다음 기동 때 이어서 처리한다
+@Service
+public class CommentHideJobRunner {
+
+    private static final long MAX_RETRY_BACKOFF_MS = 60_000;
+    // 배치 저장 재시도까지 포함해도 충분한 시간
+    private static final long FLUSH_WAIT_MS = 30_000;
+
+    @Autowired
+    private CommentHideJobRepository commentHideJobRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RecentCommentCache recentCommentCache;
+
+    @Autowired
+    private CommentWriteBehind commentWriteBehind;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${chat.hide-job.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${chat.hide-job.pause-ms:50}")
+    private long pauseMillis;
+
+    @Value("${chat.hide-job.max-retries:10}")
+    private int maxRetries;
+
+    @Value("${chat.hide-job.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+    // 이미 큐에 있거나 진행 중인 작업
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    // 빈 청크 이후 write-behind 버퍼를 비운 작업 (다음 빈 청크에서 완료)
+    private final Set<Long> drained = ConcurrentHashMap.newKeySet();
+    // 연속 실패 횟수
+    private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "comment-hide-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 지난 실행에서 끝나지 않은 작업을 이어서 처리한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        for (CommentHideJob job : commentHideJobRepository.findByStatusOrderByIdAsc(CommentHideJob.STATUS_PENDING)) {
+            submit(job.getId());
+        }
+    }
+
+    // 작업을 만들고 현재 트랜잭션이 커밋된 뒤에 시작한다 (탈퇴가 롤백되면 작업도 없다)
+    public CommentHideJob enqueue(Long userId, LocalDateTime cutoff) {
+        CommentHideJob job = commentHideJobRepository.save(new CommentHideJob(userId, cutoff));
+        Long jobId = job.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+        return job;
+    }
+
+    private void submit(Long jobId) {
+        if (active.add(jobId)) {
+            executor.execute(() -> runChunk(jobId));
+        }
+    }
+
+    private void runChunk(Long jobId) {
+        Chunk chunk;
+        try {
+            chunk = transactionTemplate.execute(status -> processChunk(jobId));
+        } catch (RuntimeException e) {
+            // 진행 위치는 마지막으로 커밋된 청크에 남아 있으므로 잠시 후 같은 위치부터 다시 시도
+            retryLater(jobId, "청크 실패 - " + e.getMessage());
+            return;
+        }
+        if (chunk == null) {
+            finish(jobId);
+            return;
+        }
+        CommentHideJob job = chunk.job;
+        if (!chunk.empty) {
+            // 진행이 있을 때만 실패 횟수를 초기화 (빈 청크 → 버퍼 대기 실패가 반복되면 한도에 걸린다)
+            failures.remove(jobId);
+        }
+
+        // 커밋된 만큼 메모리 캐시에서도 뺀다
+        recentCommentCache.hideByUserBetween(job.getUserId(), LocalDateTime.MIN, job.getCutoff());
+
+        if (CommentHideJob.STATUS_DONE.equals(job.getStatus())) {
+            finish(jobId);
+            System.out.println("CommentHideJob " + jobId + " 완료: userId=" + job.getUserId()
+                    + ", 숨긴 댓글 " + job.getHiddenCount() + "개");
+            return;
+        }
+        if (chunk.empty) {
+            awaitWriteBehind(jobId);
+            return;
+        }
+        executor.schedule(() -> runChunk(jobId), pauseMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 탈퇴 전에 submit 됐지만 아직 버퍼에 있는 댓글은 빈 청크 뒤에 저장될 수 있다.
+    // 버퍼가 그 시점까지 비워진 뒤 청크를 한 번 더 돌려서 늦게 저장된 댓글까지 숨긴다
+    private void awaitWriteBehind(Long jobId) {
+        CompletableFuture<Void> barrier = commentWriteBehind.flushBarrier();
+        if (barrier == null) {
+            retryLater(jobId, "write-behind 버퍼가 가득 차 있음");
+            return;
+        }
+        barrier.orTimeout(FLUSH_WAIT_MS, TimeUnit.MILLISECONDS).whenComplete((ignored, error) -> {
+            try {
+                executor.execute(() -> {
+                    if (error != null) {
+                        retryLater(jobId, "write-behind 저장 대기 실패 - " + error);
+                        return;
+                    }
+                    drained.add(jobId);
+                    runChunk(jobId);
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중 (작업은 PENDING 으로 남아 다음 기동 때 이어서 처리)
+            }
+        });
+    }
+
+    private void retryLater(Long jobId, String reason) {
+        int attempt = failures.merge(jobId, 1, Integer::sum);
+        if (attempt > maxRetries) {
+            finish(jobId);
+            System.out.println("❌ CommentHideJob " + jobId + " 재시도 " + maxRetries
+                    + "회 초과, 다음 기동 때 이어서 처리 - " + reason);
+            return;
+        }
+        long delay = Math.min(retryBackoffMillis << Math.min(attempt - 1, 20), MAX_RETRY_BACKOFF_MS);
+        System.out.println("CommentHideJob " + jobId + " 재시도 예정 (" + attempt + "/" + maxRetries + ", "
+                + delay + "ms 후) - " + reason);
+        executor.schedule(() -> runChunk(jobId), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void finish(Long jobId) {
+        failures.remove(jobId);
+        drained.remove(jobId);
+        active.remove(jobId);
+    }
+
+    // 한 트랜잭션: 다음 청크의 id 구간을 찾고, 그 구간만 숨기고, 진행 위치를 저장
+    private Chunk processChunk(Long jobId) {
+        CommentHideJob job = commentHideJobRepository.findById(jobId).orElse(null);
+        if (job == null || CommentHideJob.STATUS_DONE.equals(job.getStatus())) {
+            return null;
+        }
+
+        List<Long> ids = commentRepository.findVisibleIdsAfter(job.getUserId(), job.getLastCommentId(),
+                job.getCutoff(), Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            if (!drained.contains(jobId)) {
+                return new Chunk(job, true);
+            }
+            job.setStatus(CommentHideJob.STATUS_DONE);
+            return new Chunk(commentHideJobRepository.save(job), true);
+        }
+
+        Long upToId = ids.get(ids.size() - 1);
+        int hidden = commentRepository.hideByUserIdAndIdRange(job.getUserId(), job.getLastCommentId(), upToId,
+                job.getCutoff());
+        job.setLastCommentId(upToId);
+        job.setHiddenCount(job.getHiddenCount() + hidden);
+        return new Chunk(commentHideJobRepository.save(job), false);
+    }
+
+    private static final class Chunk {
+        private final CommentHideJob job;
+        private final boolean empty;
+
+        private Chunk(CommentHideJob job, boolean empty) {
+            this.job = job;
+            this.empty = empty;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.CommentPage;
+import com.rntbn.backend.dto.CommentView;
+import com.rntbn.backend.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+// 지역별 댓글 조회 (최신순 keyset 페이지네이션)
+// 커서는 마지막으로 받은 댓글의 (createdAt, id) 를 base64url 로 감싼 값이라 테이블이 커져도 페이지 비용이 일정하다.
+@Service
+public class CommentService {
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RecentCommentCache recentCommentCache;
+
+    // cursor 가 null 이면 첫 페이지. 잘못된 cursor 는 IllegalArgumentException
+    public CommentPage getComments(String regionCode, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 개 더 읽어서 다음 페이지가 있는지 판단한다 (COUNT 쿼리 없음)
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CommentView> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            // 첫 페이지는 메모리의 최신 댓글에서 (모자라면 DB)
+            rows = recentCommentCache.latest(regionCode, pageSize + 1);
+            if (rows == null) {
+                rows = commentRepository.findLatestViews(regionCode, limit);
+            }
+        } else {
+            Cursor position = decodeCursor(cursor);
+            rows = commentRepository.findViewsBefore(regionCode, position.createdAt, position.id, limit);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    // 사용자의 댓글을 모두 숨긴다 (DB 와 메모리 캐시 함께)
+    public void hideAllByUser(Long userId) {
+        commentRepository.hideAllByUserId(userId);
+        recentCommentCache.hideByUser(userId);
+    }
+
+    public void hideByUserBetween(Long userId, LocalDateTime start, LocalDateTime end) {
+        commentRepository.hideAllByUserIdAndCreatedAtBetween(userId, start, end);
+        recentCommentCache.hideByUserBetween(userId, start, end);
+    }
+
+    public Map<String, Long> getRecentCacheStats() {
+        return recentCommentCache.stats();
+    }
+
+    static CommentPage toPage(List<CommentView> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CommentPage(rows, null);
+        }
+        List<CommentView> page = rows.subList(0, pageSize);
+        CommentView last = page.get(pageSize - 1);
+        return new CommentPage(page, encodeCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int bar = raw.indexOf('|');
+            if (bar < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, bar)), Long.parseLong(raw.substring(bar + 1)));
+        } catch (DateTimeParseException e) {
+            // NumberFormatException 과 Base64 오류는 이미 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    static final class Cursor {
+        final LocalDateTime createdAt;
+        final Long id;
+
+        Cursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+    }
+}
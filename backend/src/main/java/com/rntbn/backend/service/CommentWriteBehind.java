@@ -0,0 +1,305 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.CommentView;
+import com.rntbn.backend.entity.Comment;
+import com.rntbn.backend.repository.CommentRepository;
+import com.rntbn.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 채팅 메시지를 comments 테이블에 모아서 저장한다 (write-behind)
+// - batch-size 만큼 모이거나 첫 메시지 후 flush-interval 이 지나면 한 트랜잭션에서 JDBC 배치로 INSERT
+// - 버퍼가 가득 차면 offer-timeout 동안 기다린 뒤 거절한다 → 호출자는 전송 실패로 처리 (조용히 버리지 않음)
+// - 내구성: submit 이 true 를 돌려준 메시지는 메모리에만 있다. 정상 종료 시에는 남은 버퍼를 모두 저장하지만
+//   프로세스가 비정상 종료되면 아직 저장되지 않은 메시지(최대 buffer-capacity 개)는 유실된다.
+// - 배치 저장이 max-attempts 번 실패하면 행 단위로 다시 저장하고, 그래도 실패한 행만 버린다.
+@Service
+public class CommentWriteBehind {
+
+    private static final long RETRY_BACKOFF_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecentCommentCache recentCommentCache;
+
+    @Value("${chat.persistence.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${chat.persistence.batch-size:100}")
+    private int batchSize;
+
+    @Value("${chat.persistence.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.persistence.offer-timeout-ms:20}")
+    private long offerTimeoutMillis;
+
+    @Value("${chat.persistence.max-attempts:3}")
+    private int maxAttempts;
+
+    private BlockingQueue<PendingComment> buffer;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder cacheFailures = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writer = new Thread(this::run, "comment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 저장 대기열에 넣는다. 버퍼가 가득 차서 넣지 못하면 false
+    public boolean submit(String regionCode, Long userId, String nickname, String content, LocalDateTime createdAt) {
+        if (!running) {
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (buffer.offer(new PendingComment(regionCode, userId, nickname, content, createdAt),
+                    offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                submitted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    // 지금까지 submit 된 댓글이 모두 저장(또는 포기)되면 완료되는 future.
+    // 버퍼 순서대로 처리되므로 표시를 큐 끝에 넣는다. 버퍼가 가득 찼거나 종료 중이면 null (기다리지 않음)
+    public CompletableFuture<Void> flushBarrier() {
+        if (!running) {
+            return null;
+        }
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        return buffer.offer(new PendingComment(barrier)) ? barrier : null;
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("submitted", submitted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("persisted", persisted.sum());
+        stats.put("failed", failed.sum());
+        stats.put("batches", batches.sum());
+        stats.put("cacheFailures", cacheFailures.sum());
+        stats.put("pending", (long) buffer.size());
+        return stats;
+    }
+
+    // 정상 종료 시 남은 메시지를 모두 저장한다 (리포지토리보다 먼저 정리됨)
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT_MS);
+        if (!buffer.isEmpty()) {
+            System.out.println("CommentWriteBehind: 종료 시 저장하지 못한 댓글 " + buffer.size() + "개");
+        }
+    }
+
+    private void run() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        List<CompletableFuture<Void>> barriers = new ArrayList<>();
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingComment first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                // 표시 앞에 있던 댓글은 모두 이 배치에 들어 있으므로 저장이 끝난 뒤 완료한다
+                batch.removeIf(pending -> pending.barrier != null && barriers.add(pending.barrier));
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                barriers.forEach(barrier -> barrier.complete(null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                System.out.println("CommentWriteBehind: 저장 스레드 오류 - " + e.getMessage());
+            } finally {
+                // 저장 도중 중단됐으면 기다리는 쪽에 실패로 알린다 (이미 완료된 표시는 영향 없음)
+                barriers.forEach(barrier -> barrier.completeExceptionally(
+                        new IllegalStateException("write-behind 저장이 중단됨")));
+                barriers.clear();
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 메시지 이후 flush-interval 동안 batch-size 까지 모은다
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingComment next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingComment> batch) throws InterruptedException {
+        List<Comment> saved = saveBatch(batch);
+        if (saved != null) {
+            persisted.add(batch.size());
+            batches.increment();
+            cacheCommitted(batch, saved);
+            return;
+        }
+
+        // 배치 전체가 계속 실패하면 문제 행만 골라내기 위해 한 건씩 저장
+        for (PendingComment pending : batch) {
+            Comment row;
+            try {
+                row = transactionTemplate.execute(status -> commentRepository.save(toEntity(pending)));
+            } catch (RuntimeException e) {
+                failed.increment();
+                System.out.println("CommentWriteBehind: 댓글 저장 실패, 버림 (region=" + pending.regionCode
+                        + ", userId=" + pending.userId + ") - " + e.getMessage());
+                continue;
+            }
+            persisted.increment();
+            cacheCommitted(List.of(pending), List.of(row));
+        }
+    }
+
+    // 트랜잭션만 재시도한다. 모두 실패하면 null
+    private List<Comment> saveBatch(List<PendingComment> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                // 실패한 시도에서 id 가 할당됐을 수 있으므로 엔티티는 매번 새로 만든다
+                return transactionTemplate.execute(status -> commentRepository.saveAll(toEntities(batch)));
+            } catch (RuntimeException e) {
+                System.out.println("CommentWriteBehind: 배치 저장 실패 (" + attempt + "/" + maxAttempts + ") - "
+                        + e.getMessage());
+                if (attempt < maxAttempts) {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                }
+            }
+        }
+        return null;
+    }
+
+    // 커밋된 뒤에만 최신 댓글 캐시에 올린다. 여기서 실패해도 이미 저장된 댓글이므로 다시 저장하지 않고,
+    // 해당 지역 캐시를 비워 다음 조회 때 DB 에서 다시 채우게 한다
+    private void cacheCommitted(List<PendingComment> batch, List<Comment> saved) {
+        try {
+            List<CommentView> views = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                views.add(toView(saved.get(i), batch.get(i)));
+            }
+            recentCommentCache.addAll(views);
+        } catch (RuntimeException e) {
+            cacheFailures.increment();
+            System.out.println("CommentWriteBehind: 저장된 댓글 캐시 반영 실패 (" + batch.size() + "건) - "
+                    + e.getMessage());
+            for (PendingComment pending : batch) {
+                try {
+                    recentCommentCache.invalidate(pending.regionCode);
+                } catch (RuntimeException ignored) {
+                    // 캐시 자체가 망가졌으면 더 할 수 있는 것이 없다
+                }
+            }
+        }
+    }
+
+    private List<Comment> toEntities(List<PendingComment> batch) {
+        List<Comment> comments = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            comments.add(toEntity(pending));
+        }
+        return comments;
+    }
+
+    private Comment toEntity(PendingComment pending) {
+        Comment comment = new Comment();
+        comment.setRegionCode(pending.regionCode);
+        comment.setContent(pending.content);
+        comment.setCreatedAt(pending.createdAt);
+        if (pending.userId != null) {
+            // SELECT 없이 FK 만 채운다
+            comment.setUser(userRepository.getReferenceById(pending.userId));
+        }
+        return comment;
+    }
+
+    private static CommentView toView(Comment saved, PendingComment pending) {
+        return new CommentView(saved.getId(), pending.regionCode, pending.userId, pending.nickname, pending.content,
+                saved.getCreatedAt());
+    }
+
+    private static final class PendingComment {
+        private final String regionCode;
+        private final Long userId;
+        private final String nickname;
+        private final String content;
+        private final LocalDateTime createdAt;
+        // flushBarrier 표시일 때만 있음 (댓글 필드는 비어 있음)
+        private final CompletableFuture<Void> barrier;
+
+        private PendingComment(CompletableFuture<Void> barrier) {
+            this(null, null, null, null, null, barrier);
+        }
+
+        private PendingComment(String regionCode, Long userId, String nickname, String content,
+                LocalDateTime createdAt) {
+            this(regionCode, userId, nickname, content, createdAt, null);
+        }
+
+        private PendingComment(String regionCode, Long userId, String nickname, String content,
+                LocalDateTime createdAt, CompletableFuture<Void> barrier) {
+            this.regionCode = regionCode;
+            this.userId = userId;
+            this.nickname = nickname;
+            this.content = content;
+            this.createdAt = createdAt;
+            this.barrier = barrier;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.rntbn.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 크기 제한 캐시 (근사 LRU)
+// - 조회는 ConcurrentHashMap 읽기 + 항목의 마지막 접근 시각 기록뿐이라 전역 락이 없다
+// - 크기를 넘으면 한 스레드만 오래 안 쓴 항목부터 목표 크기(최대의 90%)까지 한꺼번에 지운다.
+//   정렬 비용은 그 사이에 들어온 항목 수로 나눠지고, 지우는 동안에는 잠깐 최대 크기를 넘을 수 있다
+public class ConcurrentLruCache<K, V> {
+
+    private final int maxSize;
+    private final int targetSize;
+    private final Map<K, Node<V>> map = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+
+    public ConcurrentLruCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.targetSize = Math.max(1, maxSize - Math.max(1, maxSize / 10));
+    }
+
+    public V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.lastAccess = System.nanoTime();
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        map.put(key, new Node<>(value));
+        if (map.size() > maxSize) {
+            evict();
+        }
+    }
+
+    // 이미 값이 있으면 넣지 않는다
+    public boolean putIfAbsent(K key, V value) {
+        if (map.putIfAbsent(key, new Node<>(value)) != null) {
+            return false;
+        }
+        if (map.size() > maxSize) {
+            evict();
+        }
+        return true;
+    }
+
+    public void remove(K key) {
+        map.remove(key);
+    }
+
+    // value 가 아직 그 키의 값일 때만 지운다
+    public boolean remove(K key, V value) {
+        Node<V> node = map.get(key);
+        return node != null && node.value == value && map.remove(key, node);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    // 다른 스레드가 지우는 중이면 맡기고 돌아간다. 지운 스레드는 끝낸 뒤 다시 확인해서
+    // 그 사이 들어온 항목 때문에 넘쳤으면 한 번 더 지운다
+    private void evict() {
+        do {
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                evictBatch();
+            } finally {
+                evicting.set(false);
+            }
+        } while (map.size() > maxSize);
+    }
+
+    private void evictBatch() {
+        int excess = map.size() - targetSize;
+        if (excess <= 0) {
+            return;
+        }
+        // 정렬 중에 조회가 lastAccess 를 바꾸면 비교 결과가 뒤집혀 정렬이 실패할 수 있으므로 값을 먼저 떠 둔다
+        List<Candidate<K, V>> candidates = new ArrayList<>(map.size());
+        for (Map.Entry<K, Node<V>> entry : map.entrySet()) {
+            candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+        }
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+        for (int i = 0; i < candidates.size() && excess > 0; i++) {
+            Candidate<K, V> eldest = candidates.get(i);
+            if (map.remove(eldest.key, eldest.node)) {
+                evictions.increment();
+                excess--;
+            }
+        }
+    }
+
+    private static final class Candidate<K, V> {
+        private final K key;
+        private final Node<V> node;
+        private final long lastAccess;
+
+        private Candidate(K key, Node<V> node) {
+            this.key = key;
+            this.node = node;
+            this.lastAccess = node.lastAccess;
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        // 정확한 순서가 아니라 대략적인 최근 사용 순서면 된다 (경쟁 쓰기는 그냥 덮어쓴다)
+        private volatile long lastAccess = System.nanoTime();
+
+        private Node(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.rntbn.backend.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 응답 본문(JSON 바이트)으로 만드는 strong ETag
+// 같은 내용이면 노드/재시작과 관계없이 같은 값이 나오므로 CDN 에서도 재검증할 수 있다
+public final class ContentETag {
+
+    // SHA-256 앞 16바이트면 충돌 걱정 없이 헤더를 짧게 유지할 수 있다
+    private static final int LENGTH = 16;
+
+    private ContentETag() {
+    }
+
+    public static String of(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, LENGTH) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.TrafficIncident;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+// 로컬 JSON 파일 교통정보 소스 (TrafficIncident 배열)
+// 파일이 바뀔 때만 다시 읽어 전체를 돌려준다. 파일에서 빠진 사고는 TTL 로 만료되고,
+// 바로 내리려면 "cleared": true 로 남긴다. 경로가 비어 있으면 아무것도 돌려주지 않는다.
+@Component
+public class FileTrafficIncidentSource implements TrafficIncidentSource {
+
+    private static final TypeReference<List<TrafficIncident>> INCIDENTS = new TypeReference<>() {
+    };
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tbn.traffic.file:}")
+    private String file;
+
+    private FileTime lastModified;
+
+    @Override
+    public synchronized List<TrafficIncident> poll() throws IOException {
+        if (file.isBlank()) {
+            return List.of();
+        }
+        Path path = Path.of(file);
+        FileTime modified = Files.getLastModifiedTime(path);
+        if (modified.equals(lastModified)) {
+            return List.of();
+        }
+        List<TrafficIncident> incidents = objectMapper.readValue(path.toFile(), INCIDENTS);
+        lastModified = modified;
+        return incidents;
+    }
+}
@@ -0,0 +1,18 @@
+package com.rntbn.backend.service;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+
+// Google ID 토큰 서명 검증용 공개키 공급자
+// 기본 구현은 Google JWKS 를 HTTP 로 받아 캐시하고, 테스트에서는 로컬 키셋으로 바꿔 끼울 수 있다.
+public interface GooglePublicKeySource {
+
+    // kid → 공개키
+    Map<String, PublicKey> getKeys() throws GeneralSecurityException, IOException;
+
+    // 모르는 kid 가 들어왔을 때 (키 교체 직후) 호출된다
+    default void refreshNow() throws GeneralSecurityException, IOException {
+    }
+}
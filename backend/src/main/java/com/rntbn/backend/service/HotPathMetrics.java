@@ -0,0 +1,130 @@
+package com.rntbn.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jsoup.HttpStatusException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 핫패스 지표 (Micrometer, Prometheus 는 /actuator/prometheus)
+// 미터는 생성 시 한 번 등록해 배열/맵에 들고 있는다. 호출 쪽은 System.nanoTime() 으로 시작 시각만 잡고
+// Timer.record(long, TimeUnit) 로 기록하므로 호출마다 태그, Sample, 람다를 만들지 않는다.
+@Component
+public class HotPathMetrics {
+
+    public enum ScrapeFailure {
+        TIMEOUT, HTTP, IO, PARSE, CIRCUIT_OPEN, BULKHEAD
+    }
+
+    public enum JwtOutcome {
+        // 검증 캐시 적중 / 서명 검증 / 유효하지 않음
+        CACHED, VERIFIED, INVALID
+    }
+
+    public enum GoogleOutcome {
+        VALID, INVALID, ERROR
+    }
+
+    public enum UserDbOp {
+        FIND_BY_EMAIL, FIND_BY_PROVIDER, EXISTS_BY_EMAIL, SAVE, UPDATE_NICKNAME
+    }
+
+    // 지역 코드 → 타이머 (생성 후 읽기만 하므로 HashMap)
+    private final Map<String, Timer> scrapeLatency = new HashMap<>();
+    private final Counter[] scrapeFailures;
+    private final Timer[] jwtVerify;
+    private final Timer[] googleVerify;
+    private final Timer[] userDb;
+
+    public HotPathMetrics(MeterRegistry registry) {
+        for (String regionCode : TbnService.regionCodes()) {
+            scrapeLatency.put(regionCode, Timer.builder("tbn.scrape.latency")
+                    .description("tbn.or.kr onair 페이지 조회 시간 (실패 포함)")
+                    .tag("region", regionCode)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(10))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry));
+        }
+        scrapeFailures = new Counter[ScrapeFailure.values().length];
+        for (ScrapeFailure cause : ScrapeFailure.values()) {
+            scrapeFailures[cause.ordinal()] = Counter.builder("tbn.scrape.failures")
+                    .description("tbn.or.kr 조회 실패 (호출하지 못한 경우 포함)")
+                    .tag("cause", tagOf(cause))
+                    .register(registry);
+        }
+        jwtVerify = new Timer[JwtOutcome.values().length];
+        for (JwtOutcome outcome : JwtOutcome.values()) {
+            jwtVerify[outcome.ordinal()] = Timer.builder("auth.jwt.verify")
+                    .tag("outcome", tagOf(outcome))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(500))
+                    .maximumExpectedValue(Duration.ofMillis(50))
+                    .register(registry);
+        }
+        googleVerify = new Timer[GoogleOutcome.values().length];
+        for (GoogleOutcome outcome : GoogleOutcome.values()) {
+            googleVerify[outcome.ordinal()] = Timer.builder("auth.google.verify")
+                    .tag("outcome", tagOf(outcome))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+        }
+        userDb = new Timer[UserDbOp.values().length];
+        for (UserDbOp op : UserDbOp.values()) {
+            userDb[op.ordinal()] = Timer.builder("user.db.latency")
+                    .tag("op", tagOf(op))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(registry);
+        }
+    }
+
+    public void recordScrape(String regionCode, long startNanos) {
+        Timer timer = scrapeLatency.get(regionCode);
+        if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void scrapeFailed(ScrapeFailure cause) {
+        scrapeFailures[cause.ordinal()].increment();
+    }
+
+    public void recordJwt(JwtOutcome outcome, long startNanos) {
+        jwtVerify[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordGoogle(GoogleOutcome outcome, long startNanos) {
+        googleVerify[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserDb(UserDbOp op, long startNanos) {
+        userDb[op.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 스크래핑 예외 → 실패 원인
+    public static ScrapeFailure causeOf(Exception e) {
+        if (e instanceof SocketTimeoutException) {
+            return ScrapeFailure.TIMEOUT;
+        }
+        if (e instanceof HttpStatusException) {
+            return ScrapeFailure.HTTP;
+        }
+        return e instanceof IOException ? ScrapeFailure.IO : ScrapeFailure.PARSE;
+    }
+
+    private static String tagOf(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,194 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Google JWKS(https://www.googleapis.com/oauth2/v3/certs) 를 받아 캐시하는 키 공급자
+// Cache-Control max-age 동안 키를 재사용하고, 만료 전에 백그라운드에서 미리 갱신한다.
+// 요청 스레드가 Google 을 기다리는 것은 키가 하나도 없는 첫 조회뿐이다: 갱신이 실패하면
+// 만료된 키를 계속 내주고 예약된 재시도만 백그라운드에서 받아 온다 (빈 등록은 GoogleAuthConfig)
+public class HttpGooglePublicKeySource implements GooglePublicKeySource {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+    // 모르는 kid 로 인한 강제 갱신의 최소 간격 (잘못된 토큰으로 Google 을 두드리지 않도록)
+    private static final Duration MIN_FORCED_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final String certsUrl;
+    private final Duration retryDelay;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService refresher;
+
+    private volatile KeySet keySet;
+    // 마지막 조회 시도 (성공/실패 무관). 강제 갱신 간격은 이것으로 잰다
+    private volatile Instant lastAttemptAt = Instant.MIN;
+
+    public HttpGooglePublicKeySource(String certsUrl) {
+        this(certsUrl, RETRY_DELAY);
+    }
+
+    HttpGooglePublicKeySource(String certsUrl, Duration retryDelay) {
+        this.certsUrl = certsUrl;
+        this.retryDelay = retryDelay;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(FETCH_TIMEOUT)
+                .build();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "google-jwks-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    @Override
+    public Map<String, PublicKey> getKeys() throws GeneralSecurityException, IOException {
+        KeySet current = keySet;
+        if (current != null) {
+            // 만료됐어도 그대로 쓴다. 갱신은 refresher 가 예약해 두었다 (성공 후 max-age 의 80%, 실패 후 재시도)
+            return current.keys;
+        }
+        return refresh(null).keys;
+    }
+
+    @Override
+    public void refreshNow() throws GeneralSecurityException, IOException {
+        KeySet current = keySet;
+        if (current == null) {
+            refresh(null);
+            return;
+        }
+        // 실패한 시도도 간격에 넣는다 (Google 장애 중에 모르는 kid 마다 요청 스레드가 기다리지 않도록)
+        if (Instant.now().isBefore(lastAttemptAt.plus(MIN_FORCED_REFRESH_INTERVAL))) {
+            return;
+        }
+        refresh(current);
+    }
+
+    // 동시에 만료를 본 요청들은 한 번만 받아 온다
+    private synchronized KeySet refresh(KeySet seen) throws GeneralSecurityException, IOException {
+        if (keySet != seen) {
+            return keySet;
+        }
+        lastAttemptAt = Instant.now();
+        try {
+            KeySet fetched = fetch();
+            keySet = fetched;
+            scheduleRefresh(fetched);
+            return fetched;
+        } catch (IOException | GeneralSecurityException e) {
+            if (seen != null) {
+                // 갱신에 실패하면 이전 키로 계속 검증하고 잠시 후 다시 시도한다
+                System.out.println("❌ Google 공개키 갱신 실패, 이전 키 유지: " + e.getMessage());
+                schedule(retryDelay);
+                return seen;
+            }
+            throw e;
+        }
+    }
+
+    private KeySet fetch() throws GeneralSecurityException, IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(certsUrl))
+                .timeout(FETCH_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Google 공개키 조회 중단", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Google 공개키 조회 실패: HTTP " + response.statusCode());
+        }
+
+        Map<String, PublicKey> keys = parseJwks(response.body());
+        Duration maxAge = response.headers().firstValue("Cache-Control")
+                .map(HttpGooglePublicKeySource::maxAgeOf)
+                .orElse(DEFAULT_MAX_AGE);
+        return new KeySet(Map.copyOf(keys), maxAge);
+    }
+
+    private Map<String, PublicKey> parseJwks(String body) throws GeneralSecurityException, IOException {
+        JsonNode root = objectMapper.readTree(body);
+        KeyFactory rsa = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : root.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            keys.put(jwk.path("kid").asText(), rsa.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        if (keys.isEmpty()) {
+            throw new IOException("Google JWKS 에 RSA 키가 없습니다");
+        }
+        return keys;
+    }
+
+    private static Duration maxAgeOf(String cacheControl) {
+        Matcher m = MAX_AGE.matcher(cacheControl);
+        return m.find() ? Duration.ofSeconds(Long.parseLong(m.group(1))) : DEFAULT_MAX_AGE;
+    }
+
+    // max-age 의 80% 시점에 미리 갱신 (요청 스레드가 만료를 보지 않도록)
+    private void scheduleRefresh(KeySet fetched) {
+        schedule(fetched.maxAge.multipliedBy(8).dividedBy(10));
+    }
+
+    private void schedule(Duration delay) {
+        try {
+            refresher.schedule(() -> {
+                try {
+                    refresh(keySet);
+                } catch (IOException | GeneralSecurityException e) {
+                    // refresh() 에서 재시도를 예약한다
+                }
+            }, Math.max(delay.toMillis(), 1000L), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private static final class KeySet {
+        private final Map<String, PublicKey> keys;
+        private final Duration maxAge;
+
+        private KeySet(Map<String, PublicKey> keys, Duration maxAge) {
+            this.keys = keys;
+            this.maxAge = maxAge;
+        }
+    }
+}
@@ -2,10 +2,17 @@ package com.rntbn.backend.service;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 @Service
@@ -17,8 +24,35 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize = 10000;
+
+    @Autowired
+    private HotPathMetrics metrics;
+
+    // 서명 키와 파서는 한 번만 만든다 (둘 다 thread-safe)
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 최근 검증된 토큰 (토큰 원문 대신 SHA-256 다이제스트를 키로 사용, 근사 LRU)
+    // 캐시 히트가 요청마다 일어나는 경로라 전역 락 없이 조회한다
+    private ConcurrentLruCache<String, TokenClaims> verifiedTokens;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = new ConcurrentLruCache<>(verifiedCacheSize);
     }
 
     public String generateToken(String username) {
@@ -29,39 +63,86 @@ public class JwtService {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 토큰을 한 번만 검증하고 필요한 클레임을 모두 돌려준다
+    // 유효하지 않으면 JwtException / IllegalArgumentException
+    public TokenClaims parseToken(String token) {
+        long start = System.nanoTime();
+        try {
+            String digest = digest(token);
+            TokenClaims cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (!cached.isExpired(Instant.now())) {
+                    metrics.recordJwt(HotPathMetrics.JwtOutcome.CACHED, start);
+                    return cached;
+                }
+                // 만료된 토큰은 다시 파싱해서 ExpiredJwtException 을 그대로 던진다
+                verifiedTokens.remove(digest, cached);
+            }
 
-        return claims.getSubject();
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            TokenClaims verified = new TokenClaims(
+                    claims.getSubject(),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+            verifiedTokens.put(digest, verified);
+            metrics.recordJwt(HotPathMetrics.JwtOutcome.VERIFIED, start);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            metrics.recordJwt(HotPathMetrics.JwtOutcome.INVALID, start);
+            throw e;
+        }
     }
 
-    public String extractEmail(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public String getUsernameFromToken(String token) {
+        return parseToken(token).getSubject();
+    }
 
-        return claims.getSubject();
+    public String extractEmail(String token) {
+        return parseToken(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parseToken(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private static String digest(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("JWT token is null");
+        }
+        MessageDigest sha256 = SHA256.get();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    // 검증된 토큰 클레임 (불변)
+    public static final class TokenClaims {
+        private final String subject;
+        private final Instant expiresAt;
+
+        public TokenClaims(String subject, Instant expiresAt) {
+            this.subject = subject;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        // exp 클레임이 없으면 null
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        public boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.Program;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 한 지역의 하루 편성표 (불변 구간 인덱스)
+// 프로그램은 겹치지 않고 시작 시각순이므로 시작 시각 배열 이진 탐색 한 번으로
+// "T 에 방송 중인 프로그램" 과 "T 다음 프로그램" 을 O(log n) 에 찾는다.
+public final class ProgramSchedule {
+
+    private static final DateTimeFormatter HH_MM = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final String regionCode;
+    private final LocalDate day;
+    private final Instant loadedAt;
+    // epoch millis, 오름차순. ends[i] 는 다음 프로그램의 시작 (마지막은 첫 프로그램 + 24시간)
+    private final long[] starts;
+    private final long[] ends;
+    private final Program[] programs;
+
+    private ProgramSchedule(String regionCode, LocalDate day, Instant loadedAt, long[] starts, long[] ends,
+            Program[] programs) {
+        this.regionCode = regionCode;
+        this.day = day;
+        this.loadedAt = loadedAt;
+        this.starts = starts;
+        this.ends = ends;
+        this.programs = programs;
+    }
+
+    // day 는 방송일 (편성표의 시각은 이 날 00:00 기준)
+    public static ProgramSchedule build(String regionCode, LocalDate day, ScheduleParser.Timetable timetable,
+            Instant loadedAt) {
+        // 같은 시작 시각이 두 번 나오면 뒤의 행을 쓴다
+        TreeMap<Integer, ScheduleParser.Slot> byStart = new TreeMap<>();
+        for (ScheduleParser.Slot slot : timetable.getSlots()) {
+            byStart.put(slot.getStartMinute(), slot);
+        }
+        if (!byStart.isEmpty()) {
+            // 방송일은 첫 프로그램부터 24시간
+            byStart.tailMap(byStart.firstKey() + MINUTES_PER_DAY).clear();
+        }
+
+        int n = byStart.size();
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        Program[] programs = new Program[n];
+        ZonedDateTime dayStart = day.atStartOfDay(BroadcastTimes.ZONE);
+        int dayEnd = n > 0 ? byStart.firstKey() + MINUTES_PER_DAY : 0;
+        int i = 0;
+        for (Map.Entry<Integer, ScheduleParser.Slot> entry : byStart.entrySet()) {
+            ScheduleParser.Slot slot = entry.getValue();
+            Integer nextStart = byStart.higherKey(entry.getKey());
+            ZonedDateTime start = dayStart.plusMinutes(entry.getKey());
+            ZonedDateTime end = dayStart.plusMinutes(nextStart != null ? nextStart : dayEnd);
+            starts[i] = start.toInstant().toEpochMilli();
+            ends[i] = end.toInstant().toEpochMilli();
+            String id = slot.getProgramId() != null ? slot.getProgramId() : regionCode + "-" + entry.getKey();
+            programs[i] = new Program(id, slot.getTitle(), slot.getMc(), start.format(HH_MM), end.format(HH_MM),
+                    start.toOffsetDateTime(), end.toOffsetDateTime(), timetable.getSms());
+            i++;
+        }
+        return new ProgramSchedule(regionCode, day, loadedAt, starts, ends, programs);
+    }
+
+    // time 에 방송 중인 프로그램 (편성표 범위 밖이면 null)
+    public Program at(Instant time) {
+        long t = time.toEpochMilli();
+        int i = floor(t);
+        return i >= 0 && t < ends[i] ? programs[i] : null;
+    }
+
+    // time 이후에 시작하는 첫 프로그램 (없으면 null)
+    public Program next(Instant time) {
+        int i = floor(time.toEpochMilli()) + 1;
+        return i < programs.length ? programs[i] : null;
+    }
+
+    // 시작 시각순 전체 편성
+    public List<Program> getPrograms() {
+        return List.of(programs);
+    }
+
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    // 시작 시각이 t 이하인 마지막 프로그램 (없으면 -1)
+    private int floor(long t) {
+        int i = Arrays.binarySearch(starts, t);
+        return i >= 0 ? i : -i - 2;
+    }
+}
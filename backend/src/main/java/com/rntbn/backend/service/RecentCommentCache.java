@@ -0,0 +1,284 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.CommentView;
+import com.rntbn.backend.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// 지역별 최신 댓글 N개 (첫 페이지용 hot tail)
+// - 쓰기(저장 완료/숨김/닉네임 변경)는 지역별 락 안에서 새 배열을 만들어 volatile 로 교체한다 (copy-on-write)
+// - 읽기는 락 없이 현재 스냅샷만 본다
+// - 처음 읽을 때 DB 에서 채우고, 그 사이 들어온 댓글과 id 로 합친다
+//   같은 지역의 동시 미스는 한 번만 읽는다 (single-flight). 읽는 사이 숨김/닉네임 변경이 있었으면
+//   읽은 행은 그 변경 전 상태일 수 있으므로 버리고 다시 읽는다 (지역별 버전)
+@Component
+public class RecentCommentCache {
+
+    // 최신순 (createdAt DESC, id DESC) — keyset 쿼리와 같은 순서
+    static final Comparator<CommentView> NEWEST_FIRST = Comparator
+            .comparing(CommentView::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(CommentView::getId, Comparator.reverseOrder());
+
+    private static final CommentView[] EMPTY = new CommentView[0];
+    // 읽는 도중 변경이 계속 겹치면 이만큼 다시 읽고 포기한다 (그 요청은 DB 로 응답)
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Value("${chat.recent-capacity:200}")
+    private int capacity;
+
+    private final Map<String, Tail> tails = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+
+    // 최신 댓글 최대 limit 개. 메모리만으로 답할 수 없으면 null (호출자가 DB 로 조회)
+    public List<CommentView> latest(String regionCode, int limit) {
+        Tail tail = tail(regionCode);
+        Snapshot snapshot = tail.snapshot;
+        if (!snapshot.loaded) {
+            snapshot = load(regionCode, tail);
+            if (!snapshot.loaded) {
+                misses.increment();
+                return null;
+            }
+        }
+        if (snapshot.items.length >= limit || snapshot.complete) {
+            hits.increment();
+            return List.of(Arrays.copyOf(snapshot.items, Math.min(limit, snapshot.items.length)));
+        }
+        // 숨김 처리로 개수가 모자라졌다 → 다음 읽기에서 다시 채운다
+        misses.increment();
+        tail.reset();
+        return null;
+    }
+
+    // 저장이 끝난 댓글 (id 가 있어야 함)
+    public void addAll(Collection<CommentView> views) {
+        Map<String, List<CommentView>> byRegion = new LinkedHashMap<>();
+        for (CommentView view : views) {
+            byRegion.computeIfAbsent(view.getRegionCode(), k -> new ArrayList<>()).add(view);
+        }
+        byRegion.forEach((regionCode, added) -> tail(regionCode).merge(added, false, capacity));
+    }
+
+    // 메모리 내용을 믿을 수 없을 때: 다음 읽기에서 DB 로 다시 채운다
+    public void invalidate(String regionCode) {
+        tail(regionCode).reset();
+    }
+
+    public void hideByUser(Long userId) {
+        removeIf(view -> Objects.equals(view.getUserId(), userId));
+    }
+
+    public void hideByUserBetween(Long userId, LocalDateTime start, LocalDateTime end) {
+        removeIf(view -> Objects.equals(view.getUserId(), userId)
+                && !view.getCreatedAt().isBefore(start) && !view.getCreatedAt().isAfter(end));
+    }
+
+    // 닉네임이 바뀌면 DB 조인 결과와 같아지도록 캐시된 뷰도 바꾼다
+    public void renameUser(Long userId, String nickname) {
+        for (Tail tail : tails.values()) {
+            tail.replace(view -> Objects.equals(view.getUserId(), userId),
+                    view -> new CommentView(view.getId(), view.getRegionCode(), view.getUserId(), nickname,
+                            view.getContent(), view.getCreatedAt()));
+        }
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("loads", loads.sum());
+        stats.put("staleLoads", staleLoads.sum());
+        stats.put("coalescedLoads", coalescedLoads.sum());
+        stats.put("regions", (long) tails.size());
+        return stats;
+    }
+
+    private void removeIf(Predicate<CommentView> hidden) {
+        for (Tail tail : tails.values()) {
+            tail.replace(hidden, null);
+        }
+    }
+
+    private Tail tail(String regionCode) {
+        return tails.computeIfAbsent(regionCode, k -> new Tail());
+    }
+
+    private Snapshot load(String regionCode, Tail tail) {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> leader = tail.startLoad(mine);
+        if (leader != null) {
+            if (leader != mine) {
+                coalescedLoads.increment();
+            }
+            return await(leader);
+        }
+        try {
+            Snapshot result = tail.snapshot;
+            for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS && !result.loaded; attempt++) {
+                long version = tail.version();
+                loads.increment();
+                List<CommentView> rows = commentRepository.findLatestViews(regionCode, Limit.of(capacity));
+                // DB 에 보이는 댓글이 capacity 보다 적으면 지역 전체가 메모리에 있다
+                result = tail.mergeLoaded(rows, rows.size() < capacity, capacity, version);
+                if (!result.loaded) {
+                    staleLoads.increment();
+                }
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            tail.finishLoad(mine);
+        }
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Tail {
+        private volatile Snapshot snapshot = new Snapshot(EMPTY, false, false);
+        // 숨김/닉네임 변경마다 증가 (this 로 보호)
+        private long version;
+        // 진행 중인 DB 로드 (this 로 보호)
+        private CompletableFuture<Snapshot> loading;
+
+        synchronized long version() {
+            return version;
+        }
+
+        // 이미 누가 읽는 중이면 그 future, 아니면 null (호출자가 읽는다)
+        synchronized CompletableFuture<Snapshot> startLoad(CompletableFuture<Snapshot> mine) {
+            if (loading != null) {
+                return loading;
+            }
+            if (snapshot.loaded) {
+                mine.complete(snapshot);
+                return mine;
+            }
+            loading = mine;
+            return null;
+        }
+
+        synchronized void finishLoad(CompletableFuture<Snapshot> mine) {
+            if (loading == mine) {
+                loading = null;
+            }
+        }
+
+        // DB 에서 읽은 행. 읽기 시작(readVersion) 뒤에 숨김/닉네임 변경이 있었으면 합치지 않는다
+        synchronized Snapshot mergeLoaded(List<CommentView> rows, boolean loadedComplete, int capacity,
+                                          long readVersion) {
+            if (version != readVersion) {
+                return snapshot;
+            }
+            return merge(rows, loadedComplete, capacity);
+        }
+
+        // 새 댓글(또는 DB 에서 읽은 댓글)을 합쳐 최신 capacity 개만 남긴다
+        synchronized Snapshot merge(List<CommentView> added, boolean loadedComplete, int capacity) {
+            Snapshot current = snapshot;
+            Set<Long> ids = new HashSet<>();
+            List<CommentView> merged = new ArrayList<>(current.items.length + added.size());
+            for (CommentView view : current.items) {
+                ids.add(view.getId());
+                merged.add(view);
+            }
+            for (CommentView view : added) {
+                if (ids.add(view.getId())) {
+                    merged.add(view);
+                }
+            }
+            merged.sort(NEWEST_FIRST);
+
+            boolean loaded = current.loaded || loadedComplete || added.size() >= capacity;
+            boolean complete = current.loaded ? current.complete : loadedComplete;
+            if (merged.size() > capacity) {
+                merged = merged.subList(0, capacity);
+                complete = false;
+            }
+            Snapshot next = new Snapshot(merged.toArray(EMPTY), loaded, complete);
+            snapshot = next;
+            return next;
+        }
+
+        // replacement 가 null 이면 조건에 맞는 뷰를 뺀다
+        synchronized void replace(Predicate<CommentView> match, UnaryOperator<CommentView> replacement) {
+            Snapshot current = snapshot;
+            List<CommentView> kept = new ArrayList<>(current.items.length);
+            boolean changed = false;
+            for (CommentView view : current.items) {
+                if (!match.test(view)) {
+                    kept.add(view);
+                } else {
+                    changed = true;
+                    if (replacement != null) {
+                        kept.add(replacement.apply(view));
+                    }
+                }
+            }
+            if (changed) {
+                snapshot = new Snapshot(kept.toArray(EMPTY), current.loaded, current.complete);
+            }
+            // 메모리에 없던 사용자라도 진행 중인 로드가 읽은 행에는 있을 수 있다
+            version++;
+        }
+
+        synchronized void reset() {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(current.items, false, false);
+        }
+    }
+
+    // 불변 스냅샷
+    private static final class Snapshot {
+        private final CommentView[] items;
+        // DB 에서 한 번 채웠는지 (아니면 items 는 그 뒤에 저장된 댓글뿐)
+        private final boolean loaded;
+        // 지역의 보이는 댓글이 전부 items 에 있는지
+        private final boolean complete;
+
+        private Snapshot(CommentView[] items, boolean loaded, boolean complete) {
+            this.items = items;
+            this.loaded = loaded;
+            this.complete = complete;
+        }
+    }
+}
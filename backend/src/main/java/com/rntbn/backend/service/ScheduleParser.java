@@ -0,0 +1,110 @@
+package com.rntbn.backend.service;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// onair 페이지의 "오늘의 편성표" (table.tbl-schedule) 파서
+// 행마다 시작 시각만 있고, 자정 이후 편성은 "24:30" 처럼 24 이상으로 표기된다.
+public final class ScheduleParser {
+
+    private static final Pattern START = Pattern.compile("(\\d{1,2}):(\\d{2})");
+    private static final Pattern PROGRAM_ID = Pattern.compile("[?&]prog=([^&]+)");
+    private static final Pattern SMS = Pattern.compile("#\\d+");
+
+    // 방송일은 하루를 넘지 않는다 (시작 시각 기준 최대 다음날 05:00 무렵)
+    private static final int MAX_MINUTE = 48 * 60;
+
+    private ScheduleParser() {
+    }
+
+    public static Timetable parse(Document doc) {
+        List<Slot> slots = new ArrayList<>();
+        for (Element row : doc.select("table.tbl-schedule tbody tr")) {
+            Elements cells = row.select("td");
+            if (cells.size() < 2) {
+                continue;
+            }
+            Matcher start = START.matcher(cells.get(0).text());
+            if (!start.find()) {
+                continue;
+            }
+            int minute = Integer.parseInt(start.group(1)) * 60 + Integer.parseInt(start.group(2));
+            String title = cells.get(1).text();
+            if (minute >= MAX_MINUTE || title.isEmpty()) {
+                continue;
+            }
+            String mc = cells.size() > 2 ? cells.get(2).text() : "";
+            Element link = cells.get(1).selectFirst("a[href]");
+            Matcher id = PROGRAM_ID.matcher(link != null ? link.attr("href") : "");
+            slots.add(new Slot(minute, title, mc, id.find() ? id.group(1) : null));
+        }
+
+        // 문자 참여 번호 (지역 공통)
+        String sms = null;
+        Element msg = doc.selectFirst("a.btn-msg");
+        if (msg != null) {
+            Matcher m = SMS.matcher(msg.text());
+            if (m.find()) {
+                sms = m.group();
+            }
+        }
+        return new Timetable(slots, sms);
+    }
+
+    public static final class Timetable {
+        private final List<Slot> slots;
+        private final String sms;
+
+        private Timetable(List<Slot> slots, String sms) {
+            this.slots = List.copyOf(slots);
+            this.sms = sms;
+        }
+
+        public List<Slot> getSlots() {
+            return slots;
+        }
+
+        // 없으면 null
+        public String getSms() {
+            return sms;
+        }
+    }
+
+    // 편성 한 칸: 방송일 00:00 기준 시작 분 (24시 이후는 1440 이상)
+    public static final class Slot {
+        private final int startMinute;
+        private final String title;
+        private final String mc;
+        private final String programId;
+
+        Slot(int startMinute, String title, String mc, String programId) {
+            this.startMinute = startMinute;
+            this.title = title;
+            this.mc = mc;
+            this.programId = programId;
+        }
+
+        public int getStartMinute() {
+            return startMinute;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getMc() {
+            return mc;
+        }
+
+        // 링크에 프로그램 id 가 없으면 null
+        public String getProgramId() {
+            return programId;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.rntbn.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 지역별 하루 편성표를 하루에 한 번 받아 메모리 구간 인덱스(ProgramSchedule)로 둔다
+// - 새 편성표는 만들어진 뒤 통째로 교체한다 (copy-on-write). 읽기는 락 없이 현재 맵만 본다
+// - 받아 오지 못한 지역은 이전 편성표를 유지하고 retry-minutes 뒤 다시 시도한다.
+//   지역당 예약된 재시도는 하나뿐이고, 다음 날 일괄 조회가 성공하면 남은 재시도는 취소한다
+@Service
+public class ScheduleService {
+
+    @Autowired
+    private TbnService tbnService;
+
+    @Value("${tbn.schedule.enabled:true}")
+    private boolean enabled;
+
+    // 방송일이 바뀌는 시각 (KST). 이 시각 이후에 다음 날 편성표를 받는다
+    @Value("${tbn.schedule.refresh-at:05:00}")
+    private String refreshAt;
+
+    @Value("${tbn.schedule.retry-minutes:10}")
+    private long retryMinutes;
+
+    private volatile Map<String, ProgramSchedule> schedules = Map.of();
+
+    private ScheduledExecutorService scheduler;
+    // 지역별 예약된 재시도 (스케줄러 스레드에서만 접근)
+    private final Map<String, ScheduledFuture<?>> retries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tbn-schedule");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::ingestAll);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // 아직 받아 온 적이 없으면 null
+    public ProgramSchedule getSchedule(String regionCode) {
+        return schedules.get(regionCode);
+    }
+
+    private void ingestAll() {
+        tbnService.getAllRegions().keySet().stream()
+                .sorted(Comparator.comparingInt(Integer::parseInt))
+                .forEach(this::ingest);
+        schedule(this::ingestAll, untilNextRefresh(ZonedDateTime.now(BroadcastTimes.ZONE)));
+    }
+
+    private void ingest(String regionCode) {
+        try {
+            ScheduleParser.Timetable timetable = tbnService.fetchSchedule(regionCode);
+            if (timetable.getSlots().isEmpty()) {
+                throw new IOException("편성표가 비어 있음");
+            }
+            Instant now = Instant.now();
+            LocalDate day = broadcastDay(ZonedDateTime.ofInstant(now, BroadcastTimes.ZONE));
+            replace(regionCode, ProgramSchedule.build(regionCode, day, timetable, now));
+            ScheduledFuture<?> pending = retries.remove(regionCode);
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ 편성표 조회 실패 (" + regionCode + "), 이전 편성표 유지: " + e.getMessage());
+            if (!retries.containsKey(regionCode)) {
+                ScheduledFuture<?> retry = schedule(() -> retry(regionCode), Duration.ofMinutes(retryMinutes));
+                if (retry != null) {
+                    retries.put(regionCode, retry);
+                }
+            }
+        }
+    }
+
+    private void retry(String regionCode) {
+        retries.remove(regionCode);
+        ingest(regionCode);
+    }
+
+    // 가장 최근에 refresh-at 이 지난 날이 방송일이다 (refresh-at 전 새벽이면 아직 전날).
+    // 첫 프로그램 시각으로 정하면 첫 편성이 refresh-at 보다 늦은 지역은 갱신 직후 전날로 찍힌다
+    private LocalDate broadcastDay(ZonedDateTime now) {
+        return now.toLocalTime().isBefore(LocalTime.parse(refreshAt))
+                ? now.toLocalDate().minusDays(1)
+                : now.toLocalDate();
+    }
+
+    private Duration untilNextRefresh(ZonedDateTime now) {
+        ZonedDateTime next = now.toLocalDate().atTime(LocalTime.parse(refreshAt)).atZone(BroadcastTimes.ZONE);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        return Duration.between(now, next);
+    }
+
+    // copy-on-write 로 지역 편성표 교체
+    private synchronized void replace(String regionCode, ProgramSchedule schedule) {
+        Map<String, ProgramSchedule> next = new HashMap<>(schedules);
+        next.put(regionCode, schedule);
+        schedules = Map.copyOf(next);
+    }
+
+    private ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+        try {
+            return scheduler.schedule(task, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            return null;
+        }
+    }
+}
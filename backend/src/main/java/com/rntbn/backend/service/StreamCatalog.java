@@ -0,0 +1,45 @@
+package com.rntbn.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 지역별 라디오 스트림 주소 (앱 regionService.ts 의 streamUrl 과 같은 규칙)
+// 주소 형식은 tbn.streams.url-template 의 {key} 를 지역 키로 바꾼 것 (테스트에서는 로컬 스텁으로 교체)
+@Component
+public class StreamCatalog {
+
+    private static final Map<String, String> STREAM_KEYS = new LinkedHashMap<>();
+
+    static {
+        STREAM_KEYS.put("2", "busan");
+        STREAM_KEYS.put("3", "gwangju");
+        STREAM_KEYS.put("4", "daegu");
+        STREAM_KEYS.put("5", "daejeon");
+        STREAM_KEYS.put("6", "gyeongin");
+        STREAM_KEYS.put("7", "gangwon");
+        STREAM_KEYS.put("8", "jeonbuk");
+        STREAM_KEYS.put("9", "ulsan");
+        STREAM_KEYS.put("10", "gyeongnam");
+        STREAM_KEYS.put("11", "kyungbuk");
+        STREAM_KEYS.put("12", "jeju");
+        STREAM_KEYS.put("13", "chungbuk");
+        STREAM_KEYS.put("14", "chungnam");
+    }
+
+    @Value("${tbn.streams.url-template:https://5cc6beb04faf6.streamlock.net/{key}/myStream/playlist.m3u8}")
+    private String urlTemplate;
+
+    // 모르는 지역이면 null
+    public String getStreamUrl(String regionCode) {
+        String key = STREAM_KEYS.get(regionCode);
+        return key != null ? urlTemplate.replace("{key}", key) : null;
+    }
+
+    public Map<String, String> getStreamKeys() {
+        return Collections.unmodifiableMap(STREAM_KEYS);
+    }
+}
@@ -0,0 +1,226 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.StreamStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지역 라디오 스트림 가용성 프로버
+// 앱이 기기마다 스트림 주소로 HEAD 를 보내던 것을 서버가 대신한다: 지역마다 주기적으로 HEAD 하나를 보내고
+// 결과를 불변 스냅샷으로 게시한다 (/api/stream/status)
+// - 모든 지역을 동시에 비동기로 보낸다 (HttpClient.sendAsync, 프로브마다 스레드를 잡지 않음)
+// - 프로브마다 마감 시간(deadline-ms)이 있고 넘으면 실패로 친다
+// - 정상 지역은 interval-seconds, 실패 중인 지역은 failing-interval-seconds 마다 (복구를 빨리 알아챈다)
+// - 상태는 프로버 스레드 하나에서만 바꾸고, 비슷한 때 끝난 프로브들은 스냅샷 하나로 모아 게시한다
+@Service
+public class StreamProber {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    // 함께 끝난 프로브 결과를 모으는 시간
+    private static final long PUBLISH_DELAY_MILLIS = 100;
+
+    @Autowired
+    private StreamCatalog streamCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tbn.probe.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tbn.probe.interval-seconds:30}")
+    private long intervalSeconds;
+
+    @Value("${tbn.probe.failing-interval-seconds:5}")
+    private long failingIntervalSeconds;
+
+    @Value("${tbn.probe.deadline-ms:3000}")
+    private long deadlineMillis;
+
+    private ScheduledExecutorService scheduler;
+    private HttpClient httpClient;
+
+    // 프로버 스레드에서만 읽고 쓴다
+    private final Map<String, StreamStatus> statuses = new HashMap<>();
+    private boolean publishPending;
+
+    private volatile StreamStatusSnapshot snapshot;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        snapshot = buildSnapshot(Collections.emptyMap());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stream-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 응답 처리도 프로버 스레드에서 (HEAD 라 본문이 없어 가볍다)
+        httpClient = HttpClient.newBuilder()
+                .executor(scheduler)
+                .connectTimeout(Duration.ofMillis(deadlineMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        for (String regionCode : streamCatalog.getStreamKeys().keySet()) {
+            scheduler.execute(() -> probe(regionCode));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public StreamStatusSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // 응답 캐시 시간: 실패 중인 지역의 프로브 간격보다 오래 두지 않는다
+    public long getMaxAgeSeconds() {
+        return failingIntervalSeconds;
+    }
+
+    public Map<String, Long> getStats() {
+        long up = 0;
+        long down = 0;
+        for (StreamStatus status : snapshot.getStatuses().values()) {
+            if (status.isUp()) {
+                up++;
+            } else {
+                down++;
+            }
+        }
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("probes", probes.sum());
+        stats.put("failures", failures.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("regionsUp", up);
+        stats.put("regionsDown", down);
+        return stats;
+    }
+
+    private void probe(String regionCode) {
+        long start = System.nanoTime();
+        probes.increment();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(streamCatalog.getStreamUrl(regionCode)))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .timeout(Duration.ofMillis(deadlineMillis))
+                    .header("User-Agent", USER_AGENT)
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenCompleteAsync((response, e) -> record(regionCode, start, response, e), scheduler);
+        } catch (RuntimeException e) {
+            record(regionCode, start, null, e);
+        }
+    }
+
+    private void record(String regionCode, long startNanos, HttpResponse<Void> response, Throwable e) {
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        Integer httpStatus = response != null ? response.statusCode() : null;
+        boolean up = httpStatus != null && httpStatus >= 200 && httpStatus < 300;
+        String error = null;
+        if (!up) {
+            failures.increment();
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof HttpTimeoutException) {
+                timeouts.increment();
+                error = "timeout";
+            } else if (cause != null) {
+                error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            } else {
+                error = "HTTP " + httpStatus;
+            }
+        }
+
+        Instant now = Instant.now();
+        StreamStatus previous = statuses.get(regionCode);
+        boolean changed = previous == null || previous.isUp() != up;
+        int consecutiveFailures = up ? 0 : (previous != null ? previous.getConsecutiveFailures() : 0) + 1;
+        statuses.put(regionCode, new StreamStatus(regionCode, up, httpStatus, latencyMillis, error,
+                consecutiveFailures, now, changed ? now : previous.getChangedAt()));
+        if (changed && !up) {
+            System.out.println("❌ 스트림 응답 없음 (" + regionCode + "): " + error);
+        } else if (changed && previous != null) {
+            System.out.println("✅ 스트림 복구 (" + regionCode + ")");
+        }
+
+        if (!publishPending) {
+            publishPending = true;
+            scheduler.schedule(this::publish, PUBLISH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        scheduler.schedule(() -> probe(regionCode), up ? intervalSeconds : failingIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void publish() {
+        publishPending = false;
+        snapshot = buildSnapshot(statuses);
+    }
+
+    // 지역 순서는 StreamCatalog 순서. 본문과 ETag 는 여기서 한 번만 만든다
+    // ETag 는 지역별 up/down 상태(와 바뀐 시각)로만 만든다: generatedAt, latencyMillis, checkedAt 은 프로브마다 바뀌므로
+    // 본문으로 만들면 상태가 그대로여도 매번 달라진다. 본문이 바이트 단위로 같지는 않으므로 weak ETag
+    private StreamStatusSnapshot buildSnapshot(Map<String, StreamStatus> current) {
+        Map<String, StreamStatus> ordered = new LinkedHashMap<>();
+        StringBuilder state = new StringBuilder();
+        long up = 0;
+        for (String regionCode : streamCatalog.getStreamKeys().keySet()) {
+            StreamStatus status = current.get(regionCode);
+            if (status != null) {
+                ordered.put(regionCode, status);
+                up += status.isUp() ? 1 : 0;
+                state.append(regionCode).append(':').append(status.isUp()).append(':')
+                        .append(status.getChangedAt()).append('\n');
+            }
+        }
+        Instant now = Instant.now();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("generatedAt", now);
+        body.put("up", up);
+        body.put("down", ordered.size() - up);
+        body.put("regions", ordered);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String etag = "W/" + ContentETag.of(state.toString().getBytes(StandardCharsets.UTF_8));
+            return new StreamStatusSnapshot(Collections.unmodifiableMap(ordered), now, json, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스트림 상태 직렬화 실패", e);
+        }
+    }
+}
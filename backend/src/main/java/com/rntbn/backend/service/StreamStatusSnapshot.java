@@ -0,0 +1,41 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.StreamStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 프로버가 게시하는 전 지역 스트림 상태 스냅샷 (불변)
+// 응답 본문(JSON)과 ETag 를 게시할 때 한 번만 만들어 두므로 조회는 참조 하나를 읽는 것으로 끝난다
+public final class StreamStatusSnapshot {
+
+    private final Map<String, StreamStatus> statuses;
+    private final Instant generatedAt;
+    private final byte[] body;
+    private final String etag;
+
+    public StreamStatusSnapshot(Map<String, StreamStatus> statuses, Instant generatedAt, byte[] body, String etag) {
+        this.statuses = statuses;
+        this.generatedAt = generatedAt;
+        this.body = body;
+        this.etag = etag;
+    }
+
+    // 아직 프로브하지 않은 지역은 없다
+    public Map<String, StreamStatus> getStatuses() {
+        return statuses;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    // 호출자는 바꾸지 않는다 (응답 본문으로 그대로 쓴다)
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,451 @@
+package com.rntbn.backend.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// tbn.or.kr onair 페이지 파서
+// HTML 을 순차적으로 읽다가 <p class="greeting-text"> 블록이 닫히면 바로 멈춘다.
+// 블록에서 아무것도 찾지 못하면 나머지를 읽어 Jsoup DOM 으로 다시 파싱한다.
+// 빠른 경로도 Jsoup 셀렉터와 같은 것만 고른다: class 토큰이 정확히 greeting-text 인 <p> 의
+// 직계 자식 <b id="forumName"> 과 첫 <span>. 주석과 <script>/<style> 안은 건너뛴다.
+public final class TbnPageParser {
+
+    private static final Pattern MC_PATTERN = Pattern.compile("MC\\s*[:：]\\s*([^|│｜\\n\\r]*)");
+    private static final Pattern TIME_PATTERN = Pattern.compile("방송시간\\s*[:：]\\s*([0-9:~\\s]+)");
+
+    private static final Pattern CLASS_ATTR = attributePattern("class");
+    private static final Pattern ID_ATTR = attributePattern("id");
+    // <meta charset="euc-kr"> 또는 <meta http-equiv="Content-Type" content="text/html; charset=euc-kr">
+    private static final Pattern META_CHARSET = Pattern.compile(
+            "<meta\\s[^>]*?charset\\s*=\\s*[\"']?\\s*([A-Za-z0-9._:\\-]+)", Pattern.CASE_INSENSITIVE);
+
+    private static final String BLOCK_CLASS = "greeting-text";
+    private static final String BLOCK_END = "</p>";
+    private static final String TITLE_ID = "forumName";
+
+    private static final int CHUNK_SIZE = 4096;
+    private static final int INITIAL_CAPACITY = 32 * 1024;
+    // Jsoup 과 같이 앞 5KB 안에서 <meta> charset 을 찾는다
+    private static final int CHARSET_SCAN_BYTES = 5 * 1024;
+
+    private TbnPageParser() {
+    }
+
+    // 응답 바이트에서 바로 파싱한다. 인코딩은 Jsoup 과 같은 순서로 정한다:
+    // BOM > Content-Type 의 charset > 문서 앞부분의 <meta> charset > UTF-8
+    public static OnAir parse(InputStream in, String contentTypeCharset, String baseUri) throws IOException {
+        BufferedInputStream body = new BufferedInputStream(in, CHUNK_SIZE);
+        Charset charset = detectCharset(body, contentTypeCharset);
+        return parse(new InputStreamReader(body, charset), baseUri);
+    }
+
+    public static OnAir parse(Reader reader, String baseUri) throws IOException {
+        StringBuilder html = new StringBuilder(INITIAL_CAPACITY);
+        char[] chunk = new char[CHUNK_SIZE];
+        int blockStart = -1;
+        int blockOpenEnd = -1;
+        int scanFrom = 0;
+        int read;
+
+        while ((read = reader.read(chunk)) != -1) {
+            html.append(chunk, 0, read);
+
+            if (blockStart < 0) {
+                int[] found = findBlockStart(html, scanFrom);
+                if (found[0] < 0) {
+                    // 아직 다 받지 못한 태그/주석/스크립트는 다음 청크에서 처음부터 다시 본다
+                    scanFrom = found[1];
+                    continue;
+                }
+                blockStart = found[0];
+                blockOpenEnd = found[1];
+                scanFrom = blockOpenEnd;
+            }
+
+            int blockEnd = indexOfIgnoreCase(html, BLOCK_END, scanFrom);
+            if (blockEnd < 0) {
+                scanFrom = Math.max(blockOpenEnd, html.length() - BLOCK_END.length());
+                continue;
+            }
+
+            OnAir onAir = extract(html, blockOpenEnd + 1, blockEnd);
+            if (onAir != null) {
+                return onAir;
+            }
+            break;
+        }
+
+        // 빠른 경로 실패: 나머지를 마저 읽고 Jsoup 으로 파싱
+        while ((read = reader.read(chunk)) != -1) {
+            html.append(chunk, 0, read);
+        }
+        return parseDocument(Jsoup.parse(html.toString(), baseUri));
+    }
+
+    // 기존 Jsoup 셀렉터 기반 파싱 (폴백 경로)
+    public static OnAir parseDocument(Document doc) {
+        String title = "";
+        Element forumNameB = doc.selectFirst("p.greeting-text > b#forumName");
+        if (forumNameB != null) {
+            title = forumNameB.text();
+        }
+
+        String spanText = null;
+        Element span = doc.selectFirst("p.greeting-text > span");
+        if (span != null) {
+            spanText = span.text();
+        }
+        return OnAir.of(title, spanText);
+    }
+
+    static Charset detectCharset(BufferedInputStream in, String contentTypeCharset) throws IOException {
+        in.mark(CHARSET_SCAN_BYTES);
+        byte[] head = in.readNBytes(CHARSET_SCAN_BYTES);
+        in.reset();
+
+        Charset bom = bomCharset(head);
+        if (bom != null) {
+            in.skip(bom.equals(StandardCharsets.UTF_8) ? 3 : 2);
+            return bom;
+        }
+        Charset declared = charsetOrNull(contentTypeCharset);
+        if (declared != null) {
+            return declared;
+        }
+        // ASCII 호환 인코딩이라고 보고 태그만 읽는다
+        Matcher meta = META_CHARSET.matcher(new String(head, StandardCharsets.ISO_8859_1));
+        if (meta.find()) {
+            Charset fromMeta = charsetOrNull(meta.group(1));
+            if (fromMeta != null) {
+                return fromMeta;
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Charset bomCharset(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xff) == 0xef && (head[1] & 0xff) == 0xbb && (head[2] & 0xff) == 0xbf) {
+            return StandardCharsets.UTF_8;
+        }
+        if (head.length >= 2 && (head[0] & 0xff) == 0xfe && (head[1] & 0xff) == 0xff) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (head.length >= 2 && (head[0] & 0xff) == 0xff && (head[1] & 0xff) == 0xfe) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+    private static Charset charsetOrNull(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        try {
+            return Charset.forName(name.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // <p class="... greeting-text ..."> 를 찾는다. 반환값은 {여는 태그 시작, 여는 태그의 '>'}
+    // 찾지 못하면 {-1, 다음 청크에서 다시 볼 위치}
+    private static int[] findBlockStart(StringBuilder html, int from) {
+        int i = from;
+        while (true) {
+            int lt = html.indexOf("<", i);
+            if (lt < 0) {
+                return new int[]{-1, html.length()};
+            }
+            int skipped = skipOpaque(html, lt);
+            if (skipped == 0) {
+                return new int[]{-1, lt};
+            }
+            if (skipped > 0) {
+                i = skipped;
+                continue;
+            }
+            int gt = html.indexOf(">", lt);
+            if (gt < 0) {
+                return new int[]{-1, lt};
+            }
+            if (isTag(html, lt, "p", gt) && hasClass(html.substring(lt, gt), BLOCK_CLASS)) {
+                return new int[]{lt, gt};
+            }
+            i = gt + 1;
+        }
+    }
+
+    // 주석, <script>, <style> 이면 그 끝 다음 위치, 끝을 아직 받지 못했으면 0, 해당 없으면 -1
+    private static int skipOpaque(StringBuilder html, int lt) {
+        if (startsWith(html, lt, "<!--")) {
+            int end = html.indexOf("-->", lt + 4);
+            return end < 0 ? 0 : end + 3;
+        }
+        for (String raw : new String[]{"script", "style"}) {
+            if (isTag(html, lt, raw, html.length())) {
+                int end = indexOfIgnoreCase(html, "</" + raw, lt);
+                return end < 0 ? 0 : end + raw.length() + 2;
+            }
+        }
+        return -1;
+    }
+
+    // <p ...> 블록의 직계 자식만 본다 (Jsoup 의 "p.greeting-text > b#forumName", "p.greeting-text > span")
+    private static OnAir extract(StringBuilder html, int from, int blockEnd) {
+        String title = null;
+        String spanText = null;
+        int depth = 0;
+        int captureStart = -1;
+        boolean captureTitle = false;
+
+        int i = from;
+        while (i < blockEnd) {
+            int lt = indexOf(html, "<", i, blockEnd);
+            if (lt < 0) {
+                break;
+            }
+            int skipped = skipOpaque(html, lt);
+            if (skipped > 0) {
+                i = skipped;
+                continue;
+            }
+            int gt = indexOf(html, ">", lt, blockEnd);
+            if (gt < 0) {
+                break;
+            }
+            boolean closing = lt + 1 < gt && html.charAt(lt + 1) == '/';
+            String name = tagName(html, closing ? lt + 2 : lt + 1, gt);
+            if (name.isEmpty()) {
+                i = gt + 1;
+                continue;
+            }
+            if (closing) {
+                if (depth > 0) {
+                    depth--;
+                    if (depth == 0 && captureStart >= 0) {
+                        String text = text(html, captureStart, lt);
+                        if (captureTitle) {
+                            title = text;
+                        } else {
+                            spanText = text;
+                        }
+                        captureStart = -1;
+                    }
+                }
+            } else if (!isVoid(name) && html.charAt(gt - 1) != '/') {
+                if (depth == 0) {
+                    String tag = html.substring(lt, gt);
+                    if (title == null && name.equals("b") && TITLE_ID.equals(attribute(tag, ID_ATTR))) {
+                        captureStart = gt + 1;
+                        captureTitle = true;
+                    } else if (spanText == null && name.equals("span")) {
+                        captureStart = gt + 1;
+                        captureTitle = false;
+                    }
+                }
+                depth++;
+            }
+            i = gt + 1;
+        }
+
+        if (title == null && spanText == null) {
+            return null;
+        }
+        return OnAir.of(title == null ? "" : title, spanText);
+    }
+
+    private static boolean isTag(StringBuilder html, int lt, String name, int limit) {
+        int after = lt + 1 + name.length();
+        if (after >= limit || !startsWithIgnoreCase(html, lt + 1, name)) {
+            return false;
+        }
+        char c = html.charAt(after);
+        return Character.isWhitespace(c) || c == '>' || c == '/';
+    }
+
+    private static String tagName(StringBuilder html, int from, int limit) {
+        int i = from;
+        while (i < limit && Character.isLetterOrDigit(html.charAt(i))) {
+            i++;
+        }
+        return html.substring(from, i).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isVoid(String name) {
+        switch (name) {
+            case "br", "img", "hr", "input", "meta", "link", "wbr", "area", "base", "col", "embed", "source",
+                    "track":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasClass(String tag, String className) {
+        String classes = attribute(tag, CLASS_ATTR);
+        if (classes == null) {
+            return false;
+        }
+        for (String token : classes.trim().split("\\s+")) {
+            if (token.equalsIgnoreCase(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String attribute(String tag, Pattern pattern) {
+        Matcher m = pattern.matcher(tag);
+        if (!m.find()) {
+            return null;
+        }
+        return m.group(1) != null ? m.group(1) : m.group(2) != null ? m.group(2) : m.group(3);
+    }
+
+    private static Pattern attributePattern(String name) {
+        return Pattern.compile("\\s" + name + "\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))",
+                Pattern.CASE_INSENSITIVE);
+    }
+
+    private static boolean startsWith(StringBuilder html, int at, String prefix) {
+        return html.length() >= at + prefix.length() && html.indexOf(prefix, at) == at;
+    }
+
+    private static boolean startsWithIgnoreCase(StringBuilder html, int at, String prefix) {
+        if (html.length() < at + prefix.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (Character.toLowerCase(html.charAt(at + k)) != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfIgnoreCase(StringBuilder html, String target, int from) {
+        for (int i = Math.max(0, from); i + target.length() <= html.length(); i++) {
+            if (html.charAt(i) == '<' && startsWithIgnoreCase(html, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(StringBuilder html, String target, int from, int to) {
+        int at = html.indexOf(target, from);
+        return at >= 0 && at < to ? at : -1;
+    }
+
+    // 태그를 제거하고 공백을 하나로 합친다 (Jsoup Element.text() 와 같은 결과)
+    private static String text(StringBuilder html, int from, int to) {
+        StringBuilder raw = new StringBuilder(to - from);
+        boolean hasEntity = false;
+        int i = from;
+        while (i < to) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int tagEnd = html.indexOf(">", i);
+                if (tagEnd < 0 || tagEnd >= to) {
+                    break;
+                }
+                if (isBreakTag(html, i)) {
+                    raw.append(' ');
+                }
+                i = tagEnd + 1;
+                continue;
+            }
+            if (c == '&') {
+                hasEntity = true;
+            }
+            raw.append(c);
+            i++;
+        }
+        String text = hasEntity ? Parser.unescapeEntities(raw.toString(), false) : raw.toString();
+        return normalizeWhitespace(text);
+    }
+
+    private static String normalizeWhitespace(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        boolean changed = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u00a0') {
+                if (c != ' ' || pendingSpace || out.length() == 0) {
+                    changed = true;
+                }
+                pendingSpace = out.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(c);
+            }
+        }
+        return changed || pendingSpace ? out.toString() : text;
+    }
+
+    private static boolean isBreakTag(StringBuilder html, int tagStart) {
+        return tagStart + 3 < html.length()
+                && (html.charAt(tagStart + 1) == 'b' || html.charAt(tagStart + 1) == 'B')
+                && (html.charAt(tagStart + 2) == 'r' || html.charAt(tagStart + 2) == 'R')
+                && !Character.isLetterOrDigit(html.charAt(tagStart + 3));
+    }
+
+    // 파싱 결과 (찾지 못한 항목은 빈 문자열)
+    public static final class OnAir {
+        private final String title;
+        private final String mc;
+        private final String time;
+
+        private OnAir(String title, String mc, String time) {
+            this.title = title;
+            this.mc = mc;
+            this.time = time;
+        }
+
+        // spanText 예: "MC : 강세민 | 방송시간 : 18:05 ~ 19:55"
+        static OnAir of(String title, String spanText) {
+            String mc = "";
+            String time = "";
+            if (spanText != null) {
+                Matcher mcMatcher = MC_PATTERN.matcher(spanText);
+                if (mcMatcher.find()) {
+                    mc = mcMatcher.group(1).trim();
+                }
+                Matcher timeMatcher = TIME_PATTERN.matcher(spanText);
+                if (timeMatcher.find()) {
+                    time = timeMatcher.group(1).trim();
+                }
+            }
+            return new OnAir(title, mc, time);
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getMc() {
+            return mc;
+        }
+
+        public String getTime() {
+            return time;
+        }
+    }
+}
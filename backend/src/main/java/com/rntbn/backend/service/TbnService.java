@@ -1,19 +1,41 @@
 package com.rntbn.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rntbn.backend.dto.BroadcastInfo;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+// tbn.or.kr 방송 정보 조회
+// - 지역별 서킷 브레이커: 연속 실패하면 잠시 호출을 멈추고, 시간이 지나면 프로브 하나로 복구를 확인한다
+// - 벌크헤드: 동시에 나가는 스크래핑 수를 제한한다 (자리가 없으면 잠깐만 기다린다)
+// - 호출하지 못했거나 실패하면 마지막 정상 값을 stale + ageSeconds 로 돌려준다 (없으면 "정보 로드 실패")
 @Service
 public class TbnService {
 
+    static final String LOAD_FAILED = "정보 로드 실패";
+    static final String NO_INFO = "정보 없음";
+
     private static final Map<String, String> REGION_NAMES = new HashMap<>();
 
     static {
@@ -33,54 +55,246 @@ public class TbnService {
         REGION_NAMES.put("14", "충남");
     }
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotPathMetrics metrics;
+
+    @Value("${tbn.upstream.onair-url:https://www.tbn.or.kr/onair/tbnlive.tbn?area_code=}")
+    private String onairUrl;
+
+    @Value("${tbn.upstream.timeout-ms:4000}")
+    private int timeoutMillis;
+
+    @Value("${tbn.upstream.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${tbn.upstream.bulkhead-wait-ms:100}")
+    private long bulkheadWaitMillis;
+
+    @Value("${tbn.upstream.circuit.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${tbn.upstream.circuit.open-seconds:30}")
+    private long openSeconds;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private final Map<String, CircuitBreaker> breakers = new HashMap<>();
+    private final Map<String, LastGood> lastGood = new ConcurrentHashMap<>();
+    private Semaphore bulkhead;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    // 지역 목록은 바뀌지 않으므로 ETag 도 처음 한 번만 계산한다
+    private volatile String regionsEtag;
+
+    private final BroadcastInfoCache cache = new BroadcastInfoCache(this::loadBroadcastInfo, clock);
+
+    @PostConstruct
+    public void init() {
+        bulkhead = new Semaphore(maxConcurrent);
+        for (String regionCode : REGION_NAMES.keySet()) {
+            breakers.put(regionCode, new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds), clock));
+        }
+    }
+
     public BroadcastInfo getBroadcastInfo(String regionCode) {
+        if (!REGION_NAMES.containsKey(regionCode)) {
+            // 알 수 없는 지역 코드는 업스트림에 보내지도, 캐시에 쌓지도 않는다
+            return emptyInfo(regionCode);
+        }
+        return cache.get(regionCode);
+    }
+
+    public boolean isKnownRegion(String regionCode) {
+        return REGION_NAMES.containsKey(regionCode);
+    }
+
+    static Set<String> regionCodes() {
+        return Collections.unmodifiableSet(REGION_NAMES.keySet());
+    }
+
+    // 아직 조회된 적이 없는 지역용 기본값
+    public BroadcastInfo emptyInfo(String regionCode) {
+        return new BroadcastInfo(NO_INFO, NO_INFO, NO_INFO, regionCode,
+                REGION_NAMES.getOrDefault(regionCode, "알수없음"));
+    }
+
+    public Map<String, Long> getCacheStats() {
+        return cache.stats();
+    }
+
+    // 지역별 서킷 브레이커 상태
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((regionCode, breaker) -> states.put(regionCode, breaker.getState()));
+        return states;
+    }
+
+    // 업스트림 호출 통계와 지역별 브레이커 상태
+    public Map<String, Object> getUpstreamStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", calls.sum());
+        stats.put("failures", failures.sum());
+        stats.put("shortCircuited", shortCircuited.sum());
+        stats.put("bulkheadRejected", bulkheadRejected.sum());
+        stats.put("staleServed", staleServed.sum());
+        stats.put("inFlight", (long) (maxConcurrent - bulkhead.availablePermits()));
+        Map<String, String> circuits = new TreeMap<>();
+        breakers.forEach((regionCode, breaker) -> circuits.put(regionCode, breaker.getState().name()));
+        stats.put("circuits", circuits);
+        return stats;
+    }
+
+    // 캐시 미스 시 로더: 브레이커 → 벌크헤드 → 스크래핑, 못 하면 마지막 정상 값
+    BroadcastInfo loadBroadcastInfo(String regionCode) {
+        CircuitBreaker breaker = breakers.get(regionCode);
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            metrics.scrapeFailed(HotPathMetrics.ScrapeFailure.CIRCUIT_OPEN);
+            return fallback(regionCode);
+        }
+        if (!acquireBulkhead(bulkheadWaitMillis)) {
+            breaker.release();
+            bulkheadRejected.increment();
+            metrics.scrapeFailed(HotPathMetrics.ScrapeFailure.BULKHEAD);
+            return fallback(regionCode);
+        }
+        calls.increment();
+        long start = System.nanoTime();
         try {
-            String url = "https://www.tbn.or.kr/onair/tbnlive.tbn?area_code=" + regionCode;
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(10000)
-                    .get();
-
-            // 1. 프로그램명 (title)
-            String title = "";
-            Element forumNameB = doc.selectFirst("p.greeting-text > b#forumName");
-            if (forumNameB != null) {
-                title = forumNameB.text();
-            }
+            BroadcastInfo info = fetchBroadcastInfo(regionCode);
+            breaker.onSuccess();
+            lastGood.put(regionCode, new LastGood(info, clock.instant()));
+            return info;
+        } catch (IOException | RuntimeException e) {
+            breaker.onFailure();
+            failures.increment();
+            metrics.scrapeFailed(HotPathMetrics.causeOf(e));
+            System.out.println("❌ TBN 조회 실패 (" + regionCode + ", circuit=" + breaker.getState() + "): "
+                    + e.getMessage());
+            return fallback(regionCode);
+        } finally {
+            metrics.recordScrape(regionCode, start);
+            bulkhead.release();
+        }
+    }
 
-            // 2. MC, 방송시간
-            String mc = "";
-            String time = "";
-            Element span = doc.selectFirst("p.greeting-text > span");
-            if (span != null) {
-                String spanText = span.text(); // 예: "MC : 강세민 | 방송시간 : 18:05 ~ 19:55"
-                // MC 추출
-                Pattern mcPattern = Pattern.compile("MC\\s*[:：]\\s*([^|│｜\\n\\r]*)");
-                Matcher mcMatcher = mcPattern.matcher(spanText);
-                if (mcMatcher.find()) {
-                    mc = mcMatcher.group(1).trim();
-                }
-                // 방송시간 추출
-                Pattern timePattern = Pattern.compile("방송시간\\s*[:：]\\s*([0-9:~\\s]+)");
-                Matcher timeMatcher = timePattern.matcher(spanText);
-                if (timeMatcher.find()) {
-                    time = timeMatcher.group(1).trim();
-                }
-            }
+    private boolean acquireBulkhead(long waitMillis) {
+        try {
+            return bulkhead.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-            return new BroadcastInfo(
-                    title.isEmpty() ? "정보 없음" : title,
-                    mc.isEmpty() ? "정보 없음" : mc,
-                    time.isEmpty() ? "정보 없음" : time,
-                    regionCode,
-                    REGION_NAMES.getOrDefault(regionCode, "알수없음"));
-        } catch (Exception e) {
-            return new BroadcastInfo("정보 로드 실패", "정보 로드 실패", "정보 로드 실패", regionCode,
+    // 마지막 정상 값을 stale 로 표시해서 돌려준다 (한 번도 성공하지 못했으면 로드 실패)
+    private BroadcastInfo fallback(String regionCode) {
+        LastGood good = lastGood.get(regionCode);
+        if (good == null) {
+            return new BroadcastInfo(LOAD_FAILED, LOAD_FAILED, LOAD_FAILED, regionCode,
                     REGION_NAMES.getOrDefault(regionCode, "알수없음"));
         }
+        staleServed.increment();
+        BroadcastInfo info = good.info;
+        BroadcastInfo stale = new BroadcastInfo(info.getTitle(), info.getMc(), info.getTime(),
+                info.getRegionCode(), info.getRegionName());
+        stale.setStale(true);
+        stale.setAgeSeconds(Duration.between(good.fetchedAt, clock.instant()).getSeconds());
+        return stale;
+    }
+
+    // onair 페이지의 오늘 편성표. 방송 정보와 같은 브레이커/벌크헤드를 거치고, 호출하지 못하면 예외
+    public ScheduleParser.Timetable fetchSchedule(String regionCode) throws IOException {
+        CircuitBreaker breaker = breakers.get(regionCode);
+        if (breaker == null) {
+            throw new IllegalArgumentException("Unknown region code: " + regionCode);
+        }
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            metrics.scrapeFailed(HotPathMetrics.ScrapeFailure.CIRCUIT_OPEN);
+            throw new IOException("서킷 브레이커 열림");
+        }
+        // 백그라운드 작업이라 기다리는 사용자가 없다: 자리가 날 때까지 타임아웃만큼 기다린다
+        if (!acquireBulkhead(timeoutMillis)) {
+            breaker.release();
+            bulkheadRejected.increment();
+            metrics.scrapeFailed(HotPathMetrics.ScrapeFailure.BULKHEAD);
+            throw new IOException("동시 요청 한도 초과");
+        }
+        calls.increment();
+        long start = System.nanoTime();
+        try {
+            ScheduleParser.Timetable timetable = ScheduleParser.parse(Jsoup.connect(onairUrl + regionCode)
+                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                    .timeout(timeoutMillis)
+                    .get());
+            breaker.onSuccess();
+            return timetable;
+        } catch (IOException | RuntimeException e) {
+            breaker.onFailure();
+            failures.increment();
+            metrics.scrapeFailed(HotPathMetrics.causeOf(e));
+            throw e;
+        } finally {
+            metrics.recordScrape(regionCode, start);
+            bulkhead.release();
+        }
+    }
+
+    // tbn.or.kr onair 페이지를 직접 조회 (연결/응답 오류는 예외로 올린다)
+    BroadcastInfo fetchBroadcastInfo(String regionCode) throws IOException {
+        String url = onairUrl + regionCode;
+        Connection.Response response = Jsoup.connect(url)
+                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                .timeout(timeoutMillis)
+                .execute();
+
+        // 전체 DOM 을 만들지 않고 greeting-text 블록까지만 읽는다 (인코딩은 헤더, 없으면 <meta> 로 정한다)
+        TbnPageParser.OnAir onAir;
+        try (InputStream body = response.bodyStream()) {
+            onAir = TbnPageParser.parse(body, response.charset(), url);
+        }
+
+        return new BroadcastInfo(
+                onAir.getTitle().isEmpty() ? NO_INFO : onAir.getTitle(),
+                onAir.getMc().isEmpty() ? NO_INFO : onAir.getMc(),
+                onAir.getTime().isEmpty() ? NO_INFO : onAir.getTime(),
+                regionCode,
+                REGION_NAMES.getOrDefault(regionCode, "알수없음"));
     }
 
     public Map<String, String> getAllRegions() {
         return new HashMap<>(REGION_NAMES);
     }
-}
\ No newline at end of file
+
+    public String getRegionsEtag() {
+        String etag = regionsEtag;
+        if (etag == null) {
+            try {
+                etag = ContentETag.of(objectMapper.writeValueAsBytes(getAllRegions()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("지역 목록 직렬화 실패", e);
+            }
+            regionsEtag = etag;
+        }
+        return etag;
+    }
+
+    private static final class LastGood {
+        private final BroadcastInfo info;
+        private final Instant fetchedAt;
+
+        private LastGood(BroadcastInfo info, Instant fetchedAt) {
+            this.info = info;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.TrafficIncident;
+
+import java.io.IOException;
+import java.util.List;
+
+// 교통정보 소스
+// 주기적으로 호출되며 지난 호출 이후 새로 생기거나 바뀐(해제 포함) 사고를 돌려준다.
+// 바뀌지 않은 사고를 다시 돌려줘도 된다 (인덱스가 내용을 비교해 무시한다).
+public interface TrafficIncidentSource {
+
+    List<TrafficIncident> poll() throws IOException;
+}
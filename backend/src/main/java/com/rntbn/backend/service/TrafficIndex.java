@@ -0,0 +1,328 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.TrafficChanges;
+import com.rntbn.backend.dto.TrafficIncident;
+import com.rntbn.backend.dto.TrafficNews;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 지역별 교통정보 인덱스 (증분 갱신)
+// - 변경마다 버전을 올리고 "버전 → 사고별 마지막 변경" 을 전체/지역별 TreeMap 에 둔다.
+//   since 이후 변경은 tailMap 으로 찾으므로 전체를 훑지 않는다
+// - 만료는 만료 시각 순 힙의 앞쪽만 꺼낸다. 사고 수가 max-incidents 를 넘으면 곧 만료될 것부터 내린다
+// - 해제/만료된 사고는 tombstone 으로 잠시 남겨 변경분의 removed 로 알려 주고, 보존 시간이 지나면 정리한다
+// - 조회용 지역별 목록은 바뀐 지역만 다시 만들어 통째로 교체한다 (읽기는 락 없음)
+public class TrafficIndex {
+
+    private static final Set<String> PRIORITIES = Set.of("high", "medium", "low");
+    private static final Comparator<TrafficNews> NEWEST_FIRST =
+            Comparator.comparing(TrafficNews::getCreatedAt).reversed();
+    private static final TreeMap<Long, Entry> NO_CHANGES = new TreeMap<>();
+
+    private final Duration defaultTtl;
+    private final Duration tombstoneRetention;
+    private final int maxIncidents;
+    private final Clock clock;
+
+    private long version;
+    // 버전이 이 값 이하인 삭제 기록은 정리됐다. since 가 이보다 작으면 변경분 대신 전체 목록을 준다
+    private long floorVersion;
+
+    private final Map<String, Entry> active = new HashMap<>();
+    private final Map<String, Map<String, Entry>> activeByRegion = new HashMap<>();
+    // 사고 id → 마지막 변경 (활성 또는 tombstone)
+    private final Map<String, Entry> latest = new HashMap<>();
+    private final TreeMap<Long, Entry> changes = new TreeMap<>();
+    private final Map<String, TreeMap<Long, Entry>> changesByRegion = new HashMap<>();
+    // 만료 시각 순. 갱신된 사고의 이전 항목은 꺼낼 때 건너뛴다
+    private final PriorityQueue<Entry> expiry = new PriorityQueue<>(Comparator.comparing(e -> e.expiresAt));
+    private final ArrayDeque<Entry> tombstones = new ArrayDeque<>();
+
+    private volatile Map<String, List<TrafficNews>> regionViews = Map.of();
+    private volatile AllView allView;
+
+    private long upserted;
+    private long cleared;
+    private long expired;
+    private long evicted;
+
+    public TrafficIndex(Duration defaultTtl, Duration tombstoneRetention, int maxIncidents, Clock clock) {
+        this.defaultTtl = defaultTtl;
+        this.tombstoneRetention = tombstoneRetention;
+        this.maxIncidents = maxIncidents;
+        this.clock = clock;
+        // 재시작해도 버전이 뒤로 가지 않도록 시각에서 시작한다 (이전 버전을 가진 클라이언트는 전체 목록을 받음)
+        this.version = clock.millis();
+        this.floorVersion = version;
+    }
+
+    // 소스에서 받은 사고를 반영하고 만료/초과분을 정리한다
+    public synchronized void apply(List<TrafficIncident> incidents) {
+        Instant now = clock.instant();
+        Set<String> touched = new HashSet<>();
+        for (TrafficIncident incident : incidents) {
+            if (incident.getId() == null || incident.getRegion() == null) {
+                continue;
+            }
+            Entry current = active.get(incident.getId());
+            if (incident.isCleared()) {
+                if (current != null) {
+                    remove(current, now, touched);
+                    cleared++;
+                }
+                continue;
+            }
+            TrafficNews news = toNews(incident, current, now);
+            Instant expiresAt = incident.getExpiresAt() != null
+                    ? incident.getExpiresAt().toInstant()
+                    : news.getCreatedAt().toInstant().plus(defaultTtl);
+            if (!expiresAt.isAfter(now)) {
+                if (current != null) {
+                    remove(current, now, touched);
+                    expired++;
+                }
+                continue;
+            }
+            if (current != null && current.expiresAt.equals(expiresAt) && sameContent(current.news, news)) {
+                continue;
+            }
+            if (current != null && !current.region.equals(news.getRegion())) {
+                // 지역이 바뀌면 이전 지역에는 삭제로 남긴다
+                remove(current, now, touched);
+            }
+            put(news, expiresAt, touched);
+            upserted++;
+        }
+        expire(now, touched);
+        publish(touched);
+    }
+
+    // 소스에 새 데이터가 없어도 주기적으로 호출해 만료를 반영한다
+    public synchronized void expire() {
+        Set<String> touched = new HashSet<>();
+        expire(clock.instant(), touched);
+        publish(touched);
+    }
+
+    // 지역의 활성 교통정보 (최신순)
+    public List<TrafficNews> getNews(String region) {
+        return regionViews.getOrDefault(region, List.of());
+    }
+
+    // 전 지역 활성 교통정보 (최신순). 지역 목록이 바뀐 뒤 처음 읽을 때만 합친다
+    public List<TrafficNews> getAllNews() {
+        Map<String, List<TrafficNews>> views = regionViews;
+        AllView all = allView;
+        if (all == null || all.source != views) {
+            List<TrafficNews> merged = new ArrayList<>();
+            views.values().forEach(merged::addAll);
+            merged.sort(NEWEST_FIRST);
+            all = new AllView(views, List.copyOf(merged));
+            allView = all;
+        }
+        return all.news;
+    }
+
+    // since 이후 변경 (region 이 null 이면 전 지역)
+    public synchronized TrafficChanges changesSince(String region, long since) {
+        if (since < floorVersion || since > version) {
+            List<TrafficNews> news = region == null ? getAllNews() : getNews(region);
+            return new TrafficChanges(version, true, news, List.of());
+        }
+        NavigableMap<Long, Entry> log = region == null ? changes : changesByRegion.getOrDefault(region, NO_CHANGES);
+        List<TrafficNews> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Entry entry : log.tailMap(since, false).values()) {
+            if (entry.news != null) {
+                updated.add(entry.news);
+            } else {
+                removed.add(entry.id);
+            }
+        }
+        return new TrafficChanges(version, false, updated, removed);
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("version", version);
+        stats.put("active", (long) active.size());
+        stats.put("tombstones", (long) tombstones.size());
+        stats.put("upserted", upserted);
+        stats.put("cleared", cleared);
+        stats.put("expired", expired);
+        stats.put("evicted", evicted);
+        return stats;
+    }
+
+    private void put(TrafficNews news, Instant expiresAt, Set<String> touched) {
+        Entry entry = new Entry(news.getId(), news.getRegion(), news, expiresAt);
+        record(entry);
+        active.put(entry.id, entry);
+        activeByRegion.computeIfAbsent(entry.region, k -> new HashMap<>()).put(entry.id, entry);
+        expiry.add(entry);
+        touched.add(entry.region);
+    }
+
+    private void remove(Entry current, Instant now, Set<String> touched) {
+        active.remove(current.id);
+        Map<String, Entry> region = activeByRegion.get(current.region);
+        region.remove(current.id);
+        if (region.isEmpty()) {
+            activeByRegion.remove(current.region);
+        }
+        Entry tombstone = new Entry(current.id, current.region, null, now);
+        record(tombstone);
+        tombstones.add(tombstone);
+        touched.add(current.region);
+    }
+
+    // 새 버전을 붙이고, 같은 사고의 이전 변경은 로그에서 뺀다 (사고당 한 건만 남음)
+    private void record(Entry entry) {
+        entry.version = ++version;
+        Entry previous = latest.put(entry.id, entry);
+        if (previous != null) {
+            changes.remove(previous.version);
+            if (previous.region.equals(entry.region)) {
+                changesByRegion.get(previous.region).remove(previous.version);
+            }
+        }
+        changes.put(entry.version, entry);
+        changesByRegion.computeIfAbsent(entry.region, k -> new TreeMap<>()).put(entry.version, entry);
+    }
+
+    private void expire(Instant now, Set<String> touched) {
+        while (!expiry.isEmpty() && !expiry.peek().expiresAt.isAfter(now)) {
+            Entry entry = expiry.poll();
+            if (active.get(entry.id) == entry) {
+                remove(entry, now, touched);
+                expired++;
+            }
+        }
+        // 러시아워 급증 대비: 한도를 넘으면 곧 만료될 사고부터 내린다
+        while (active.size() > maxIncidents) {
+            Entry entry = expiry.poll();
+            if (active.get(entry.id) == entry) {
+                remove(entry, now, touched);
+                evicted++;
+            }
+        }
+        // 갱신으로 버려진 항목이 쌓이면 힙을 다시 만든다
+        if (expiry.size() > 2 * active.size() + 1024) {
+            expiry.clear();
+            expiry.addAll(active.values());
+        }
+        Instant horizon = now.minus(tombstoneRetention);
+        while (!tombstones.isEmpty()
+                && (tombstones.size() > maxIncidents || !tombstones.peek().expiresAt.isAfter(horizon))) {
+            purge(tombstones.poll());
+        }
+    }
+
+    private void purge(Entry tombstone) {
+        boolean dropped = false;
+        if (latest.get(tombstone.id) == tombstone) {
+            latest.remove(tombstone.id);
+        }
+        if (changes.get(tombstone.version) == tombstone) {
+            changes.remove(tombstone.version);
+            dropped = true;
+        }
+        TreeMap<Long, Entry> regionChanges = changesByRegion.get(tombstone.region);
+        if (regionChanges != null && regionChanges.get(tombstone.version) == tombstone) {
+            regionChanges.remove(tombstone.version);
+            dropped = true;
+            if (regionChanges.isEmpty()) {
+                changesByRegion.remove(tombstone.region);
+            }
+        }
+        if (dropped) {
+            floorVersion = Math.max(floorVersion, tombstone.version);
+        }
+    }
+
+    // 바뀐 지역의 조회 목록만 다시 만들어 교체
+    private void publish(Set<String> touched) {
+        if (touched.isEmpty()) {
+            return;
+        }
+        Map<String, List<TrafficNews>> views = new HashMap<>(regionViews);
+        for (String region : touched) {
+            Map<String, Entry> entries = activeByRegion.get(region);
+            if (entries == null) {
+                views.remove(region);
+            } else {
+                views.put(region, entries.values().stream().map(e -> e.news).sorted(NEWEST_FIRST).toList());
+            }
+        }
+        regionViews = Map.copyOf(views);
+    }
+
+    private static TrafficNews toNews(TrafficIncident incident, Entry current, Instant now) {
+        OffsetDateTime createdAt = incident.getCreatedAt();
+        if (createdAt == null) {
+            createdAt = current != null
+                    ? current.news.getCreatedAt()
+                    : now.atZone(BroadcastTimes.ZONE).toOffsetDateTime();
+        }
+        // Set.of 는 contains(null) 에서 NPE 를 던지므로 null 을 먼저 거른다 (우선순위 없는 사고 하나가 배치 전체를 막지 않게)
+        String priority = incident.getPriority() != null && PRIORITIES.contains(incident.getPriority())
+                ? incident.getPriority() : "medium";
+        return new TrafficNews(incident.getId(), incident.getTitle(), incident.getContent(), incident.getRegion(),
+                createdAt, priority);
+    }
+
+    private static boolean sameContent(TrafficNews a, TrafficNews b) {
+        return Objects.equals(a.getTitle(), b.getTitle())
+                && Objects.equals(a.getContent(), b.getContent())
+                && Objects.equals(a.getRegion(), b.getRegion())
+                && Objects.equals(a.getCreatedAt(), b.getCreatedAt())
+                && Objects.equals(a.getPriority(), b.getPriority());
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final String region;
+        // tombstone 이면 null
+        private final TrafficNews news;
+        // 활성: 만료 시각, tombstone: 삭제 시각
+        private final Instant expiresAt;
+        private long version;
+
+        private Entry(String id, String region, TrafficNews news, Instant expiresAt) {
+            this.id = id;
+            this.region = region;
+            this.news = news;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class AllView {
+        private final Map<String, List<TrafficNews>> source;
+        private final List<TrafficNews> news;
+
+        private AllView(Map<String, List<TrafficNews>> source, List<TrafficNews> news) {
+            this.source = source;
+            this.news = news;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.TrafficChanges;
+import com.rntbn.backend.dto.TrafficNews;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 교통정보 수집: 소스를 주기적으로 읽어 인덱스에 반영하고, 새 데이터가 없어도 만료는 처리한다
+@Service
+public class TrafficService {
+
+    @Autowired
+    private TrafficIncidentSource source;
+
+    @Value("${tbn.traffic.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tbn.traffic.poll-seconds:5}")
+    private long pollSeconds;
+
+    @Value("${tbn.traffic.default-ttl-minutes:60}")
+    private long defaultTtlMinutes;
+
+    @Value("${tbn.traffic.tombstone-minutes:30}")
+    private long tombstoneMinutes;
+
+    @Value("${tbn.traffic.max-incidents:10000}")
+    private int maxIncidents;
+
+    private TrafficIndex index;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        index = new TrafficIndex(Duration.ofMinutes(defaultTtlMinutes), Duration.ofMinutes(tombstoneMinutes),
+                maxIncidents, Clock.systemUTC());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tbn-traffic");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public List<TrafficNews> getAllNews() {
+        return index.getAllNews();
+    }
+
+    public List<TrafficNews> getNews(String regionCode) {
+        return index.getNews(regionCode);
+    }
+
+    // regionCode 가 null 이면 전 지역
+    public TrafficChanges getChanges(String regionCode, long since) {
+        return index.changesSince(regionCode, since);
+    }
+
+    public Map<String, Long> getStats() {
+        return index.stats();
+    }
+
+    private void poll() {
+        try {
+            index.apply(source.poll());
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ 교통정보 소스 조회 실패: " + e.getMessage());
+            index.expire();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.rntbn.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 외부 호출(Google 로그인 등)을 톰캣 요청 스레드가 아닌 별도 풀에서 실행한다
+// - 풀 크기는 톰캣과 따로 잡는다: 업스트림이 느려져도 이 풀만 차고 다른 API 는 영향을 받지 않는다
+// - 큐까지 가득 차면 바로 거절한다 (RejectedExecutionException → 호출자는 503)
+// - 요청마다 마감 시간이 있다 (TimeoutException → 호출자는 504). 작업 자체는 끝까지 실행된다
+@Component
+public class UpstreamExecutor {
+
+    @Value("${upstream.executor.threads:8}")
+    private int threads;
+
+    @Value("${upstream.executor.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "upstream-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // task 를 업스트림 풀에서 실행한다. deadlineMillis 안에 끝나지 않으면 TimeoutException 으로 완료
+    public <T> CompletableFuture<T> supply(Supplier<T> task, long deadlineMillis) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(deadlineMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    if (e instanceof TimeoutException) {
+                        timedOut.increment();
+                    }
+                });
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("active", (long) executor.getActiveCount());
+        stats.put("queued", (long) executor.getQueue().size());
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,120 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.UserProfile;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 사용자 프로필 캐시 (이메일로 조회, 크기 제한 근사 LRU + TTL)
+// - 없는 사용자(가입 전 토큰)도 빈 값으로 캐시해 매 요청 DB 조회를 막는다
+// - UserService 의 쓰기 경로가 커밋된 뒤에 put/invalidate 한다 (write-through)
+// - 조회는 ConcurrentLruCache 라 전역 락이 없다
+@Component
+public class UserProfileCache {
+
+    @Value("${user.profile-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    @Value("${user.profile-cache.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    private ConcurrentLruCache<String, Entry> byEmail;
+    // 쓰기 경로가 put/invalidate 할 때마다 증가. DB 에서 읽는 도중 쓰기가 있었으면 읽은 값은 버린다
+    private final AtomicLong writeStamp = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        byEmail = new ConcurrentLruCache<>(maxSize);
+    }
+
+    public Optional<UserProfile> getByEmail(String email, Supplier<Optional<UserProfile>> loader) {
+        Entry entry = lookup(email);
+        if (entry != null) {
+            hits.increment();
+            return Optional.ofNullable(entry.profile);
+        }
+        misses.increment();
+        long stamp = writeStamp.get();
+        Optional<UserProfile> loaded = loader.get();
+        store(email, loaded.orElse(null), stamp);
+        return loaded;
+    }
+
+    // 쓰기 경로에서 커밋 후 호출
+    public void put(UserProfile profile) {
+        writeStamp.incrementAndGet();
+        byEmail.put(profile.getEmail(), new Entry(profile, expiry()));
+    }
+
+    public void invalidate(String email) {
+        writeStamp.incrementAndGet();
+        byEmail.remove(email);
+    }
+
+    public Map<String, Number> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Number> stats = new LinkedHashMap<>();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("evictions", byEmail.evictions() + expirations.sum());
+        stats.put("size", byEmail.size());
+        return stats;
+    }
+
+    // DB 에서 읽은 값 저장 (profile 이 null 이면 없는 사용자)
+    // 쓰기가 먼저 넣은 값은 덮어쓰지 않고, 넣은 뒤에 쓰기가 끼어들었으면 넣은 값을 다시 뺀다
+    private void store(String email, UserProfile profile, long stamp) {
+        if (writeStamp.get() != stamp) {
+            return;
+        }
+        Entry entry = new Entry(profile, expiry());
+        if (byEmail.putIfAbsent(email, entry) && writeStamp.get() != stamp) {
+            byEmail.remove(email, entry);
+        }
+    }
+
+    // 만료된 항목은 여기서 지운다
+    private Entry lookup(String email) {
+        Entry entry = byEmail.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos >= 0) {
+            if (byEmail.remove(email, entry)) {
+                expirations.increment();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private long expiry() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private static final class Entry {
+        // null 이면 DB 에 없는 사용자
+        private final UserProfile profile;
+        private final long expiresAtNanos;
+
+        private Entry(UserProfile profile, long expiresAtNanos) {
+            this.profile = profile;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.rntbn.backend.service;
 
+import com.rntbn.backend.dto.UserProfile;
 import com.rntbn.backend.entity.User;
 import com.rntbn.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.rntbn.backend.entity.WithdrawalHistory;
 import com.rntbn.backend.repository.WithdrawalHistoryRepository;
 
@@ -20,22 +25,72 @@ public class UserService {
     @Autowired
     private WithdrawalHistoryRepository withdrawalHistoryRepository;
 
+    @Autowired
+    private RecentCommentCache recentCommentCache;
+
+    @Autowired
+    private CommentHideJobRunner commentHideJobRunner;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private HotPathMetrics metrics;
+
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        long start = System.nanoTime();
+        try {
+            return userRepository.findByEmail(email);
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.FIND_BY_EMAIL, start);
+        }
+    }
+
+    // 인증 필터/프로필 조회용 (보통 메모리에서 응답)
+    public Optional<UserProfile> findProfileByEmail(String email) {
+        return userProfileCache.getByEmail(email, () -> findByEmail(email).map(UserProfile::from));
+    }
+
+    public Map<String, Number> getProfileCacheStats() {
+        return userProfileCache.stats();
     }
 
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        long start = System.nanoTime();
+        try {
+            return userRepository.existsByEmail(email);
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.EXISTS_BY_EMAIL, start);
+        }
     }
 
     public User findByProviderAndProviderId(String provider, String providerId) {
-        return userRepository.findByProviderAndProviderId(provider, providerId)
-                .orElse(null);
+        long start = System.nanoTime();
+        try {
+            return userRepository.findByProviderAndProviderId(provider, providerId)
+                    .orElse(null);
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.FIND_BY_PROVIDER, start);
+        }
     }
 
     public User findByEmailAndProvider(String email, String provider) {
-        return userRepository.findByEmailAndProvider(email, provider)
-                .orElse(null);
+        long start = System.nanoTime();
+        try {
+            return userRepository.findByEmailAndProvider(email, provider)
+                    .orElse(null);
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.FIND_BY_PROVIDER, start);
+        }
+    }
+
+    private User save(User user) {
+        long start = System.nanoTime();
+        try {
+            return userRepository.save(user);
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.SAVE, start);
+        }
     }
 
     public User createOrUpdateSocialUser(String email, String name, String picture, String provider,
@@ -62,11 +117,15 @@ public class UserService {
                 existingUser.setDeleted(false);
                 existingUser.setDeletedAt(null);
                 existingUser.setNickname(nickname);
+                Long userId = existingUser.getId();
+                afterCommit(() -> recentCommentCache.renameUser(userId, nickname));
             }
             existingUser.setName(name);
             existingUser.setPictureUrl(picture);
             existingUser.setProviderId(providerId);
-            return userRepository.save(existingUser);
+            User saved = save(existingUser);
+            putProfileAfterCommit(saved);
+            return saved;
         } else {
             // 새 사용자 생성
             User newUser = new User();
@@ -76,25 +135,38 @@ public class UserService {
             newUser.setPictureUrl(picture);
             newUser.setProvider(provider);
             newUser.setProviderId(providerId);
-            return userRepository.save(newUser);
+            User saved = save(newUser);
+            putProfileAfterCommit(saved);
+            return saved;
         }
     }
 
-    public User updateNickname(String email, String newNickname) {
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            user.setNickname(newNickname);
-            return userRepository.save(user);
-        } else {
+    // 읽고 저장하는 대신 UPDATE 한 번, 응답은 캐시된 프로필에 새 닉네임을 반영해서 만든다
+    public UserProfile updateNickname(String email, String newNickname) {
+        long start = System.nanoTime();
+        int updatedRows;
+        try {
+            updatedRows = userRepository.updateNicknameByEmail(email, newNickname, LocalDateTime.now());
+        } finally {
+            metrics.recordUserDb(HotPathMetrics.UserDbOp.UPDATE_NICKNAME, start);
+        }
+        if (updatedRows == 0) {
             throw new RuntimeException("사용자를 찾을 수 없습니다: " + email);
         }
+        UserProfile updated = findProfileByEmail(email)
+                .map(profile -> profile.withNickname(newNickname))
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + email));
+        afterCommit(() -> {
+            userProfileCache.put(updated);
+            recentCommentCache.renameUser(updated.getId(), newNickname);
+        });
+        return updated;
     }
 
     // (중요) 탈퇴 후 재가입(restoreUser) 시 닉네임을 항상 새로 설정
     @Transactional
     public void restoreUser(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
         user.setDeleted(false);
         user.setDeletedAt(null);
@@ -108,17 +180,21 @@ public class UserService {
             nickname = "user" + System.currentTimeMillis();
         }
         user.setNickname(nickname);
-        userRepository.save(user);
+        save(user);
+        putProfileAfterCommit(user);
+        Long userId = user.getId();
+        afterCommit(() -> recentCommentCache.renameUser(userId, nickname));
         // 활동 이력은 그대로 숨김
     }
 
     @Transactional
     public void softDeleteUser(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = findByEmail(email)
             .orElseThrow(() -> new RuntimeException("User not found"));
         user.setDeleted(true);
         user.setDeletedAt(java.time.LocalDateTime.now());
-        userRepository.save(user);
+        save(user);
+        putProfileAfterCommit(user);
         // 탈퇴 이력 기록 (복구)
         WithdrawalHistory history = new WithdrawalHistory(
             user.getEmail(),
@@ -130,6 +206,27 @@ public class UserService {
             user.getDeletedAt()
         );
         withdrawalHistoryRepository.save(history);
-        // 추가적으로 댓글/게시글 숨김 처리 등 필요 로직
+        // 댓글 숨김은 커밋 후 백그라운드에서 청크 단위로 처리 (탈퇴 시각 이전 댓글만)
+        commentHideJobRunner.enqueue(user.getId(), user.getDeletedAt());
+    }
+
+    // 캐시는 커밋된 값만 반영한다 (롤백되면 그대로 둔다). 프로필은 지금 값으로 미리 만들어 둔다
+    private void putProfileAfterCommit(User user) {
+        UserProfile profile = UserProfile.from(user);
+        afterCommit(() -> userProfileCache.put(profile));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 (리포지토리 호출이 이미 커밋됨) 바로 실행
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+-- 초기 스키마 (엔티티와 일치해야 함: prod 프로필은 ddl-auto=validate)
+
+create sequence comments_seq start with 1 increment by 50;
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    name varchar(255),
+    nickname varchar(255),
+    picture_url varchar(255),
+    provider varchar(255) not null,
+    provider_id varchar(255) not null,
+    is_deleted boolean,
+    deleted_at timestamp(6),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id),
+    -- 이메일 조회 (findByEmail, existsByEmail)
+    constraint uk_users_email unique (email),
+    constraint uk_users_provider_id unique (provider_id)
+);
+
+-- findByProviderAndProviderId
+create index idx_users_provider_provider_id on users (provider, provider_id);
+
+create table comments (
+    id bigint not null,
+    content varchar(500),
+    region_code varchar(255),
+    user_id bigint,
+    is_visible_to_user boolean,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_comments_user foreign key (user_id) references users (id)
+);
+
+-- 지역별 최신순 keyset 페이지네이션 (region_code, created_at)
+create index idx_comments_region_created_id on comments (region_code, created_at, id);
+-- 사용자별 조회/숨김 (user_id)
+create index idx_comments_user_id on comments (user_id, id);
+
+create table withdrawal_history (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    name varchar(255),
+    nickname varchar(255),
+    picture_url varchar(255),
+    provider varchar(255),
+    provider_id varchar(255),
+    withdrawn_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table comment_hide_jobs (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    cutoff timestamp(6) not null,
+    last_comment_id bigint not null,
+    hidden_count bigint not null,
+    status varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+-- 재시작 시 미완료 작업 조회 (findByStatusOrderByIdAsc)
+create index idx_comment_hide_jobs_status on comment_hide_jobs (status, id);
@@ -0,0 +1,106 @@
+package com.rntbn.backend.chat;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatOutboxTest {
+
+    private final WebSocketSession session = mock(WebSocketSession.class);
+    private final RemoteEndpoint.Async remote = mock(RemoteEndpoint.Async.class);
+    private final ExecutorService closer = Executors.newSingleThreadExecutor();
+    // 완료되지 않은 비동기 전송의 콜백
+    private final List<SendHandler> pending = new ArrayList<>();
+
+    ChatOutboxTest() {
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> pending.add(invocation.getArgument(1)))
+                .when(remote).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        closer.shutdownNow();
+    }
+
+    @Test
+    void sendsOneFrameAtATime() {
+        ChatOutbox outbox = new ChatOutbox(session, remote, 4, 8, closer);
+        outbox.offer("a");
+        outbox.offer("b");
+
+        verify(remote, times(1)).sendText(anyString(), any(SendHandler.class));
+        pending.get(0).onResult(new SendResult());
+        verify(remote, times(2)).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @Test
+    void closingSlowSessionDoesNotBlockTheBroadcaster() throws Exception {
+        // close 프레임이 진행 중인 전송 뒤에서 막히는 상황
+        CountDownLatch closeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            closeStarted.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(session).close(any());
+
+        ChatOutbox outbox = new ChatOutbox(session, remote, 2, 3, closer);
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            outbox.offer("m" + i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(outbox.isClosed()).isTrue();
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(closeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(session, times(1)).close(ChatOutbox.TOO_SLOW);
+        release.countDown();
+    }
+
+    @Test
+    void failedSendClosesOnCloserThread() throws Exception {
+        ChatOutbox outbox = new ChatOutbox(session, remote, 4, 8, closer);
+        outbox.offer("a");
+        outbox.offer("b");
+
+        pending.get(0).onResult(new SendResult(new IOException("reset")));
+
+        verify(session, timeout(5000)).close(any());
+        assertThat(outbox.isClosed()).isTrue();
+        verify(remote, times(1)).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @Test
+    void ignoresOffersAfterClose() throws Exception {
+        ChatOutbox outbox = new ChatOutbox(session, remote, 4, 8, closer);
+        outbox.close(ChatOutbox.TOO_SLOW);
+        outbox.offer("late");
+
+        verify(remote, never()).sendText(anyString(), any(SendHandler.class));
+        verify(session, timeout(5000).times(1)).close(ChatOutbox.TOO_SLOW);
+    }
+}
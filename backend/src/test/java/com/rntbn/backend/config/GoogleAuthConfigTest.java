@@ -0,0 +1,34 @@
+package com.rntbn.backend.config;
+
+import com.rntbn.backend.service.GooglePublicKeySource;
+import com.rntbn.backend.service.HttpGooglePublicKeySource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleAuthConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(GoogleAuthConfig.class);
+
+    @Test
+    void registersHttpKeySourceByDefault() {
+        contextRunner.run(context -> assertThat(context)
+                .hasSingleBean(GooglePublicKeySource.class)
+                .hasSingleBean(HttpGooglePublicKeySource.class));
+    }
+
+    @Test
+    void backsOffWhenAnotherKeySourceIsRegistered() {
+        GooglePublicKeySource local = Map::of;
+        contextRunner.withBean(GooglePublicKeySource.class, () -> local)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(GooglePublicKeySource.class);
+                    assertThat(context).doesNotHaveBean(HttpGooglePublicKeySource.class);
+                    assertThat(context.getBean(GooglePublicKeySource.class)).isSameAs(local);
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package com.rntbn.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    @Test
+    void onlyUserRepositoryInvocationsAreSkipped() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(MetricsConfig.skipUserRepositoryAutotime());
+
+        registry.timer(MetricsConfig.REPOSITORY_INVOCATIONS, "repository", "UserRepository", "method", "findByEmail");
+        registry.timer(MetricsConfig.REPOSITORY_INVOCATIONS, "repository", "CommentRepository", "method", "findLatestViews");
+        registry.timer("user.db.latency", "op", "find_by_email");
+
+        assertThat(registry.find(MetricsConfig.REPOSITORY_INVOCATIONS).tag("repository", "UserRepository").timer()).isNull();
+        assertThat(registry.find(MetricsConfig.REPOSITORY_INVOCATIONS).tag("repository", "CommentRepository").timer()).isNotNull();
+        assertThat(registry.find("user.db.latency").timer()).isNotNull();
+    }
+}
@@ -0,0 +1,29 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.security.AuthenticatedUser;
+import com.rntbn.backend.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuthControllerTest {
+
+    private final AuthController controller = new AuthController();
+    private final UserService userService = mock(UserService.class);
+
+    AuthControllerTest() {
+        ReflectionTestUtils.setField(controller, "userService", userService);
+    }
+
+    @Test
+    void deleteWithdrawsTheTokenOwner() {
+        AuthenticatedUser principal = new AuthenticatedUser("me@example.com", 7L, "me");
+
+        assertThat(controller.softDeleteUser(principal).getStatusCode().is2xxSuccessful()).isTrue();
+
+        verify(userService).softDeleteUser("me@example.com");
+    }
+}
@@ -0,0 +1,41 @@
+package com.rntbn.backend.controller;
+
+import com.rntbn.backend.dto.BroadcastInfo;
+import com.rntbn.backend.service.BroadcastPrefetcher;
+import com.rntbn.backend.service.TbnService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TbnControllerTest {
+
+    private final TbnController controller = new TbnController();
+    private final TbnService tbnService = mock(TbnService.class);
+    private final BroadcastPrefetcher broadcastPrefetcher = mock(BroadcastPrefetcher.class);
+
+    TbnControllerTest() {
+        ReflectionTestUtils.setField(controller, "tbnService", tbnService);
+        ReflectionTestUtils.setField(controller, "broadcastPrefetcher", broadcastPrefetcher);
+        when(tbnService.isKnownRegion("2")).thenReturn(true);
+    }
+
+    @Test
+    void singleRegionReadsTbnServiceWhenPrefetchIsDisabled() {
+        BroadcastInfo info = new BroadcastInfo("title", "mc", "07:00 ~ 09:00", "2", "부산");
+        when(broadcastPrefetcher.isEnabled()).thenReturn(false);
+        when(tbnService.getBroadcastInfo("2")).thenReturn(info);
+
+        ResponseEntity<BroadcastInfo> response = controller.getBroadcastInfo("2");
+
+        assertThat(response.getBody()).isSameAs(info);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-store");
+        verify(broadcastPrefetcher, never()).getSnapshot("2");
+    }
+}
@@ -0,0 +1,144 @@
+package com.rntbn.backend.relay;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RelayListenerTest {
+
+    private final RegionRelay relay = new RegionRelay("3", "http://127.0.0.1:1/live.m3u8", settings());
+
+    @AfterEach
+    void tearDown() {
+        relay.closeAll();
+    }
+
+    @Test
+    void coldRegionDoesNotCommitResponseBeforeContentType() throws Exception {
+        Client client = attach();
+
+        // 링이 비어 있으면 아무것도 쓰지도, flush 하지도 않는다
+        assertThat(client.out.flushes).isZero();
+        verify(client.response, never()).setContentType(anyString());
+
+        relay.contentType("video/MP2T");
+        relay.accept(new byte[]{1, 2, 3});
+
+        InOrder order = inOrder(client.response, client.out);
+        order.verify(client.response).setContentType("video/MP2T");
+        order.verify(client.out).flush();
+        assertThat(client.out.written.toByteArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void idleRestartDoesNotServePrerollFromPreviousSession() throws Exception {
+        Client first = attach();
+        relay.accept(new byte[]{1});
+        relay.accept(new byte[]{2});
+        first.listener.close();
+        awaitTrue(() -> !relay.isUpstreamRunning());
+
+        Client second = attach();
+        assertThat(second.out.written.size()).isZero();
+        relay.accept(new byte[]{9});
+
+        assertThat(second.out.written.toByteArray()).containsExactly(9);
+    }
+
+    private Client attach() throws IOException {
+        Client client = new Client();
+        RelayListener listener = new RelayListener(relay, client.async);
+        client.listener = listener;
+        relay.attach(listener);
+        listener.start();
+        return client;
+    }
+
+    private static AudioRelayHub.Settings settings() {
+        AudioRelayHub.Settings settings = new AudioRelayHub.Settings();
+        settings.ringChunks = 16;
+        settings.chunkBytes = 188;
+        settings.prerollChunks = 4;
+        // 청취자가 없으면 업스트림 스레드가 곧바로 멈춘다
+        settings.idleNanos = 0;
+        settings.upstreamTimeoutMillis = 200;
+        settings.hlsStartSegments = 3;
+        settings.minBackoffMillis = 50;
+        settings.maxBackoffMillis = 50;
+        settings.onDetach = () -> { };
+        return settings;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class Client {
+        private final AsyncContext async = mock(AsyncContext.class);
+        private final HttpServletResponse response = mock(HttpServletResponse.class);
+        private final FakeOutputStream out = spy(new FakeOutputStream());
+        private RelayListener listener;
+
+        private Client() throws IOException {
+            when(async.getResponse()).thenReturn(response);
+            when(response.getOutputStream()).thenReturn(out);
+        }
+    }
+
+    // 톰캣처럼 setWriteListener 에서 onWritePossible 을 부른다
+    static class FakeOutputStream extends ServletOutputStream {
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        int flushes;
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.rntbn.backend.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리포지토리 쿼리 메서드를 실제로 호출해서 Hibernate 가 만든 SQL 을 StatementInspector 로 받아
+// 운영 스키마(Flyway 마이그레이션) 위에서 H2 EXPLAIN 으로 검사한다. 테이블 풀 스캔이면 실패
+// - JPQL 이나 메서드 이름이 바뀌면 바뀐 SQL 이 그대로 검사된다
+// - 리포지토리에 새 쿼리 메서드를 추가하면 아래 calls() 에 호출을 등록해야 한다
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class QueryPlanTest {
+
+    private static final LocalDateTime TS = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    // H2 EXPLAIN 에서 테이블 접근은 /* PUBLIC.인덱스: 조건 */ 으로 표시된다.
+    // 조건 없이 이름만 있으면 (PUBLIC.T.tableScan, 정렬만을 위한 PRIMARY_KEY 순회) 전체를 읽는 것
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* ([A-Za-z0-9_]+\\.[A-Za-z0-9_.]+) \\*/");
+
+    private static final CapturingInspector INSPECTOR = new CapturingInspector();
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentHideJobRepository commentHideJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() {
+        Map<String, Runnable> calls = calls();
+        List<String> problems = new ArrayList<>();
+        for (String method : declaredQueryMethods()) {
+            if (!calls.containsKey(method)) {
+                problems.add(method + ": 검사용 호출이 등록되지 않음");
+            }
+        }
+
+        for (Map.Entry<String, Runnable> call : calls.entrySet()) {
+            List<String> statements = capture(call.getValue());
+            if (statements.isEmpty()) {
+                problems.add(call.getKey() + ": 실행된 SQL 이 없음");
+            }
+            for (String sql : statements) {
+                String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+                Matcher scan = FULL_SCAN.matcher(plan != null ? plan : "");
+                if (scan.find()) {
+                    problems.add(call.getKey() + ": 테이블 풀 스캔 (" + scan.group(1) + ")\n" + plan);
+                }
+            }
+        }
+
+        assertThat(problems).as(String.join("\n", problems)).isEmpty();
+    }
+
+    private Map<String, Runnable> calls() {
+        Map<String, Runnable> calls = new LinkedHashMap<>();
+        calls.put("CommentRepository.findByRegionCodeOrderByCreatedAtDesc",
+                () -> commentRepository.findByRegionCodeOrderByCreatedAtDesc("2"));
+        calls.put("CommentRepository.findByUserIdOrderByCreatedAtDesc",
+                () -> commentRepository.findByUserIdOrderByCreatedAtDesc(1L));
+        calls.put("CommentRepository.findLatestViews",
+                () -> commentRepository.findLatestViews("2", Limit.of(31)));
+        calls.put("CommentRepository.findViewsBefore",
+                () -> commentRepository.findViewsBefore("2", TS, 100L, Limit.of(31)));
+        calls.put("CommentRepository.findVisibleIdsAfter",
+                () -> commentRepository.findVisibleIdsAfter(1L, 0L, TS, Limit.of(500)));
+        calls.put("CommentRepository.hideAllByUserId",
+                () -> commentRepository.hideAllByUserId(1L));
+        calls.put("CommentRepository.hideAllByUserIdAndCreatedAtBetween",
+                () -> commentRepository.hideAllByUserIdAndCreatedAtBetween(1L, TS, TS));
+        calls.put("CommentRepository.hideByUserIdAndIdRange",
+                () -> commentRepository.hideByUserIdAndIdRange(1L, 0L, 500L, TS));
+        calls.put("UserRepository.findByEmail",
+                () -> userRepository.findByEmail("a@example.com"));
+        calls.put("UserRepository.findByProviderAndProviderId",
+                () -> userRepository.findByProviderAndProviderId("google", "x"));
+        calls.put("UserRepository.findByEmailAndProvider",
+                () -> userRepository.findByEmailAndProvider("a@example.com", "google"));
+        calls.put("UserRepository.existsByEmail",
+                () -> userRepository.existsByEmail("a@example.com"));
+        calls.put("UserRepository.updateNicknameByEmail",
+                () -> userRepository.updateNicknameByEmail("a@example.com", "n", TS));
+        calls.put("CommentHideJobRepository.findByStatusOrderByIdAsc",
+                () -> commentHideJobRepository.findByStatusOrderByIdAsc("PENDING"));
+        return calls;
+    }
+
+    // 호출 동안 실행된 조회/변경 문장 (시퀀스 호출 등은 제외)
+    private static List<String> capture(Runnable call) {
+        INSPECTOR.statements.clear();
+        call.run();
+        List<String> statements = new ArrayList<>();
+        for (String sql : INSPECTOR.statements) {
+            String lower = sql.stripLeading().toLowerCase();
+            if (lower.startsWith("select") || lower.startsWith("update") || lower.startsWith("delete")) {
+                statements.add(sql);
+            }
+        }
+        return statements;
+    }
+
+    // 리포지토리 인터페이스에 직접 선언된 메서드 (JpaRepository 상속 메서드 제외)
+    private static List<String> declaredQueryMethods() {
+        List<String> methods = new ArrayList<>();
+        for (Class<?> repository : List.of(CommentRepository.class, UserRepository.class,
+                CommentHideJobRepository.class, WithdrawalHistoryRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    methods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static final class CapturingInspector implements StatementInspector {
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class InspectorConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementInspector() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, INSPECTOR);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.rntbn.backend.security;
+
+import com.rntbn.backend.dto.UserProfile;
+import com.rntbn.backend.service.JwtService;
+import com.rntbn.backend.service.UserService;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private final UserService userService = mock(UserService.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userService);
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain chain = new MockFilterChain();
+
+    @BeforeEach
+    void setUp() {
+        when(jwtService.parseToken("good")).thenReturn(claims("user@example.com"));
+        when(jwtService.parseToken("withdrawn")).thenReturn(claims("gone@example.com"));
+        when(jwtService.parseToken("unknown")).thenReturn(claims("nobody@example.com"));
+        when(jwtService.parseToken("bad")).thenThrow(new JwtException("bad signature"));
+        when(userService.findProfileByEmail("user@example.com"))
+                .thenReturn(Optional.of(new UserProfile(1L, "user@example.com", "청취자", null, false)));
+        when(userService.findProfileByEmail("gone@example.com"))
+                .thenReturn(Optional.of(new UserProfile(2L, "gone@example.com", "탈퇴", null, true)));
+        when(userService.findProfileByEmail("nobody@example.com")).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesActiveUser() throws Exception {
+        filter.doFilter(request("good"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getNickname()).isEqualTo("청취자");
+    }
+
+    @Test
+    void rejectsWithdrawnUser() throws Exception {
+        filter.doFilter(request("withdrawn"), response, chain);
+
+        assertRejected();
+    }
+
+    @Test
+    void rejectsTokenOfUnknownUser() throws Exception {
+        filter.doFilter(request("unknown"), response, chain);
+
+        assertRejected();
+    }
+
+    @Test
+    void rejectsInvalidToken() throws Exception {
+        filter.doFilter(request("bad"), response, chain);
+
+        assertRejected();
+    }
+
+    @Test
+    void passesAnonymousRequestsThrough() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tbn/regions"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void assertRejected() {
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static JwtService.TokenClaims claims(String email) {
+        return new JwtService.TokenClaims(email, Instant.now().plusSeconds(3600));
+    }
+}
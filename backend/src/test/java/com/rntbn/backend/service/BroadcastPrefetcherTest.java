@@ -0,0 +1,134 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.BroadcastInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BroadcastPrefetcherTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final BroadcastPrefetcher prefetcher = new BroadcastPrefetcher();
+    private final TbnService tbnService = mock(TbnService.class);
+
+    BroadcastPrefetcherTest() {
+        Map<String, String> regions = new LinkedHashMap<>();
+        regions.put("2", "부산");
+        regions.put("3", "대구");
+        when(tbnService.getAllRegions()).thenReturn(regions);
+        when(tbnService.getBroadcastInfo(anyString())).thenAnswer(invocation -> new BroadcastInfo(
+                "title", "mc", "07:00 ~ 09:00", invocation.getArgument(0), "지역"));
+        when(tbnService.emptyInfo(anyString())).thenAnswer(invocation -> new BroadcastInfo(
+                "-", "-", "-", invocation.getArgument(0), "지역"));
+        ReflectionTestUtils.setField(prefetcher, "tbnService", tbnService);
+        ReflectionTestUtils.setField(prefetcher, "broadcastStreamHub", mock(BroadcastStreamHub.class));
+        ReflectionTestUtils.setField(prefetcher, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(prefetcher, "enabled", true);
+        ReflectionTestUtils.setField(prefetcher, "threads", 2);
+        ReflectionTestUtils.setField(prefetcher, "jitterSeconds", 20);
+        ReflectionTestUtils.setField(prefetcher, "bulkDeadlineMillis", 1500L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.stop();
+    }
+
+    @Test
+    void disabledPrefetcherStillStartsExecutorsButDoesNotWarmUp() {
+        ReflectionTestUtils.setField(prefetcher, "enabled", false);
+
+        prefetcher.start();
+
+        assertThat(ReflectionTestUtils.getField(prefetcher, "fetchPool")).isNotNull();
+        assertThat(ReflectionTestUtils.getField(prefetcher, "scheduler")).isNotNull();
+        verify(tbnService, never()).getBroadcastInfo(anyString());
+    }
+
+    @Test
+    void bulkCallRefreshesOnDemandWhenPrefetchIsDisabled() throws Exception {
+        ReflectionTestUtils.setField(prefetcher, "enabled", false);
+        prefetcher.start();
+
+        Map<String, BroadcastInfo> result = prefetcher.getAllBroadcastInfo().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).containsOnlyKeys("2", "3");
+        assertThat(result.values()).allSatisfy(info -> {
+            assertThat(info.getTitle()).isEqualTo("title");
+            assertThat(info.isStale()).isFalse();
+        });
+        assertThat(prefetcher.getSnapshot("2")).isNotNull();
+        // 꺼져 있으면 다음 갱신을 예약하지 않는다
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(prefetcher, "nextRefresh")).isEmpty();
+    }
+
+    @Test
+    void failedHandOffDoesNotLeaveARefreshPending() throws Exception {
+        ReflectionTestUtils.setField(prefetcher, "enabled", false);
+        prefetcher.start();
+        ThreadPoolExecutor broken = mock(ThreadPoolExecutor.class);
+        doThrow(new IllegalStateException("boom")).when(broken).execute(any());
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) ReflectionTestUtils.getField(prefetcher, "fetchPool");
+        ReflectionTestUtils.setField(prefetcher, "fetchPool", broken);
+
+        Map<String, BroadcastInfo> result = prefetcher.getAllBroadcastInfo().get(1, TimeUnit.SECONDS);
+
+        // 마감 시간(1.5초)을 기다리지 않고 바로 stale 로 끝난다
+        assertThat(result.values()).allSatisfy(info -> assertThat(info.isStale()).isTrue());
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(prefetcher, "refreshing")).isEmpty();
+
+        // 실행기가 돌아오면 다음 일괄 조회는 정상으로 받는다
+        ReflectionTestUtils.setField(prefetcher, "fetchPool", pool);
+        assertThat(prefetcher.getAllBroadcastInfo().get(5, TimeUnit.SECONDS).get("2").isStale()).isFalse();
+    }
+
+    @Test
+    void snapshotStaysFreshUntilOneRetryAfterTheScheduledRefresh() {
+        // 2시간짜리 프로그램: 다음 조회는 종료 5초 뒤 (+지터 20초), 재시도 한 번(30초)까지 봐준다
+        BroadcastSnapshot snapshot = snapshot(FETCHED_AT.plus(Duration.ofHours(2)));
+
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofMinutes(90)))).isFalse();
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofHours(2)).plusSeconds(55))).isFalse();
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofHours(2)).plusSeconds(56))).isTrue();
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofHours(5)))).isTrue();
+    }
+
+    @Test
+    void endedProgramIsRefetchedEveryRetryDelay() {
+        BroadcastSnapshot snapshot = snapshot(FETCHED_AT.minusSeconds(60));
+
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plusSeconds(80))).isFalse();
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plusSeconds(81))).isTrue();
+    }
+
+    @Test
+    void unknownEndUsesPeriodicRefresh() {
+        BroadcastSnapshot snapshot = snapshot(null);
+
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofMinutes(5)).plusSeconds(50))).isFalse();
+        assertThat(prefetcher.isStale(snapshot, FETCHED_AT.plus(Duration.ofMinutes(6)))).isTrue();
+    }
+
+    private static BroadcastSnapshot snapshot(Instant programEnd) {
+        BroadcastInfo info = new BroadcastInfo("title", "mc", "07:00 ~ 09:00", "2", "부산");
+        return new BroadcastSnapshot(info, FETCHED_AT, programEnd, "\"etag\"");
+    }
+}
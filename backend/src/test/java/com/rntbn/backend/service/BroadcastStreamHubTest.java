@@ -0,0 +1,173 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.BroadcastInfo;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BroadcastStreamHubTest {
+
+    private static final String REGION = "2";
+
+    private final BroadcastStreamHub hub = new BroadcastStreamHub();
+
+    BroadcastStreamHubTest() {
+        ReflectionTestUtils.setField(hub, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(hub, "timeoutMinutes", 30L);
+        ReflectionTestUtils.setField(hub, "heartbeatSeconds", 3600L);
+        ReflectionTestUtils.setField(hub, "retryMillis", 3000L);
+        ReflectionTestUtils.setField(hub, "stallTimeoutSeconds", 60L);
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldBackOthersAndGetsOnlyTheLatestEvent() throws Exception {
+        Client stalled = subscribe(null);
+        Client fast = subscribe(null);
+        stalled.out.ready = false;
+
+        hub.publish(REGION, info("first"));
+        hub.publish(REGION, info("second"));
+        hub.publish(REGION, info("third"));
+
+        awaitTrue(() -> fast.text().contains("third"));
+        assertThat(fast.text()).contains("first", "second", "third");
+        // 구독 직후 밀리기 시작해서 preamble 만 쓰고 멈췄다
+        assertThat(stalled.text()).doesNotContain("first");
+
+        stalled.out.ready = true;
+        stalled.out.listener.onWritePossible();
+
+        assertThat(stalled.text()).contains("third").doesNotContain("first", "second");
+        assertThat(hub.stats().get("dropped")).isGreaterThanOrEqualTo(1L);
+    }
+
+    @Test
+    void subscriberStalledPastTimeoutIsClosed() throws Exception {
+        ReflectionTestUtils.setField(hub, "stallTimeoutSeconds", 0L);
+        Client stalled = subscribe(null);
+        Client healthy = subscribe(null);
+        stalled.out.ready = false;
+        hub.publish(REGION, info("first"));
+        awaitTrue(() -> healthy.text().contains("first"));
+        Thread.sleep(5);
+
+        ReflectionTestUtils.invokeMethod(hub, "heartbeat");
+
+        verify(stalled.async).complete();
+        assertThat(hub.stats().get("stalled")).isEqualTo(1L);
+        assertThat(hub.stats().get("subscribers")).isEqualTo(1L);
+        assertThat(healthy.text()).contains(":hb");
+    }
+
+    @Test
+    void reconnectWithCurrentVersionDoesNotResend() throws Exception {
+        Client first = subscribe(null);
+        hub.publish(REGION, info("first"));
+        awaitTrue(() -> first.text().contains("first"));
+        String id = first.text().replaceAll("(?s).*id: (\\d+).*", "$1");
+
+        Client again = subscribe(id);
+
+        assertThat(again.text()).startsWith("retry: 3000").doesNotContain("first");
+    }
+
+    @Test
+    void rejectsWhenFull() throws Exception {
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 1);
+        subscribe(null);
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        assertThat(hub.subscribe(REGION, null, request)).isFalse();
+        assertThat(hub.stats().get("rejected")).isEqualTo(1L);
+    }
+
+    private Client subscribe(String lastEventId) throws Exception {
+        Client client = new Client();
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.startAsync()).thenReturn(client.async);
+        when(client.async.getResponse()).thenReturn(response);
+        when(response.getOutputStream()).thenReturn(client.out);
+        assertThat(hub.subscribe(REGION, lastEventId, request)).isTrue();
+        return client;
+    }
+
+    private static BroadcastInfo info(String title) {
+        return new BroadcastInfo(title, "mc", "07:00 ~ 09:00", REGION, "부산");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class Client {
+        private final AsyncContext async = mock(AsyncContext.class);
+        private final FakeOutputStream out = new FakeOutputStream();
+
+        private String text() {
+            synchronized (out) {
+                return out.written.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    // 톰캣처럼 setWriteListener 에서 onWritePossible 을 부르고, ready 가 false 면 쓰기를 받지 않는다
+    private static final class FakeOutputStream extends ServletOutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private volatile boolean ready = true;
+        private volatile WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            written.write(b, off, len);
+        }
+    }
+}
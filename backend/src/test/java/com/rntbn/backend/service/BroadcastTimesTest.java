@@ -0,0 +1,78 @@
+package com.rntbn.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BroadcastTimesTest {
+
+    @Test
+    void endsTodayForDaytimeProgram() {
+        assertThat(BroadcastTimes.programEnd("18:05 ~ 19:55", at("2024-05-10T18:30")))
+                .isEqualTo(at("2024-05-10T19:55"));
+    }
+
+    @Test
+    void toleratesSurroundingTextAndMissingSpaces() {
+        assertThat(BroadcastTimes.programEnd("방송시간 07:00~09:00 (월-금)", at("2024-05-10T08:00")))
+                .isEqualTo(at("2024-05-10T09:00"));
+    }
+
+    @Test
+    void programShownSlightlyBeforeItsStartEndsToday() {
+        assertThat(BroadcastTimes.programEnd("18:05 ~ 19:55", at("2024-05-10T18:03")))
+                .isEqualTo(at("2024-05-10T19:55"));
+    }
+
+    @Test
+    void crossingMidnightBeforeMidnightEndsTomorrow() {
+        assertThat(BroadcastTimes.programEnd("23:00 ~ 01:00", at("2024-05-10T23:30")))
+                .isEqualTo(at("2024-05-11T01:00"));
+    }
+
+    @Test
+    void crossingMidnightAfterMidnightEndsToday() {
+        assertThat(BroadcastTimes.programEnd("23:00 ~ 01:00", at("2024-05-11T00:30")))
+                .isEqualTo(at("2024-05-11T01:00"));
+    }
+
+    @Test
+    void endingAt24BeforeMidnightEndsAtMidnight() {
+        assertThat(BroadcastTimes.programEnd("23:00 ~ 24:00", at("2024-05-10T23:30")))
+                .isEqualTo(at("2024-05-11T00:00"));
+    }
+
+    @Test
+    void endingAt24StillShownAfterMidnightHasAlreadyEnded() {
+        assertThat(BroadcastTimes.programEnd("23:00 ~ 24:00", at("2024-05-11T00:30")))
+                .isEqualTo(at("2024-05-11T00:00"));
+    }
+
+    @Test
+    void startingAt24IsMidnight() {
+        assertThat(BroadcastTimes.programEnd("24:00 ~ 01:00", at("2024-05-11T00:20")))
+                .isEqualTo(at("2024-05-11T01:00"));
+    }
+
+    @Test
+    void midnightProgramShownEarlyEndsTomorrow() {
+        assertThat(BroadcastTimes.programEnd("00:00 ~ 02:00", at("2024-05-10T23:58")))
+                .isEqualTo(at("2024-05-11T02:00"));
+    }
+
+    @Test
+    void unparsableTimeIsNull() {
+        assertThat(BroadcastTimes.programEnd(null, at("2024-05-10T12:00"))).isNull();
+        assertThat(BroadcastTimes.programEnd("", at("2024-05-10T12:00"))).isNull();
+        assertThat(BroadcastTimes.programEnd("방송시간 정보 없음", at("2024-05-10T12:00"))).isNull();
+        assertThat(BroadcastTimes.programEnd("25:00 ~ 26:00", at("2024-05-10T12:00"))).isNull();
+        assertThat(BroadcastTimes.programEnd("10:75 ~ 11:00", at("2024-05-10T12:00"))).isNull();
+    }
+
+    private static Instant at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(BroadcastTimes.ZONE).toInstant();
+    }
+}
@@ -0,0 +1,138 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.entity.CommentHideJob;
+import com.rntbn.backend.repository.CommentHideJobRepository;
+import com.rntbn.backend.repository.CommentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentHideJobRunnerTest {
+
+    private static final Long JOB_ID = 1L;
+    private static final Long USER_ID = 42L;
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    private final CommentHideJobRepository jobRepository = mock(CommentHideJobRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final CommentWriteBehind writeBehind = mock(CommentWriteBehind.class);
+    private final CommentHideJobRunner runner = new CommentHideJobRunner();
+    private final CommentHideJob job = new CommentHideJob(USER_ID, CUTOFF);
+
+    CommentHideJobRunnerTest() {
+        job.setId(JOB_ID);
+        ReflectionTestUtils.setField(runner, "commentHideJobRepository", jobRepository);
+        ReflectionTestUtils.setField(runner, "commentRepository", commentRepository);
+        ReflectionTestUtils.setField(runner, "recentCommentCache", mock(RecentCommentCache.class));
+        ReflectionTestUtils.setField(runner, "commentWriteBehind", writeBehind);
+        ReflectionTestUtils.setField(runner, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(runner, "chunkSize", 500);
+        ReflectionTestUtils.setField(runner, "pauseMillis", 1L);
+        ReflectionTestUtils.setField(runner, "maxRetries", 3);
+        ReflectionTestUtils.setField(runner, "retryBackoffMillis", 1L);
+        // enqueue 가 만든 새 작업은 id 가 붙은 job 으로 저장된 것으로 본다
+        when(jobRepository.save(any(CommentHideJob.class))).thenAnswer(invocation -> {
+            CommentHideJob saved = invocation.getArgument(0);
+            return saved.getId() == null ? job : saved;
+        });
+        runner.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void emptyChunkWaitsForWriteBehindBeforeCompleting() throws Exception {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        when(writeBehind.flushBarrier()).thenReturn(barrier);
+        // 처음엔 숨길 댓글이 없고, 버퍼가 비워진 뒤에 탈퇴 전 댓글(id 7)이 저장돼 있다
+        when(commentRepository.findVisibleIdsAfter(eq(USER_ID), anyLong(), eq(CUTOFF), any(Limit.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(7L))
+                .thenReturn(List.of());
+        when(commentRepository.hideByUserIdAndIdRange(USER_ID, 0L, 7L, CUTOFF)).thenReturn(1);
+
+        runner.enqueue(USER_ID, CUTOFF);
+
+        awaitTrue(() -> barrier.getNumberOfDependents() > 0);
+        Thread.sleep(50);
+        assertThat(job.getStatus()).isEqualTo(CommentHideJob.STATUS_PENDING);
+        verify(commentRepository, never()).hideByUserIdAndIdRange(any(), any(), any(), any());
+
+        barrier.complete(null);
+
+        awaitTrue(() -> CommentHideJob.STATUS_DONE.equals(job.getStatus()));
+        verify(commentRepository).hideByUserIdAndIdRange(USER_ID, 0L, 7L, CUTOFF);
+        assertThat(job.getHiddenCount()).isEqualTo(1);
+        assertThat(job.getLastCommentId()).isEqualTo(7L);
+        verify(writeBehind, times(1)).flushBarrier();
+    }
+
+    @Test
+    void failingChunkStopsAfterMaxRetries() throws Exception {
+        when(jobRepository.findById(JOB_ID)).thenThrow(new IllegalStateException("db down"));
+
+        runner.enqueue(USER_ID, CUTOFF);
+
+        // 첫 시도 + 재시도 3번
+        awaitTrue(() -> invocations(jobRepository, "findById") >= 4);
+        Thread.sleep(100);
+        verify(jobRepository, times(4)).findById(JOB_ID);
+        assertThat(job.getStatus()).isEqualTo(CommentHideJob.STATUS_PENDING);
+    }
+
+    @Test
+    void fullWriteBehindBufferCountsAsRetry() throws Exception {
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(writeBehind.flushBarrier()).thenReturn(null);
+        when(commentRepository.findVisibleIdsAfter(eq(USER_ID), anyLong(), eq(CUTOFF), any(Limit.class)))
+                .thenReturn(List.of());
+
+        runner.enqueue(USER_ID, CUTOFF);
+
+        awaitTrue(() -> invocations(writeBehind, "flushBarrier") >= 4);
+        Thread.sleep(100);
+        verify(writeBehind, times(4)).flushBarrier();
+        verify(jobRepository, atLeastOnce()).findById(JOB_ID);
+        // 버퍼를 비웠다는 확인 없이 완료로 바꾸지 않는다
+        assertThat(job.getStatus()).isEqualTo(CommentHideJob.STATUS_PENDING);
+    }
+
+    private static long invocations(Object mock, String method) {
+        return mockingDetails(mock).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals(method))
+                .count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.entity.Comment;
+import com.rntbn.backend.repository.CommentRepository;
+import com.rntbn.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentWriteBehindTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final RecentCommentCache recentCommentCache = mock(RecentCommentCache.class);
+    private final CommentWriteBehind writeBehind = new CommentWriteBehind();
+
+    CommentWriteBehindTest() {
+        ReflectionTestUtils.setField(writeBehind, "commentRepository", commentRepository);
+        ReflectionTestUtils.setField(writeBehind, "userRepository", mock(UserRepository.class));
+        ReflectionTestUtils.setField(writeBehind, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(writeBehind, "recentCommentCache", recentCommentCache);
+        ReflectionTestUtils.setField(writeBehind, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 10);
+        ReflectionTestUtils.setField(writeBehind, "flushIntervalMillis", 50L);
+        ReflectionTestUtils.setField(writeBehind, "offerTimeoutMillis", 20L);
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void barrierCompletesOnlyAfterEarlierCommentsAreSaved() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>((List<Comment>) invocation.getArgument(0));
+        });
+        writeBehind.start();
+
+        assertThat(writeBehind.submit("2", 42L, "nick", "a", T0)).isTrue();
+        CompletableFuture<Void> barrier = writeBehind.flushBarrier();
+        assertThat(writeBehind.submit("2", 42L, "nick", "b", T0)).isTrue();
+
+        Thread.sleep(150);
+        assertThat(barrier).isNotDone();
+
+        release.countDown();
+        barrier.get(5, TimeUnit.SECONDS);
+
+        // 표시는 저장 대상에 들어가지 않고, 앞의 댓글은 표시가 완료되기 전에 캐시까지 반영됐다
+        ArgumentCaptor<List<Comment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(commentRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Comment::getContent).containsExactly("a", "b");
+        verify(recentCommentCache, times(1)).addAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cacheFailureAfterCommitDoesNotSaveTheBatchAgain() throws Exception {
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 3);
+        when(commentRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>((List<Comment>) invocation.getArgument(0)));
+        doThrow(new IllegalStateException("cache broken")).when(recentCommentCache).addAll(anyList());
+        writeBehind.start();
+
+        assertThat(writeBehind.submit("2", 42L, "nick", "a", T0)).isTrue();
+        assertThat(writeBehind.submit("3", 42L, "nick", "b", T0)).isTrue();
+        writeBehind.flushBarrier().get(5, TimeUnit.SECONDS);
+
+        // 배치마다 saveAll 한 번뿐 (재시도도, 한 건씩 다시 저장도 없다)
+        long batches = writeBehind.stats().get("batches");
+        verify(commentRepository, times((int) batches)).saveAll(anyList());
+        verify(commentRepository, never()).save(any());
+        verify(recentCommentCache).invalidate("2");
+        verify(recentCommentCache).invalidate("3");
+        assertThat(writeBehind.stats())
+                .containsEntry("persisted", 2L)
+                .containsEntry("failed", 0L)
+                .containsEntry("cacheFailures", batches);
+    }
+
+    @Test
+    void barrierOnIdleBufferCompletesWithoutSaving() throws Exception {
+        writeBehind.start();
+
+        writeBehind.flushBarrier().get(5, TimeUnit.SECONDS);
+
+        verify(commentRepository, times(0)).saveAll(anyList());
+        assertThat(writeBehind.stats().get("persisted")).isZero();
+    }
+}
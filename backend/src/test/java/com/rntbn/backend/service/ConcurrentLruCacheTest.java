@@ -0,0 +1,71 @@
+package com.rntbn.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedDownToTargetSize() throws InterruptedException {
+        ConcurrentLruCache<Integer, String> cache = new ConcurrentLruCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "v" + i);
+        }
+        Thread.sleep(1);
+        cache.get(0);
+        cache.get(1);
+
+        cache.put(10, "v10");
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.evictions()).isEqualTo(2);
+        assertThat(cache.get(0)).isEqualTo("v0");
+        assertThat(cache.get(1)).isEqualTo("v1");
+        assertThat(cache.get(10)).isEqualTo("v10");
+    }
+
+    @Test
+    void conditionalRemoveKeepsNewerValue() {
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10);
+        cache.put("k", "old");
+        String old = cache.get("k");
+        cache.put("k", "new");
+
+        assertThat(cache.remove("k", old)).isFalse();
+        assertThat(cache.get("k")).isEqualTo("new");
+        assertThat(cache.remove("k", "new")).isTrue();
+        assertThat(cache.get("k")).isNull();
+    }
+
+    @Test
+    void staysBoundedUnderConcurrentWrites() throws Exception {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(1000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int base = t * 100_000;
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    cache.put(base + i, i);
+                    cache.get(base + i / 2);
+                }
+            }));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        // 정렬 도중 조회가 섞여도 put 이 예외 없이 끝나야 한다
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(1000);
+    }
+}
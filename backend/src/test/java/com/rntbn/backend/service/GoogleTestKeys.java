@@ -0,0 +1,84 @@
+package com.rntbn.backend.service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 테스트용 RSA 키와 Google 형식 ID 토큰 (RS256)
+final class GoogleTestKeys {
+
+    final String keyId;
+    private final KeyPair keyPair;
+
+    GoogleTestKeys(String keyId) {
+        this.keyId = keyId;
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    PublicKey publicKey() {
+        return keyPair.getPublic();
+    }
+
+    // JWKS 의 키 하나
+    String jwk() {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + keyId + "\",\"alg\":\"RS256\",\"use\":\"sig\","
+                + "\"n\":\"" + base64Url(unsigned(key.getModulus())) + "\","
+                + "\"e\":\"" + base64Url(unsigned(key.getPublicExponent())) + "\"}";
+    }
+
+    String idToken(String issuer, String audience, long expiresAtSeconds) {
+        long now = System.currentTimeMillis() / 1000;
+        String payload = "{\"iss\":\"" + issuer + "\",\"aud\":\"" + audience + "\",\"sub\":\"1234\","
+                + "\"email\":\"user@example.com\",\"email_verified\":true,\"name\":\"사용자\","
+                + "\"iat\":" + now + ",\"exp\":" + expiresAtSeconds + "}";
+        return sign("{\"alg\":\"RS256\",\"kid\":\"" + keyId + "\",\"typ\":\"JWT\"}", payload);
+    }
+
+    String idToken(String audience) {
+        return idToken("https://accounts.google.com", audience, System.currentTimeMillis() / 1000 + 3600);
+    }
+
+    private String sign(String header, String payload) {
+        String signingInput = base64Url(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + base64Url(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + base64Url(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String jwks(GoogleTestKeys... keys) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < keys.length; i++) {
+            json.append(i > 0 ? "," : "").append(keys[i].jwk());
+        }
+        return json.append("]}").toString();
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
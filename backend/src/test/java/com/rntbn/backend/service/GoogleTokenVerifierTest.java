@@ -0,0 +1,94 @@
+package com.rntbn.backend.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+
+    private final GoogleTestKeys current = new GoogleTestKeys("current");
+    private final GoogleTestKeys rotated = new GoogleTestKeys("rotated");
+
+    // 로컬 키셋 (refreshNow 를 부르면 rotated 키가 추가된다)
+    private final Map<String, PublicKey> keys = new HashMap<>();
+    private final AtomicInteger refreshes = new AtomicInteger();
+
+    private GoogleTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        keys.put(current.keyId, current.publicKey());
+        GooglePublicKeySource source = new GooglePublicKeySource() {
+            @Override
+            public Map<String, PublicKey> getKeys() {
+                return Map.copyOf(keys);
+            }
+
+            @Override
+            public void refreshNow() {
+                refreshes.incrementAndGet();
+                keys.put(rotated.keyId, rotated.publicKey());
+            }
+        };
+        verifier = new GoogleTokenVerifier();
+        ReflectionTestUtils.setField(verifier, "keySource", source);
+        ReflectionTestUtils.setField(verifier, "metrics", new HotPathMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(verifier, "clientId", CLIENT_ID);
+    }
+
+    @Test
+    void acceptsValidToken() throws Exception {
+        GoogleIdToken.Payload payload = verifier.verify(current.idToken(CLIENT_ID));
+
+        assertThat(payload).isNotNull();
+        assertThat(payload.getEmail()).isEqualTo("user@example.com");
+        assertThat(payload.get("name")).isEqualTo("사용자");
+        assertThat(refreshes.get()).isZero();
+    }
+
+    @Test
+    void rejectsOtherAudience() throws Exception {
+        assertThat(verifier.verify(current.idToken("someone-else.apps.googleusercontent.com"))).isNull();
+    }
+
+    @Test
+    void rejectsOtherIssuer() throws Exception {
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        assertThat(verifier.verify(current.idToken("https://evil.example.com", CLIENT_ID, exp))).isNull();
+    }
+
+    @Test
+    void rejectsExpiredTokenBeyondClockSkew() throws Exception {
+        long exp = System.currentTimeMillis() / 1000 - 600;
+        assertThat(verifier.verify(current.idToken("accounts.google.com", CLIENT_ID, exp))).isNull();
+    }
+
+    @Test
+    void rejectsTamperedSignature() throws Exception {
+        String token = current.idToken(CLIENT_ID);
+        String other = new GoogleTestKeys("current").idToken(CLIENT_ID);
+        String forged = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'));
+
+        assertThat(verifier.verify(forged)).isNull();
+    }
+
+    @Test
+    void refreshesKeysOnceForUnknownKeyId() throws Exception {
+        assertThat(verifier.verify(rotated.idToken(CLIENT_ID))).isNotNull();
+        assertThat(refreshes.get()).isEqualTo(1);
+
+        assertThat(verifier.verify(rotated.idToken(CLIENT_ID))).isNotNull();
+        assertThat(refreshes.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.rntbn.backend.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpGooglePublicKeySourceTest {
+
+    private final GoogleTestKeys first = new GoogleTestKeys("k1");
+    private final GoogleTestKeys second = new GoogleTestKeys("k2");
+
+    private HttpServer server;
+    private HttpGooglePublicKeySource source;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile String body;
+    private volatile int status = 200;
+    private volatile String cacheControl = "public, max-age=3600";
+    private volatile long delayMillis;
+
+    @BeforeEach
+    void start() throws IOException {
+        body = GoogleTestKeys.jwks(first);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/certs", this::certs);
+        server.start();
+        source = new HttpGooglePublicKeySource(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/certs", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void stop() {
+        source.stop();
+        server.stop(0);
+    }
+
+    @Test
+    void fetchesOnceAndCachesWithinMaxAge() throws Exception {
+        Map<String, PublicKey> keys = source.getKeys();
+        source.getKeys();
+
+        assertThat(keys).containsOnlyKeys("k1");
+        assertThat(keys.get("k1")).isEqualTo(first.publicKey());
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsNonRsaKeys() throws Exception {
+        body = "{\"keys\":[{\"kty\":\"EC\",\"kid\":\"ec\",\"crv\":\"P-256\",\"x\":\"AA\",\"y\":\"AA\"},"
+                + first.jwk() + "]}";
+
+        assertThat(source.getKeys()).containsOnlyKeys("k1");
+    }
+
+    @Test
+    void firstFetchFailureIsReported() {
+        status = 503;
+
+        assertThatThrownBy(() -> source.getKeys()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void servesExpiredKeysWithoutWaitingWhileGoogleIsDown() throws Exception {
+        cacheControl = "max-age=1";
+        source.getKeys();
+
+        // 키가 만료되고 백그라운드 갱신이 느리게 실패하는 동안
+        status = 503;
+        delayMillis = 2000;
+        Thread.sleep(1500);
+
+        long start = System.nanoTime();
+        Map<String, PublicKey> keys = source.getKeys();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(keys).containsOnlyKeys("k1");
+        assertThat(elapsedMillis).isLessThan(200);
+    }
+
+    @Test
+    void forcedRefreshPicksUpRotatedKeysAtMostOncePerMinute() throws Exception {
+        source.getKeys();
+        body = GoogleTestKeys.jwks(first, second);
+
+        // 직전에 받았으므로 모르는 kid 가 와도 다시 받지 않는다
+        source.refreshNow();
+        assertThat(source.getKeys()).containsOnlyKeys("k1");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    private void certs(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
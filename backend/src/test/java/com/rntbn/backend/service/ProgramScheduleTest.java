@@ -0,0 +1,81 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.Program;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgramScheduleTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    // 05:00 새벽, 12:00 낮, 23:00 밤, 24:30 (= 11일 00:30) 심야, 29:00 (= 11일 05:00, 다음 방송일이라 버림)
+    private final ProgramSchedule schedule = ProgramSchedule.build("2", DAY, ScheduleParser.parse(Jsoup.parse(
+            "<table class=\"tbl-schedule\"><tbody>"
+                    + "<tr><td>05:00</td><td>새벽</td><td></td></tr>"
+                    + "<tr><td>12:00</td><td>낮</td><td></td></tr>"
+                    + "<tr><td>23:00</td><td>밤</td><td></td></tr>"
+                    + "<tr><td>24:30</td><td>심야</td><td></td></tr>"
+                    + "<tr><td>29:00</td><td>다음 날</td><td></td></tr>"
+                    + "</tbody></table>")), Instant.EPOCH);
+
+    @Test
+    void afterMidnightRowFallsOnNextCalendarDay() {
+        Program lateNight = schedule.getPrograms().get(3);
+
+        assertThat(schedule.getPrograms()).extracting(Program::getTitle).containsExactly("새벽", "낮", "밤", "심야");
+        assertThat(lateNight.getStartAt().toInstant()).isEqualTo(kst(11, 0, 30));
+        // 마지막 프로그램은 첫 프로그램 + 24시간에 끝난다
+        assertThat(lateNight.getEndAt().toInstant()).isEqualTo(kst(11, 5, 0));
+        assertThat(lateNight.getStartTime()).isEqualTo("00:30");
+        assertThat(lateNight.getEndTime()).isEqualTo("05:00");
+    }
+
+    @Test
+    void atIsInclusiveOfStartAndExclusiveOfEnd() {
+        Instant noon = kst(10, 12, 0);
+
+        assertThat(schedule.at(noon).getTitle()).isEqualTo("낮");
+        assertThat(schedule.at(noon.minusMillis(1)).getTitle()).isEqualTo("새벽");
+        assertThat(schedule.at(kst(11, 0, 30)).getTitle()).isEqualTo("심야");
+        assertThat(schedule.at(kst(11, 0, 30).minusMillis(1)).getTitle()).isEqualTo("밤");
+        assertThat(schedule.at(kst(11, 5, 0).minusMillis(1)).getTitle()).isEqualTo("심야");
+    }
+
+    @Test
+    void atOutsideTheBroadcastDayIsNull() {
+        assertThat(schedule.at(kst(10, 5, 0).minusMillis(1))).isNull();
+        assertThat(schedule.at(kst(11, 5, 0))).isNull();
+    }
+
+    @Test
+    void nextIsTheFirstProgramStartingAfterTime() {
+        assertThat(schedule.next(kst(10, 4, 0)).getTitle()).isEqualTo("새벽");
+        // 시작 시각 정각이면 그 프로그램은 방송 중이므로 그다음
+        assertThat(schedule.next(kst(10, 12, 0)).getTitle()).isEqualTo("밤");
+        assertThat(schedule.next(kst(10, 23, 59)).getTitle()).isEqualTo("심야");
+        assertThat(schedule.next(kst(11, 0, 30))).isNull();
+        assertThat(schedule.next(kst(11, 6, 0))).isNull();
+    }
+
+    @Test
+    void laterRowWinsForDuplicateStart() {
+        ProgramSchedule duplicated = ProgramSchedule.build("2", DAY, ScheduleParser.parse(Jsoup.parse(
+                "<table class=\"tbl-schedule\"><tbody>"
+                        + "<tr><td>05:00</td><td>예전 제목</td><td></td></tr>"
+                        + "<tr><td>05:00</td><td>바뀐 제목</td><td></td></tr>"
+                        + "</tbody></table>")), Instant.EPOCH);
+
+        assertThat(duplicated.getPrograms()).extracting(Program::getTitle).containsExactly("바뀐 제목");
+        assertThat(duplicated.at(kst(11, 4, 59)).getTitle()).isEqualTo("바뀐 제목");
+    }
+
+    private static Instant kst(int dayOfMonth, int hour, int minute) {
+        return ZonedDateTime.of(2024, 5, dayOfMonth, hour, minute, 0, 0, BroadcastTimes.ZONE).toInstant();
+    }
+}
@@ -0,0 +1,125 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.CommentView;
+import com.rntbn.backend.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentCommentCacheTest {
+
+    private static final String REGION = "2";
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 10, 12, 0);
+
+    private final CommentRepository repository = mock(CommentRepository.class);
+    private final RecentCommentCache cache = new RecentCommentCache();
+
+    RecentCommentCacheTest() {
+        ReflectionTestUtils.setField(cache, "commentRepository", repository);
+        ReflectionTestUtils.setField(cache, "capacity", 50);
+    }
+
+    @Test
+    void concurrentColdMissesReadTheDatabaseOnce() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findLatestViews(eq(REGION), any(Limit.class))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(view(1, 10L, "a"), view(2, 11L, "b"));
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<List<CommentView>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> cache.latest(REGION, 20)));
+        }
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<List<CommentView>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).extracting(CommentView::getId).containsExactly(2L, 1L);
+        }
+        pool.shutdown();
+        verify(repository, times(1)).findLatestViews(eq(REGION), any(Limit.class));
+    }
+
+    @Test
+    void hideDuringLoadDiscardsTheRowsReadBeforeIt() {
+        AtomicInteger reads = new AtomicInteger();
+        when(repository.findLatestViews(eq(REGION), any(Limit.class))).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                // 읽은 뒤, 합치기 전에 탈퇴 숨김이 끝난 상황
+                cache.hideByUser(10L);
+                return List.of(view(1, 10L, "a"), view(2, 11L, "b"));
+            }
+            return List.of(view(2, 11L, "b"));
+        });
+
+        List<CommentView> latest = cache.latest(REGION, 20);
+
+        assertThat(latest).extracting(CommentView::getId).containsExactly(2L);
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(cache.stats().get("staleLoads")).isEqualTo(1L);
+        // 다시 읽지 않는다
+        assertThat(cache.latest(REGION, 20)).extracting(CommentView::getId).containsExactly(2L);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void renameDuringLoadIsNotOverwrittenByOldRows() {
+        AtomicInteger reads = new AtomicInteger();
+        when(repository.findLatestViews(eq(REGION), any(Limit.class))).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                cache.renameUser(10L, "new");
+                return List.of(view(1, 10L, "old"));
+            }
+            return List.of(view(1, 10L, "new"));
+        });
+
+        assertThat(cache.latest(REGION, 20)).extracting(CommentView::getNickname).containsExactly("new");
+    }
+
+    @Test
+    void givesUpToTheDatabaseWhenChangesKeepOverlapping() {
+        when(repository.findLatestViews(eq(REGION), any(Limit.class))).thenAnswer(invocation -> {
+            cache.hideByUser(10L);
+            return List.of(view(2, 11L, "b"));
+        });
+
+        assertThat(cache.latest(REGION, 20)).isNull();
+    }
+
+    @Test
+    void commentsSavedDuringLoadAreKept() {
+        when(repository.findLatestViews(eq(REGION), any(Limit.class))).thenAnswer(invocation -> {
+            cache.addAll(List.of(view(3, 12L, "c")));
+            return List.of(view(1, 10L, "a"), view(2, 11L, "b"));
+        });
+
+        assertThat(cache.latest(REGION, 20)).extracting(CommentView::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    private static CommentView view(long id, Long userId, String nickname) {
+        return new CommentView(id, REGION, userId, nickname, "댓글 " + id, T0.plusSeconds(id));
+    }
+}
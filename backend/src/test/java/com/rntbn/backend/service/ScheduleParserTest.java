@@ -0,0 +1,59 @@
+package com.rntbn.backend.service;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleParserTest {
+
+    @Test
+    void readsAfterMidnightRowsAsMinutesPast24() {
+        ScheduleParser.Timetable timetable = ScheduleParser.parse(Jsoup.parse(page(
+                row("05:00", "<a href=\"/program/view.tbn?area_code=2&amp;prog=500\">새벽</a>", "진행자 1"),
+                row("23:30", "심야", "진행자 2"),
+                row("24:30", "<a href=\"/program/view.tbn?prog=2430&amp;x=1\">자정 이후</a>", "진행자 3"),
+                row("4:50", "마감 직전", ""))));
+
+        List<ScheduleParser.Slot> slots = timetable.getSlots();
+        assertThat(slots).extracting(ScheduleParser.Slot::getStartMinute).containsExactly(300, 1410, 1470, 290);
+        assertThat(slots.get(0).getProgramId()).isEqualTo("500");
+        assertThat(slots.get(2).getProgramId()).isEqualTo("2430");
+        assertThat(slots.get(1).getProgramId()).isNull();
+        assertThat(slots.get(2).getTitle()).isEqualTo("자정 이후");
+        assertThat(slots.get(2).getMc()).isEqualTo("진행자 3");
+        assertThat(timetable.getSms()).isEqualTo("#1234");
+    }
+
+    @Test
+    void skipsRowsBeyondTwoDaysOrWithoutTitle() {
+        ScheduleParser.Timetable timetable = ScheduleParser.parse(Jsoup.parse(page(
+                row("47:59", "마지막으로 받는 행", ""),
+                row("48:00", "범위 밖", ""),
+                row("06:00", "", "제목 없음"),
+                row("시간 미정", "시각 없음", ""),
+                "<tr><td>07:00</td></tr>")));
+
+        assertThat(timetable.getSlots()).extracting(ScheduleParser.Slot::getStartMinute).containsExactly(2879);
+    }
+
+    @Test
+    void emptyWithoutScheduleTable() {
+        ScheduleParser.Timetable timetable = ScheduleParser.parse(Jsoup.parse("<html><body></body></html>"));
+
+        assertThat(timetable.getSlots()).isEmpty();
+        assertThat(timetable.getSms()).isNull();
+    }
+
+    private static String page(String... rows) {
+        return "<html><body><a class=\"btn-msg\">문자 참여 #1234 (유료)</a>"
+                + "<table class=\"tbl-schedule\"><thead><tr><th>시간</th><th>프로그램</th><th>진행</th></tr></thead>"
+                + "<tbody>" + String.join("", rows) + "</tbody></table></body></html>";
+    }
+
+    private static String row(String start, String program, String mc) {
+        return "<tr><td>" + start + "</td><td>" + program + "</td><td>" + mc + "</td></tr>";
+    }
+}
@@ -0,0 +1,94 @@
+package com.rntbn.backend.service;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleServiceTest {
+
+    private static final long RETRY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final TbnService tbnService = mock(TbnService.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> retryFuture = mock(ScheduledFuture.class);
+    private final ScheduleService service = new ScheduleService();
+
+    ScheduleServiceTest() {
+        ReflectionTestUtils.setField(service, "tbnService", tbnService);
+        ReflectionTestUtils.setField(service, "scheduler", scheduler);
+        ReflectionTestUtils.setField(service, "refreshAt", "05:00");
+        ReflectionTestUtils.setField(service, "retryMinutes", 10L);
+        when(tbnService.getAllRegions()).thenReturn(Map.of("2", "부산"));
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> retryFuture);
+    }
+
+    @Test
+    void keepsOneRetryPerFailingRegionAcrossDailyRefreshes() throws Exception {
+        when(tbnService.fetchSchedule("2")).thenThrow(new IOException("down"));
+
+        // 첫날 실패 → 재시도 예약, 다음 날 일괄 조회도 실패 → 이미 예약돼 있으니 추가하지 않는다
+        ReflectionTestUtils.invokeMethod(service, "ingestAll");
+        ReflectionTestUtils.invokeMethod(service, "ingestAll");
+
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(retry.capture(), eq(RETRY_MILLIS), eq(TimeUnit.MILLISECONDS));
+
+        // 재시도가 돌고 또 실패하면 다음 재시도 하나만
+        retry.getValue().run();
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(RETRY_MILLIS), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void successfulRefreshCancelsPendingRetry() throws Exception {
+        when(tbnService.fetchSchedule("2"))
+                .thenThrow(new IOException("down"))
+                .thenReturn(ScheduleParser.parse(Jsoup.parse("<table class=\"tbl-schedule\"><tbody>"
+                        + "<tr><td>05:00</td><td>새벽</td><td></td></tr></tbody></table>")));
+
+        ReflectionTestUtils.invokeMethod(service, "ingestAll");
+        ReflectionTestUtils.invokeMethod(service, "ingestAll");
+
+        verify(retryFuture).cancel(false);
+        assertThat(service.getSchedule("2")).isNotNull();
+    }
+
+    @Test
+    void broadcastDayFollowsRefreshBoundaryEvenWhenFirstSlotIsLater() throws Exception {
+        // 첫 편성이 06:00 이라 05:00 갱신 시각에는 아직 시작 전이다
+        ScheduleParser.Timetable timetable = ScheduleParser.parse(Jsoup.parse("<table class=\"tbl-schedule\"><tbody>"
+                + "<tr><td>06:00</td><td>아침</td><td></td></tr>"
+                + "<tr><td>12:00</td><td>낮</td><td></td></tr></tbody></table>"));
+        ZonedDateTime refresh = LocalDate.of(2024, 5, 10).atTime(5, 0, 30).atZone(BroadcastTimes.ZONE);
+
+        LocalDate day = ReflectionTestUtils.invokeMethod(service, "broadcastDay", refresh);
+        assertThat(day).isEqualTo(LocalDate.of(2024, 5, 10));
+
+        // 그날 06:00 이후 조회가 오늘 편성으로 답한다
+        ProgramSchedule schedule = ProgramSchedule.build("2", day, timetable, refresh.toInstant());
+        assertThat(schedule.at(refresh.plusHours(1).plusMinutes(30).toInstant()).getTitle()).isEqualTo("아침");
+        assertThat(schedule.next(refresh.plusHours(2).toInstant()).getTitle()).isEqualTo("낮");
+
+        // refresh-at 전 새벽은 아직 전날 방송일
+        LocalDate early = ReflectionTestUtils.invokeMethod(service, "broadcastDay", refresh.minusHours(1));
+        assertThat(early).isEqualTo(LocalDate.of(2024, 5, 9));
+    }
+}
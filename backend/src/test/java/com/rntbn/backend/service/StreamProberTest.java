@@ -0,0 +1,64 @@
+package com.rntbn.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rntbn.backend.dto.StreamStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamProberTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final StreamProber prober = new StreamProber();
+
+    StreamProberTest() {
+        StreamCatalog catalog = mock(StreamCatalog.class);
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("2", "busan");
+        keys.put("3", "daegu");
+        when(catalog.getStreamKeys()).thenReturn(keys);
+        ReflectionTestUtils.setField(prober, "streamCatalog", catalog);
+        ReflectionTestUtils.setField(prober, "objectMapper", new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void etagIgnoresLatencyAndCheckTime() {
+        StreamStatusSnapshot first = build(status("2", true, 40, CHANGED_AT.plusSeconds(30)),
+                status("3", false, 3000, CHANGED_AT.plusSeconds(30)));
+        StreamStatusSnapshot second = build(status("2", true, 95, CHANGED_AT.plusSeconds(60)),
+                status("3", false, 3001, CHANGED_AT.plusSeconds(35)));
+
+        assertThat(second.getBody()).isNotEqualTo(first.getBody());
+        assertThat(second.getEtag()).isEqualTo(first.getEtag()).startsWith("W/\"");
+    }
+
+    @Test
+    void etagChangesWhenRegionGoesDown() {
+        StreamStatusSnapshot before = build(status("2", true, 40, CHANGED_AT.plusSeconds(30)));
+        StreamStatusSnapshot after = build(new StreamStatus("2", false, 503, 40, "HTTP 503", 1,
+                CHANGED_AT.plusSeconds(60), CHANGED_AT.plusSeconds(60)));
+
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+    }
+
+    private StreamStatusSnapshot build(StreamStatus... statuses) {
+        Map<String, StreamStatus> current = new LinkedHashMap<>();
+        for (StreamStatus status : statuses) {
+            current.put(status.getRegionCode(), status);
+        }
+        return ReflectionTestUtils.invokeMethod(prober, "buildSnapshot", current);
+    }
+
+    private static StreamStatus status(String regionCode, boolean up, long latencyMillis, Instant checkedAt) {
+        return new StreamStatus(regionCode, up, up ? 200 : null, latencyMillis, up ? null : "timeout",
+                up ? 0 : 1, checkedAt, CHANGED_AT);
+    }
+}
@@ -0,0 +1,171 @@
+package com.rntbn.backend.service;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TbnPageParserTest {
+
+    // user-005 벤치마크와 같은 샘플 페이지
+    private static final Path SAMPLES = Path.of("src/jmh/resources/tbn");
+    private static final String BASE_URI = "https://www.tbn.or.kr/onair/tbnlive.tbn";
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @Test
+    void parsesPlainSample() throws IOException {
+        TbnPageParser.OnAir onAir = parse(sample("onair-2.html"));
+        assertThat(onAir.getTitle()).isEqualTo("출발 부산 새아침");
+        assertThat(onAir.getMc()).isEqualTo("김부산");
+        assertThat(onAir.getTime()).isEqualTo("07:00 ~ 09:00");
+    }
+
+    @Test
+    void parsesSampleWithEntitiesAndExtraClasses() throws IOException {
+        TbnPageParser.OnAir onAir = parse(sample("onair-6.html"));
+        assertThat(onAir.getTitle()).isEqualTo("퇴근길 TBN & 경인");
+        assertThat(onAir.getMc()).isEqualTo("강세민");
+        assertThat(onAir.getTime()).isEqualTo("18:05 ~ 19:55");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"onair-2.html", "onair-6.html", "onair-fallback.html"})
+    void matchesJsoupSelectors(String page) throws IOException {
+        String html = sample(page);
+        assertSameAsJsoup(html, parse(html));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"onair-2.html", "onair-6.html", "onair-fallback.html"})
+    void handlesMarkupSplitAcrossReads(String page) throws IOException {
+        String html = sample(page);
+        assertSameAsJsoup(html, TbnPageParser.parse(new TrickleReader(new StringReader(html), 7), BASE_URI));
+    }
+
+    @Test
+    void ignoresClassNamesThatOnlyContainTheMarker() throws IOException {
+        String html = page("<p class=\"greeting-textual\"><b id=\"forumName\">다른 블록</b>"
+                + "<span>MC : 아님 | 방송시간 : 01:00 ~ 02:00</span></p>"
+                + "<p id=\"greeting-text\"><span>MC : 아님</span></p>"
+                + "<p class=\"info greeting-text\"><b id=\"forumName\">진짜 제목</b>"
+                + "<span>MC : 진행자 | 방송시간 : 10:00 ~ 11:00</span></p>");
+        TbnPageParser.OnAir onAir = parse(html);
+        assertThat(onAir.getTitle()).isEqualTo("진짜 제목");
+        assertThat(onAir.getMc()).isEqualTo("진행자");
+        assertSameAsJsoup(html, onAir);
+    }
+
+    @Test
+    void takesOnlyDirectChildren() throws IOException {
+        String html = page("<p class=\"greeting-text\">"
+                + "<em><b id=\"forumName\">안쪽 제목</b><span>MC : 안쪽 | 방송시간 : 01:00 ~ 02:00</span></em>"
+                + "<b id=\"forumName\">제목 <i>강조</i></b>"
+                + "<span>MC : 진행자 <span>(대타)</span> | 방송시간 : 10:00 ~ 11:00</span></p>");
+        TbnPageParser.OnAir onAir = parse(html);
+        assertThat(onAir.getTitle()).isEqualTo("제목 강조");
+        assertThat(onAir.getMc()).isEqualTo("진행자 (대타)");
+        assertThat(onAir.getTime()).isEqualTo("10:00 ~ 11:00");
+        assertSameAsJsoup(html, onAir);
+    }
+
+    @Test
+    void skipsCommentsScriptsAndStyles() throws IOException {
+        String html = page("<style>.greeting-text { color: red; }</style>"
+                + "<!-- <p class=\"greeting-text\"><b id=\"forumName\">주석</b></p> -->"
+                + "<script>var t = '<p class=\"greeting-text\"><b id=\"forumName\">스크립트</b></p>';</script>"
+                + "<p class=\"greeting-text\"><b id=\"forumName\">본문</b></p>");
+        TbnPageParser.OnAir onAir = parse(html);
+        assertThat(onAir.getTitle()).isEqualTo("본문");
+        assertSameAsJsoup(html, onAir);
+    }
+
+    @Test
+    void usesMetaCharsetWhenHeaderHasNone() throws IOException {
+        String html = sample("onair-2.html").replace("<meta charset=\"UTF-8\">", "<meta charset=\"euc-kr\">");
+        TbnPageParser.OnAir onAir = TbnPageParser.parse(new ByteArrayInputStream(html.getBytes(EUC_KR)), null, BASE_URI);
+        assertThat(onAir.getTitle()).isEqualTo("출발 부산 새아침");
+        assertThat(onAir.getMc()).isEqualTo("김부산");
+    }
+
+    @Test
+    void usesHttpEquivMetaCharset() throws IOException {
+        String html = sample("onair-6.html").replace("<meta charset=\"UTF-8\">",
+                "<meta http-equiv=\"Content-Type\" content=\"text/html; charset=EUC-KR\">");
+        TbnPageParser.OnAir onAir = TbnPageParser.parse(new ByteArrayInputStream(html.getBytes(EUC_KR)), null, BASE_URI);
+        assertThat(onAir.getTitle()).isEqualTo("퇴근길 TBN & 경인");
+    }
+
+    @Test
+    void headerCharsetWinsOverMeta() throws IOException {
+        String html = sample("onair-2.html").replace("<meta charset=\"UTF-8\">", "<meta charset=\"iso-8859-1\">");
+        TbnPageParser.OnAir onAir = TbnPageParser.parse(
+                new ByteArrayInputStream(html.getBytes(EUC_KR)), "EUC-KR", BASE_URI);
+        assertThat(onAir.getTitle()).isEqualTo("출발 부산 새아침");
+    }
+
+    @Test
+    void byteOrderMarkWinsAndIsSkipped() throws IOException {
+        byte[] body = sample("onair-2.html").getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = new byte[body.length + 3];
+        withBom[0] = (byte) 0xef;
+        withBom[1] = (byte) 0xbb;
+        withBom[2] = (byte) 0xbf;
+        System.arraycopy(body, 0, withBom, 3, body.length);
+        TbnPageParser.OnAir onAir = TbnPageParser.parse(new ByteArrayInputStream(withBom), "EUC-KR", BASE_URI);
+        assertThat(onAir.getTitle()).isEqualTo("출발 부산 새아침");
+    }
+
+    @Test
+    void defaultsToUtf8() throws IOException {
+        String html = page("<p class=\"greeting-text\"><b id=\"forumName\">제목</b></p>");
+        TbnPageParser.OnAir onAir = TbnPageParser.parse(
+                new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)), "no-such-charset", BASE_URI);
+        assertThat(onAir.getTitle()).isEqualTo("제목");
+    }
+
+    private static TbnPageParser.OnAir parse(String html) throws IOException {
+        return TbnPageParser.parse(new StringReader(html), BASE_URI);
+    }
+
+    private static void assertSameAsJsoup(String html, TbnPageParser.OnAir onAir) {
+        TbnPageParser.OnAir expected = TbnPageParser.parseDocument(Jsoup.parse(html, BASE_URI));
+        assertThat(onAir.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(onAir.getMc()).isEqualTo(expected.getMc());
+        assertThat(onAir.getTime()).isEqualTo(expected.getTime());
+    }
+
+    private static String sample(String name) throws IOException {
+        return Files.readString(SAMPLES.resolve(name), StandardCharsets.UTF_8);
+    }
+
+    private static String page(String body) {
+        return "<!DOCTYPE html><html><head><title>TBN</title></head><body>" + body + "</body></html>";
+    }
+
+    // 한 번에 최대 n 글자만 돌려준다 (청크 경계에 걸친 태그 재현)
+    private static final class TrickleReader extends FilterReader {
+        private final int max;
+
+        private TrickleReader(Reader in, int max) {
+            super(in);
+            this.max = max;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            return super.read(buf, off, Math.min(len, max));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.TrafficChanges;
+import com.rntbn.backend.dto.TrafficIncident;
+import com.rntbn.backend.dto.TrafficNews;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficIndexTest {
+
+    private static final Instant T0 = Instant.parse("2024-05-10T08:00:00Z");
+
+    private final MutableClock clock = new MutableClock(T0);
+    private final TrafficIndex index = new TrafficIndex(Duration.ofMinutes(60), Duration.ofMinutes(30), 100, clock);
+
+    @Test
+    void changesSinceReportsUpdateClearAndExpiry() {
+        index.apply(List.of(incident("a", "seoul", "정체", 30), incident("b", "seoul", "사고", 10),
+                incident("c", "seoul", "공사", 60)));
+        long v1 = index.getVersion();
+
+        clock.advance(Duration.ofMinutes(1));
+        TrafficIncident cleared = incident("b", "seoul", "사고", 10);
+        cleared.setCleared(true);
+        index.apply(List.of(incident("a", "seoul", "정체 해소 중", 30), cleared));
+
+        TrafficChanges changes = index.changesSince("seoul", v1);
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getUpdated()).extracting(TrafficNews::getTitle).containsExactly("정체 해소 중");
+        assertThat(changes.getRemoved()).containsExactly("b");
+        long v2 = changes.getVersion();
+
+        // 같은 내용을 다시 받으면 버전이 오르지 않는다
+        index.apply(List.of(incident("a", "seoul", "정체 해소 중", 30)));
+        assertThat(index.getVersion()).isEqualTo(v2);
+
+        // 소스에 새 데이터가 없어도 만료는 반영된다
+        clock.advance(Duration.ofMinutes(30));
+        index.expire();
+        TrafficChanges afterExpiry = index.changesSince("seoul", v2);
+        assertThat(afterExpiry.getUpdated()).isEmpty();
+        assertThat(afterExpiry.getRemoved()).containsExactly("a");
+        assertThat(index.getNews("seoul")).extracting(TrafficNews::getId).containsExactly("c");
+        assertThat(index.stats()).containsEntry("expired", 1L).containsEntry("cleared", 1L);
+    }
+
+    @Test
+    void regionChangeIsRemovedInOldRegionAndUpdatedInNew() {
+        index.apply(List.of(incident("a", "seoul", "정체", 30)));
+        long since = index.getVersion();
+
+        index.apply(List.of(incident("a", "busan", "정체", 30)));
+
+        TrafficChanges oldRegion = index.changesSince("seoul", since);
+        assertThat(oldRegion.getUpdated()).isEmpty();
+        assertThat(oldRegion.getRemoved()).containsExactly("a");
+
+        TrafficChanges newRegion = index.changesSince("busan", since);
+        assertThat(newRegion.getUpdated()).extracting(TrafficNews::getId).containsExactly("a");
+        assertThat(newRegion.getRemoved()).isEmpty();
+
+        // 전 지역 변경분에는 사고당 마지막 변경 하나만 남는다
+        TrafficChanges all = index.changesSince(null, since);
+        assertThat(all.getUpdated()).extracting(TrafficNews::getRegion).containsExactly("busan");
+        assertThat(all.getRemoved()).isEmpty();
+
+        assertThat(index.getNews("seoul")).isEmpty();
+        assertThat(index.getNews("busan")).extracting(TrafficNews::getId).containsExactly("a");
+    }
+
+    @Test
+    void cursorBelowPurgedTombstonesGetsFullReset() {
+        index.apply(List.of(incident("a", "seoul", "정체", 30), incident("b", "seoul", "사고", 60)));
+        long beforeClear = index.getVersion();
+        TrafficIncident cleared = incident("a", "seoul", "정체", 30);
+        cleared.setCleared(true);
+        index.apply(List.of(cleared));
+        assertThat(index.changesSince("seoul", beforeClear).getRemoved()).containsExactly("a");
+
+        // tombstone 보존 시간이 지나면 삭제 기록이 정리된다
+        clock.advance(Duration.ofMinutes(31));
+        index.expire();
+
+        TrafficChanges changes = index.changesSince("seoul", beforeClear);
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getUpdated()).extracting(TrafficNews::getId).containsExactly("b");
+        assertThat(changes.getRemoved()).isEmpty();
+
+        // 현재 버전 이후로는 다시 변경분으로 받는다
+        TrafficChanges current = index.changesSince("seoul", changes.getVersion());
+        assertThat(current.isReset()).isFalse();
+        assertThat(current.getUpdated()).isEmpty();
+
+        // 알 수 없는(미래) 버전도 전체 목록
+        assertThat(index.changesSince("seoul", changes.getVersion() + 1).isReset()).isTrue();
+    }
+
+    @Test
+    void overCapEvictsIncidentsClosestToExpiryFirst() {
+        TrafficIndex small = new TrafficIndex(Duration.ofMinutes(60), Duration.ofMinutes(30), 2, clock);
+        small.apply(List.of(incident("late", "seoul", "a", 50), incident("soon", "seoul", "b", 5)));
+        long since = small.getVersion();
+
+        small.apply(List.of(incident("mid", "busan", "c", 20)));
+
+        assertThat(small.getAllNews()).extracting(TrafficNews::getId).containsExactlyInAnyOrder("late", "mid");
+        assertThat(small.changesSince(null, since).getRemoved()).containsExactly("soon");
+        assertThat(small.stats()).containsEntry("evicted", 1L).containsEntry("active", 2L);
+
+        small.apply(List.of(incident("next", "busan", "d", 40)));
+        assertThat(small.getAllNews()).extracting(TrafficNews::getId).containsExactlyInAnyOrder("late", "next");
+        assertThat(small.stats()).containsEntry("evicted", 2L);
+    }
+
+    @Test
+    void repeatedUpdatesRebuildTheExpiryHeap() {
+        for (int i = 0; i < 3000; i++) {
+            index.apply(List.of(incident("a", "seoul", "정체 " + i, 30)));
+        }
+        PriorityQueue<?> expiry = (PriorityQueue<?>) ReflectionTestUtils.getField(index, "expiry");
+        assertThat(expiry.size()).isLessThanOrEqualTo(2 + 1024);
+        assertThat(index.getNews("seoul")).extracting(TrafficNews::getTitle).containsExactly("정체 2999");
+
+        // 다시 만든 힙으로도 제때 만료된다
+        clock.advance(Duration.ofMinutes(31));
+        index.expire();
+        assertThat(index.getNews("seoul")).isEmpty();
+        assertThat(index.stats()).containsEntry("expired", 1L).containsEntry("active", 0L);
+    }
+
+    private TrafficIncident incident(String id, String region, String title, long expiresInMinutes) {
+        TrafficIncident incident = new TrafficIncident();
+        incident.setId(id);
+        incident.setRegion(region);
+        incident.setTitle(title);
+        incident.setContent(title + " 내용");
+        incident.setPriority("high");
+        incident.setCreatedAt(OffsetDateTime.ofInstant(T0, ZoneOffset.UTC));
+        incident.setExpiresAt(OffsetDateTime.ofInstant(clock.instant().plus(Duration.ofMinutes(expiresInMinutes)),
+                ZoneOffset.UTC));
+        return incident;
+    }
+
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.TrafficIncident;
+import com.rntbn.backend.dto.TrafficNews;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficServiceTest {
+
+    private final StubSource source = new StubSource();
+    private final TrafficService service = new TrafficService();
+
+    TrafficServiceTest() {
+        ReflectionTestUtils.setField(service, "source", source);
+        ReflectionTestUtils.setField(service, "defaultTtlMinutes", 60L);
+        ReflectionTestUtils.setField(service, "tombstoneMinutes", 30L);
+        ReflectionTestUtils.setField(service, "maxIncidents", 100);
+        service.init();
+    }
+
+    @Test
+    void pollAppliesSourceBatchesAndSurvivesSourceFailure() {
+        source.batches.add(List.of(incident("a", "seoul"), incident("b", "busan")));
+        ReflectionTestUtils.invokeMethod(service, "poll");
+        long version = service.getStats().get("version");
+
+        assertThat(service.getNews("seoul")).extracting(TrafficNews::getId).containsExactly("a");
+        assertThat(service.getAllNews()).hasSize(2);
+        // 우선순위가 없으면 medium
+        assertThat(service.getAllNews()).extracting(TrafficNews::getPriority).containsOnly("medium");
+
+        // 소스가 실패해도 이미 받은 교통정보는 그대로 남는다
+        ReflectionTestUtils.invokeMethod(service, "poll");
+        assertThat(service.getAllNews()).hasSize(2);
+
+        TrafficIncident cleared = incident("a", "seoul");
+        cleared.setCleared(true);
+        source.batches.add(List.of(cleared));
+        ReflectionTestUtils.invokeMethod(service, "poll");
+
+        assertThat(service.getNews("seoul")).isEmpty();
+        assertThat(service.getChanges(null, version).getRemoved()).containsExactly("a");
+    }
+
+    private static TrafficIncident incident(String id, String region) {
+        TrafficIncident incident = new TrafficIncident();
+        incident.setId(id);
+        incident.setRegion(region);
+        incident.setTitle("정체 " + id);
+        incident.setCreatedAt(OffsetDateTime.now());
+        return incident;
+    }
+
+    // 받은 배치를 순서대로 돌려주고, 비어 있으면 조회 실패
+    private static final class StubSource implements TrafficIncidentSource {
+        private final Deque<List<TrafficIncident>> batches = new ArrayDeque<>();
+
+        @Override
+        public List<TrafficIncident> poll() throws IOException {
+            List<TrafficIncident> next = batches.poll();
+            if (next == null) {
+                throw new IOException("stub source down");
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.UserProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserProfileCacheTest {
+
+    private static final String EMAIL = "a@example.com";
+
+    private final UserProfileCache cache = new UserProfileCache();
+
+    UserProfileCacheTest() {
+        ReflectionTestUtils.setField(cache, "maxSize", 10);
+        cache.init();
+    }
+
+    @Test
+    void loadsOnceThenServesFromMemory() {
+        AtomicInteger loads = new AtomicInteger();
+        UserProfile profile = profile("nick");
+
+        cache.getByEmail(EMAIL, () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile);
+        });
+        Optional<UserProfile> cached = cache.getByEmail(EMAIL, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(cached).contains(profile);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().get("hits")).isEqualTo(1L);
+    }
+
+    @Test
+    void cachesMissingUser() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getByEmail(EMAIL, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(cache.getByEmail(EMAIL, () -> Optional.of(profile("late")))).isEmpty();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadRacingWithPutDoesNotOverwriteNewerProfile() {
+        UserProfile stale = profile("old");
+        UserProfile fresh = profile("new");
+
+        // DB 에서 읽는 도중 쓰기 경로가 새 프로필을 넣는다
+        cache.getByEmail(EMAIL, () -> {
+            cache.put(fresh);
+            return Optional.of(stale);
+        });
+
+        assertThat(cache.getByEmail(EMAIL, Optional::empty)).contains(fresh);
+    }
+
+    @Test
+    void loadRacingWithInvalidateIsDiscarded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getByEmail(EMAIL, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(EMAIL);
+            return Optional.of(profile("old"));
+        });
+        cache.getByEmail(EMAIL, () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile("new"));
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getByEmail(EMAIL, Optional::empty)).map(UserProfile::getNickname).contains("new");
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.put(profile("old"));
+
+        Optional<UserProfile> loaded = cache.getByEmail(EMAIL, () -> Optional.of(profile("new")));
+
+        assertThat(loaded).map(UserProfile::getNickname).contains("new");
+        assertThat(cache.stats().get("evictions")).isEqualTo(1L);
+    }
+
+    @Test
+    void sizeStaysBounded() {
+        for (int i = 0; i < 100; i++) {
+            cache.put(new UserProfile((long) i, "u" + i + "@example.com", "n" + i, null, false));
+        }
+
+        assertThat(cache.stats().get("size").intValue()).isLessThanOrEqualTo(10);
+    }
+
+    private static UserProfile profile(String nickname) {
+        return new UserProfile(1L, EMAIL, nickname, null, false);
+    }
+}
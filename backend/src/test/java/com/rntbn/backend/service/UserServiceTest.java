@@ -0,0 +1,110 @@
+package com.rntbn.backend.service;
+
+import com.rntbn.backend.dto.UserProfile;
+import com.rntbn.backend.entity.User;
+import com.rntbn.backend.repository.UserRepository;
+import com.rntbn.backend.repository.WithdrawalHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private static final String EMAIL = "a@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserProfileCache userProfileCache = mock(UserProfileCache.class);
+    private final RecentCommentCache recentCommentCache = mock(RecentCommentCache.class);
+    private final UserService userService = new UserService();
+    private final User user = new User();
+
+    UserServiceTest() {
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userService, "withdrawalHistoryRepository",
+                mock(WithdrawalHistoryRepository.class));
+        ReflectionTestUtils.setField(userService, "recentCommentCache", recentCommentCache);
+        ReflectionTestUtils.setField(userService, "commentHideJobRunner", mock(CommentHideJobRunner.class));
+        ReflectionTestUtils.setField(userService, "userProfileCache", userProfileCache);
+        ReflectionTestUtils.setField(userService, "metrics", mock(HotPathMetrics.class));
+        user.setId(7L);
+        user.setEmail(EMAIL);
+        user.setName("name");
+        user.setNickname("old");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void softDeleteUpdatesCacheOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        userService.softDeleteUser(EMAIL);
+        verify(userProfileCache, never()).put(any());
+
+        commit();
+        verify(userProfileCache).put(any());
+    }
+
+    @Test
+    void restoreLeavesCachesAloneOnRollback() {
+        user.setDeleted(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        userService.restoreUser(EMAIL);
+        // 롤백: afterCommit 없이 동기화만 정리된다
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(userProfileCache, never()).put(any());
+        verify(recentCommentCache, never()).renameUser(anyLong(), anyString());
+    }
+
+    @Test
+    void restoreRenamesAfterCommit() {
+        user.setDeleted(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        userService.restoreUser(EMAIL);
+        verify(recentCommentCache, never()).renameUser(anyLong(), anyString());
+
+        commit();
+        verify(userProfileCache).put(any());
+        verify(recentCommentCache).renameUser(7L, "name");
+    }
+
+    @Test
+    void outsideTransactionUpdatesImmediately() {
+        when(userRepository.updateNicknameByEmail(any(), any(), any())).thenReturn(1);
+        when(userProfileCache.getByEmail(any(), any()))
+                .thenReturn(Optional.of(UserProfile.from(user)));
+
+        userService.updateNickname(EMAIL, "new");
+
+        verify(userProfileCache).put(any());
+        verify(recentCommentCache).renameUser(7L, "new");
+    }
+
+    private static void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+    }
+}
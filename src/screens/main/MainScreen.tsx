@@ -197,8 +197,17 @@ const MainScreen: React.FC = () => {
           style: 'destructive',
           onPress: async () => {
             try {
+              const token = await AsyncStorage.getItem('authToken');
+              if (!token) {
+                Alert.alert('오류', '로그인 정보를 찾을 수 없습니다.');
+                return;
+              }
               // API 호출
-              await ApiService.deleteUser(email);
+              const deleted = await ApiService.deleteUser(token);
+              if (!deleted) {
+                Alert.alert('오류', '탈퇴 처리 중 오류가 발생했습니다.');
+                return;
+              }
               // 로그아웃 처리
               await GoogleSignin.signOut();
               await AsyncStorage.clear();
@@ -99,13 +99,13 @@ export class ApiService {
   }
 
   // 방송 상태 확인
+  // 스트림 주소에 직접 HEAD 를 보내지 않고 서버 프로버 결과를 쓴다
   static async checkStreamStatus(regionId: string): Promise<boolean> {
     try {
-      const streamUrl = this.getStreamUrl(regionId);
-      if (!streamUrl) return false;
-
-      const response = await fetch(streamUrl, { method: 'HEAD' });
-      return response.ok;
+      const response = await this.request<{ up: boolean }>(
+        `/api/stream/status/${regionId}`,
+      );
+      return response.up;
     } catch (error) {
       console.error('Failed to check stream status:', error);
       return false;
@@ -215,13 +215,12 @@ export class ApiService {
     }
   }
 
-  // 회원탈퇴(soft delete)
-  static async deleteUser(email: string): Promise<boolean> {
+  // 회원탈퇴(soft delete) - 서버는 토큰의 사용자를 탈퇴 처리한다
+  static async deleteUser(token: string): Promise<boolean> {
     try {
       await this.request('/api/auth/delete', {
         method: 'POST',
-        headers: { 'Content-Type': 'application/json' },
-        body: JSON.stringify({ email }),
+        headers: { Authorization: `Bearer ${token}` },
       });
       return true;
     } catch (error) {